@@ -1,6 +1,6 @@
 package com.example.graph;
 
-import com.example.graph.impl.DirectedEdgeContainer;
+import com.example.graph.impl.CompactDirectedEdgeContainer;
 
 /**
  * Abstract directed graph.
@@ -16,6 +16,15 @@ public abstract class AbstractDirectedGraph<V, E extends Edge<V>> extends Abstra
         super();
     }
 
+    /**
+     * Constructor.
+     *
+     * @param indexed true - keep vertex dictionary with dense int ids.
+     */
+    public AbstractDirectedGraph(boolean indexed) {
+        super(indexed);
+    }
+
     @Override
     public boolean isDirected() {
         return true;
@@ -28,7 +37,7 @@ public abstract class AbstractDirectedGraph<V, E extends Edge<V>> extends Abstra
 
     @Override
     protected EdgeContainer<E> createEdgeContainer() {
-        return new DirectedEdgeContainer<E>();
+        return new CompactDirectedEdgeContainer<E>();
     }
 
     @Override
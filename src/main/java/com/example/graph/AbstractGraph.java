@@ -1,11 +1,19 @@
 package com.example.graph;
 
+import com.example.graph.impl.UndirectedEdgeSet;
+import com.example.graph.impl.VertexDictionary;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * Abstract graph implementation.
@@ -13,7 +21,7 @@ import java.util.Set;
  * @param <V> vertex type.
  * @param <E> edge type.
  */
-public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E> {
+public abstract class AbstractGraph<V, E extends Edge<V>> implements IndexedGraph<V, E> {
     public static final String MSG_LOOPS_NOT_SUPPORTED = "Self loops are not supported";
     public static final String MSG_UNKNOWN_SOURCE_VERTEX = "Unknown source vertex";
     public static final String MSG_UNKNOWN_TARGET_VERTEX = "Unknown target vertex";
@@ -23,22 +31,65 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
     public static final String MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL = "Source vertex should be not null";
     public static final String MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL = "Target vertex should be not null";
     public static final String MSG_EDGE_SHOULD_BE_UNIQUE = "Edge should be unique";
+    public static final String MSG_GRAPH_IS_NOT_INDEXED = "Graph is not indexed";
+    public static final String MSG_VERTICES_SHOULD_BE_NON_NULL = "Vertices should be not null";
+    public static final String MSG_EDGES_SHOULD_BE_NON_NULL = "Edges should be not null";
+    public static final String MSG_REMOVAL_NOT_SUPPORTED = "Removal is not supported";
+    public static final String MSG_ACTION_SHOULD_BE_NON_NULL = "Action should be not null";
+
+    private static final float LOAD_FACTOR = 0.75f;
 
-    // Map of vertex connections.
-    private final Map<V, EdgeContainer<E>> map;
+    // Map of vertex connections. It is rebuilt with larger capacity by big batches.
+    private Map<V, EdgeContainer<E>> map;
 
     /**
      * Set of graph edges.
-     * Now it is used only for checking global edge uniqueness.
+     * Now it is used only for checking global edge uniqueness. It is rebuilt with larger capacity by big batches.
      */
-    private final Set<E> setOfEdges;
+    private Set<E> setOfEdges;
+
+    // False - storage is provided by subclass and is never rebuilt.
+    private final boolean presizable;
+
+    // Vertex dictionary. It is null when graph is not indexed.
+    private final VertexDictionary<V, E> dictionary;
 
     /**
      * Default constructor.
+     * Creates graph without vertex dictionary.
      */
     public AbstractGraph() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     * Indexed graph keeps adjacency twice: edge containers in the map of vertex connections serve set based
+     * accessors and the vertex dictionary serves id based ones. So it costs about twice the memory per edge
+     * and each change is applied to both, use Graphs.freeze for read-heavy workloads instead.
+     *
+     * @param indexed true - keep vertex dictionary with dense int ids and adjacency by id;
+     *                false - id based accessors are not available.
+     */
+    public AbstractGraph(boolean indexed) {
         this.map = new HashMap<>();
-        this.setOfEdges = new HashSet<>();
+        this.setOfEdges = createEdgeSet(0);
+        this.dictionary = indexed ? new VertexDictionary<>(isDirected()) : null;
+        this.presizable = true;
+    }
+
+    /**
+     * Constructor for graphs with custom storage, e.g. concurrent.
+     * Graph is not indexed.
+     *
+     * @param map empty map of vertex connections.
+     * @param setOfEdges empty set of graph edges.
+     */
+    protected AbstractGraph(Map<V, EdgeContainer<E>> map, Set<E> setOfEdges) {
+        this.map = Objects.requireNonNull(map);
+        this.setOfEdges = Objects.requireNonNull(setOfEdges);
+        this.dictionary = null;
+        this.presizable = false;
     }
 
     /**
@@ -59,6 +110,18 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
      */
     protected abstract EdgeContainer<E> createEdgeContainer();
 
+    /**
+     * Creates set which is used for checking global edge uniqueness.
+     * It is called from constructor and when a big batch rebuilds the set,
+     * so implementations should not depend on subclass state.
+     *
+     * @param expectedSize count of edges which should fit without resize.
+     * @return empty set of edges.
+     */
+    protected Set<E> createEdgeSet(int expectedSize) {
+        return new HashSet<>(capacityOf(expectedSize));
+    }
+
     /**
      * Add edge into graph.
      * Both vertices should exist. If they don't exist this method will create them.
@@ -70,7 +133,32 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
     @Override
     public void addVertex(final V vertex) {
         Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
-        map.putIfAbsent(vertex, createEdgeContainer());
+        if (map.putIfAbsent(vertex, createEdgeContainer()) == null && dictionary != null) {
+            dictionary.add(vertex);
+        }
+    }
+
+    /**
+     * Add vertices. All vertices are checked for null before the graph is changed,
+     * storage is presized for the whole batch and then each vertex is hashed once.
+     *
+     * @param vertices vertices to be added to this graph.
+     */
+    @Override
+    public void addVertices(Collection<V> vertices) {
+        Objects.requireNonNull(vertices, MSG_VERTICES_SHOULD_BE_NON_NULL);
+        for (V vertex : vertices) {
+            Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        }
+
+        ensureVertexCapacity(vertices.size());
+        for (V vertex : vertices) {
+            final int size = map.size();
+            map.computeIfAbsent(vertex, v -> createEdgeContainer());
+            if (dictionary != null && map.size() != size) {
+                dictionary.add(vertex);
+            }
+        }
     }
 
     @Override
@@ -112,12 +200,133 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
         createLinkBetweenVertices(edge);
     }
 
+    /**
+     * Add edges. Vertices and self loops of the whole batch are validated and edges are grouped by source vertex
+     * before the graph is changed. Then the set of edges is presized and checks uniqueness of each edge once,
+     * against the graph and inside of the batch, an edge which is not unique rolls the batch back.
+     * Finally edges are inserted by createLinksFromVertex, once per source vertex.
+     *
+     * @param edges edges to add into graph.
+     */
+    @Override
+    public void addEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        final Map<V, List<E>> edgesBySource = new LinkedHashMap<>();
+        int count = 0;
+        for (E edge : edges) {
+            Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+            List<E> sourceEdges = edgesBySource.get(edge.getSource());
+            if (sourceEdges == null) {
+                if (!map.containsKey(edge.getSource())) {
+                    throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+                }
+                sourceEdges = new ArrayList<>();
+                edgesBySource.put(edge.getSource(), sourceEdges);
+            }
+
+            if (!map.containsKey(edge.getTarget())) {
+                throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+            }
+
+            if (!isSelfLoopSupported() && edge.getSource().equals(edge.getTarget())) {
+                throw new IllegalArgumentException(MSG_LOOPS_NOT_SUPPORTED);
+            }
+
+            sourceEdges.add(edge);
+            count++;
+        }
+
+        ensureEdgeCapacity(count);
+        int added = 0;
+        for (List<E> sourceEdges : edgesBySource.values()) {
+            for (E edge : sourceEdges) {
+                if (!setOfEdges.add(edge)) {
+                    unregisterBatch(edgesBySource, added);
+                    throw new IllegalArgumentException(MSG_EDGE_SHOULD_BE_UNIQUE);
+                }
+                added++;
+            }
+        }
+
+        edgesBySource.forEach(this::createLinksFromVertex);
+    }
+
+    /**
+     * Add edges of source vertex into edge containers and vertex dictionary.
+     * It is called by addEdges once per source vertex, after the whole batch is validated
+     * and added into the set of edges, so implementations should not check uniqueness again.
+     *
+     * @param sourceVertex source vertex.
+     * @param edges unique edges of the source vertex.
+     */
+    protected void createLinksFromVertex(V sourceVertex, List<E> edges) {
+        final EdgeContainer<E> sourceContainer = map.get(sourceVertex);
+        for (E edge : edges) {
+            sourceContainer.addOutgoingEdge(edge);
+            map.get(edge.getTarget()).addIncomingEdge(edge);
+        }
+
+        if (dictionary != null) {
+            final int sourceId = dictionary.idOf(sourceVertex);
+            dictionary.reserveOutgoing(sourceId, edges.size());
+            for (E edge : edges) {
+                dictionary.addEdge(sourceId, dictionary.idOf(edge.getTarget()), edge);
+            }
+        }
+    }
+
+    /**
+     * Remove vertex. Costs O(degree): each edge is removed from the container of its other end.
+     * For indexed graphs the vertex with the last id takes the id of removed vertex.
+     *
+     * @param vertex vertex to remove.
+     * @return true - vertex was removed.
+     */
+    @Override
+    public boolean removeVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final EdgeContainer<E> edgeContainer = map.get(vertex);
+        if (edgeContainer == null) {
+            return false;
+        }
+
+        // For undirected graphs incoming edges are already removed with outgoing.
+        for (E edge : new ArrayList<>(edgeContainer.getOutgoingEdges())) {
+            removeLinkBetweenVertices(edge);
+        }
+        for (E edge : new ArrayList<>(edgeContainer.getIncomingEdges())) {
+            removeLinkBetweenVertices(edge);
+        }
+
+        map.remove(vertex);
+        if (dictionary != null) {
+            dictionary.remove(vertex);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        final E storedEdge = findEdge(edge);
+        if (storedEdge == null) {
+            return false;
+        }
+        removeLinkBetweenVertices(storedEdge);
+        return true;
+    }
+
     @Override
     public boolean containsVertex(V vertex) {
         Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
         return map.containsKey(vertex);
     }
 
+    @Override
+    public Set<V> getVertices() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
     @Override
     public Set<E> getOutgoingEdges(V vertex) {
         if (!containsVertex(vertex)) {
@@ -135,6 +344,31 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
         return Collections.unmodifiableSet(map.get(vertex).getIncomingEdges());
     }
 
+    @Override
+    public void forEachNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        if (isIndexed()) {
+            IndexedGraph.super.forEachNeighbor(vertex, action);
+            return;
+        }
+        Objects.requireNonNull(action, MSG_ACTION_SHOULD_BE_NON_NULL);
+        // Edges are read from the container directly, without unmodifiable view.
+        for (E edge : requireContainer(vertex).getOutgoingEdges()) {
+            action.accept(vertex.equals(edge.getSource()) ? edge.getTarget() : edge.getSource(), edge);
+        }
+    }
+
+    @Override
+    public void forEachIncomingNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        if (isIndexed()) {
+            IndexedGraph.super.forEachIncomingNeighbor(vertex, action);
+            return;
+        }
+        Objects.requireNonNull(action, MSG_ACTION_SHOULD_BE_NON_NULL);
+        for (E edge : requireContainer(vertex).getIncomingEdges()) {
+            action.accept(vertex.equals(edge.getTarget()) ? edge.getSource() : edge.getTarget(), edge);
+        }
+    }
+
     @Override
     public boolean containsEdge(E edge) {
         return setOfEdges.contains(edge);
@@ -144,7 +378,154 @@ public abstract class AbstractGraph<V, E extends Edge<V>> implements Graph<V, E>
         return map;
     }
 
+    /**
+     * Find edge as it is stored in graph.
+     *
+     * @param edge edge to find.
+     * @return stored edge or null if graph does not contain edge.
+     */
+    protected E findEdge(E edge) {
+        if (setOfEdges instanceof UndirectedEdgeSet) {
+            return ((UndirectedEdgeSet<E>) setOfEdges).find(edge);
+        }
+        return setOfEdges.contains(edge) ? edge : null;
+    }
+
+    /**
+     * Remove edge from containers of both vertices and unregister it.
+     *
+     * @param edge edge as it is stored in graph.
+     */
+    protected void removeLinkBetweenVertices(E edge) {
+        map.get(edge.getSource()).removeOutgoingEdge(edge);
+        map.get(edge.getTarget()).removeIncomingEdge(edge);
+        unregisterEdge(edge);
+    }
+
+    protected void unregisterEdge(E edge) {
+        setOfEdges.remove(edge);
+        if (dictionary != null) {
+            dictionary.removeEdge(dictionary.idOf(edge.getSource()), dictionary.idOf(edge.getTarget()), edge);
+        }
+    }
+
     protected void registerEdge(E edge) {
         setOfEdges.add(edge);
+        if (dictionary != null) {
+            dictionary.addEdge(dictionary.idOf(edge.getSource()), dictionary.idOf(edge.getTarget()), edge);
+        }
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return dictionary != null;
+    }
+
+    @Override
+    public int vertexCount() {
+        return getDictionary().size();
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return getDictionary().idOf(vertex);
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        return getDictionary().vertexOf(id);
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return getDictionary().outDegree(id);
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return getDictionary().outgoingId(id, index);
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return getDictionary().outgoingEdge(id, index);
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return getDictionary().inDegree(id);
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return getDictionary().incomingId(id, index);
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        return getDictionary().incomingEdge(id, index);
+    }
+
+    /**
+     * Remove first edges of the batch from the set of edges.
+     */
+    private void unregisterBatch(Map<V, List<E>> edgesBySource, int count) {
+        int removed = 0;
+        for (List<E> sourceEdges : edgesBySource.values()) {
+            for (E edge : sourceEdges) {
+                if (removed++ == count) {
+                    return;
+                }
+                setOfEdges.remove(edge);
+            }
+        }
+    }
+
+    /**
+     * Presize storage of vertices for the batch. The map is rebuilt only when the batch is larger than the graph,
+     * so rebuild costs less than the batch and saves its repeated rehashing. Smaller batches cause
+     * at most one resize of the map.
+     */
+    private void ensureVertexCapacity(int batchSize) {
+        if (presizable && batchSize > map.size()) {
+            final Map<V, EdgeContainer<E>> resized = new HashMap<>(capacityOf(map.size() + batchSize));
+            resized.putAll(map);
+            map = resized;
+        }
+        if (dictionary != null) {
+            dictionary.ensureCapacity(dictionary.size() + batchSize);
+        }
+    }
+
+    /**
+     * Presize set of edges for the batch, by the same rule as the map of vertex connections.
+     */
+    private void ensureEdgeCapacity(int batchSize) {
+        if (presizable && batchSize > setOfEdges.size()) {
+            final Set<E> resized = createEdgeSet(setOfEdges.size() + batchSize);
+            resized.addAll(setOfEdges);
+            setOfEdges = resized;
+        }
+    }
+
+    private static int capacityOf(int expectedSize) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / LOAD_FACTOR) + 1);
+    }
+
+    private EdgeContainer<E> requireContainer(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final EdgeContainer<E> container = map.get(vertex);
+        if (container == null) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return container;
+    }
+
+    private VertexDictionary<V, E> getDictionary() {
+        if (dictionary == null) {
+            throw new UnsupportedOperationException(MSG_GRAPH_IS_NOT_INDEXED);
+        }
+        return dictionary;
     }
 }
@@ -1,6 +1,9 @@
 package com.example.graph;
 
-import com.example.graph.impl.UndirectedEdgeContainer;
+import com.example.graph.impl.CompactUndirectedEdgeContainer;
+import com.example.graph.impl.UndirectedEdgeSet;
+
+import java.util.Set;
 
 /**
  * Abstract undirected graph.
@@ -16,6 +19,15 @@ public abstract class AbstractUndirectedGraph<V, E extends Edge<V>> extends Abst
         super();
     }
 
+    /**
+     * Constructor.
+     *
+     * @param indexed true - keep vertex dictionary with dense int ids.
+     */
+    public AbstractUndirectedGraph(boolean indexed) {
+        super(indexed);
+    }
+
     @Override
     public boolean isDirected() {
         return false;
@@ -26,14 +38,20 @@ public abstract class AbstractUndirectedGraph<V, E extends Edge<V>> extends Abst
         return false;
     }
 
+    /**
+     * Creates set of edges which ignores direction, so containsEdge finds opposite edges without creating them.
+     *
+     * @param expectedSize count of edges which should fit without resize.
+     * @return empty UndirectedEdgeSet.
+     */
     @Override
-    public boolean containsEdge(E edge) {
-        return super.containsEdge(edge) || super.containsEdge((E) edge.getOpposite());
+    protected Set<E> createEdgeSet(int expectedSize) {
+        return new UndirectedEdgeSet<>(expectedSize);
     }
 
     @Override
     protected EdgeContainer<E> createEdgeContainer() {
-        return new UndirectedEdgeContainer<E>();
+        return new CompactUndirectedEdgeContainer<E>();
     }
 
     @Override
@@ -26,4 +26,32 @@ public interface Edge<V> {
      * @return opposite vertex.
      */
     Edge<V> getOpposite();
+
+    /**
+     * Check if this edge is the same as other edge in undirected graph,
+     * i.e. it is equal to the other edge or to the opposite of the other edge.
+     * Default implementation creates opposite edge only when ends are swapped.
+     * Implementations could override it to avoid allocations.
+     *
+     * @param other edge to compare. Can't be null.
+     * @return true - edges are the same if direction is ignored.
+     */
+    default boolean equalsIgnoreDirection(Edge<?> other) {
+        if (equals(other)) {
+            return true;
+        }
+        return getSource().equals(other.getTarget())
+                && getTarget().equals(other.getSource())
+                && equals(other.getOpposite());
+    }
+
+    /**
+     * Hash code which does not depend on direction.
+     * Edges which are the same by equalsIgnoreDirection should have the same value.
+     *
+     * @return hash code of unordered pair of ends.
+     */
+    default int hashCodeIgnoreDirection() {
+        return getSource().hashCode() + getTarget().hashCode();
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.graph;
+
+import java.util.Set;
+
+/**
+ * Container of vertex edges.
+ * Each graph vertex has its own container.
+ *
+ * @param <E> edge type.
+ */
+public interface EdgeContainer<E> {
+    /**
+     * Get vertex incoming edges.
+     *
+     * @return set of incoming edges. Can't be null.
+     */
+    Set<E> getIncomingEdges();
+
+    /**
+     * Get vertex outgoing edges.
+     *
+     * @return set of outgoing edges. Can't be null.
+     */
+    Set<E> getOutgoingEdges();
+
+    /**
+     * Add incoming edge.
+     *
+     * @param edge edge to add. Can't be null.
+     */
+    void addIncomingEdge(E edge);
+
+    /**
+     * Add outgoing edge.
+     *
+     * @param edge edge to add. Can't be null.
+     */
+    void addOutgoingEdge(E edge);
+
+    /**
+     * Remove incoming edge.
+     *
+     * @param edge edge to remove. Can't be null.
+     */
+    default void removeIncomingEdge(E edge) {
+        getIncomingEdges().remove(edge);
+    }
+
+    /**
+     * Remove outgoing edge.
+     *
+     * @param edge edge to remove. Can't be null.
+     */
+    default void removeOutgoingEdge(E edge) {
+        getOutgoingEdges().remove(edge);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.graph;
+
+/**
+ * Indexed graph which also assigns dense int ids to its edges.
+ * Edge ids are in range [0, edgeCount()), so edge attributes could be kept in primitive arrays indexed by edge id.
+ * For undirected graphs an edge has the same id when it is reached from any of its ends.
+ * Graphs which support edge removal could leave ids of removed edges unused.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public interface EdgeIndexedGraph<V, E extends Edge<V>> extends IndexedGraph<V, E> {
+    /**
+     * Get count of edge ids.
+     *
+     * @return count of edge ids. All edge ids are less than this value.
+     */
+    int edgeCount();
+
+    /**
+     * Check if edge id is used by an edge.
+     *
+     * @param edgeId edge id.
+     * @return true - edgeOf returns edge for this id;
+     *         false - id is out of range or edge was removed.
+     */
+    default boolean containsEdgeId(int edgeId) {
+        return edgeId >= 0 && edgeId < edgeCount();
+    }
+
+    /**
+     * Get id of outgoing edge.
+     *
+     * @param id vertex id.
+     * @param index edge index in range [0, outDegree(id)).
+     * @return edge id.
+     */
+    int outgoingEdgeId(int id, int index);
+
+    /**
+     * Get id of incoming edge.
+     *
+     * @param id vertex id.
+     * @param index edge index in range [0, inDegree(id)).
+     * @return edge id.
+     */
+    int incomingEdgeId(int id, int index);
+
+    /**
+     * Get edge by its id.
+     *
+     * @param edgeId edge id.
+     * @return edge.
+     * @throws IllegalArgumentException if edge id is unknown.
+     */
+    E edgeOf(int edgeId);
+}
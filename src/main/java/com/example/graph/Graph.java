@@ -1,6 +1,10 @@
 package com.example.graph;
 
+import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * Base graph interface.
@@ -9,6 +13,7 @@ import java.util.Set;
  * @param <E> edge type. Should be immutable.
  */
 public interface Graph<V, E extends Edge<V>> {
+
     /**
      * Check if graph is directed.
      *
@@ -34,6 +39,20 @@ public interface Graph<V, E extends Edge<V>> {
      */
     void addVertex(V vertex);
 
+    /**
+     * Add vertices to graph. Vertices which already exist are skipped.
+     * Implementations could prepare internal storage once for the whole batch.
+     *
+     * @param vertices vertices to be added to this graph.
+     * @throws NullPointerException if collection or any of its vertices is null.
+     */
+    default void addVertices(Collection<V> vertices) {
+        Objects.requireNonNull(vertices, AbstractGraph.MSG_VERTICES_SHOULD_BE_NON_NULL);
+        for (V vertex : vertices) {
+            addVertex(vertex);
+        }
+    }
+
     /**
      * Check if vertex exists in graph.
      *
@@ -43,6 +62,13 @@ public interface Graph<V, E extends Edge<V>> {
      */
     boolean containsVertex(V vertex);
 
+    /**
+     * Returns unmodifiable set of graph vertices.
+     *
+     * @return set of vertices. Can't be null.
+     */
+    Set<V> getVertices();
+
     /**
      * Creates a new edge in this graph, going from the source vertex to the target vertex.
      * Allows to create multiple DIFFERENT edges between nodes.
@@ -66,6 +92,79 @@ public interface Graph<V, E extends Edge<V>> {
      */
     void addEdge(E edge);
 
+    /**
+     * Add provided edges. Each edge should satisfy the same rules as in addEdge(E).
+     * Implementations could validate the whole batch before changing the graph
+     * and insert edges grouped by source vertex, e.g. AbstractGraph does both.
+     *
+     * @param edges edges to add into graph.
+     * @throws NullPointerException - if edges or any of the edges is null;
+     * @throws IllegalArgumentException - if any edge contains not existing vertices or is not unique.
+     */
+    default void addEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL);
+        for (E edge : edges) {
+            addEdge(edge);
+        }
+    }
+
+    /**
+     * Add provided edges. The same as addEdges(Iterable), stream is consumed sequentially.
+     *
+     * @param edges edges to add into graph.
+     * @throws NullPointerException - if edges or any of the edges is null;
+     * @throws IllegalArgumentException - if any edge contains not existing vertices or is not unique.
+     */
+    default void addEdges(Stream<E> edges) {
+        Objects.requireNonNull(edges, AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL);
+        final Iterable<E> iterable = edges::iterator;
+        addEdges(iterable);
+    }
+
+    /**
+     * Remove vertex and all its edges.
+     *
+     * @param vertex vertex to remove.
+     * @return true - vertex was removed;
+     *         false - vertex does not exist in graph.
+     * @throws NullPointerException if vertex is null.
+     * @throws UnsupportedOperationException if graph does not support removal.
+     */
+    default boolean removeVertex(V vertex) {
+        throw new UnsupportedOperationException(AbstractGraph.MSG_REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * Remove edge.
+     * For undirected graphs edges with same properties except source and target are considered as same.
+     *
+     * @param edge edge to remove.
+     * @return true - edge was removed;
+     *         false - edge does not exist in graph.
+     * @throws NullPointerException if edge is null.
+     * @throws UnsupportedOperationException if graph does not support removal.
+     */
+    default boolean removeEdge(E edge) {
+        throw new UnsupportedOperationException(AbstractGraph.MSG_REMOVAL_NOT_SUPPORTED);
+    }
+
+    /**
+     * Remove provided edges, e.g. to apply a delta. Edges which do not exist are skipped.
+     *
+     * @param edges edges to remove.
+     * @return true - at least one edge was removed.
+     * @throws NullPointerException if edges or any of the edges is null.
+     * @throws UnsupportedOperationException if graph does not support removal.
+     */
+    default boolean removeEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL);
+        boolean removed = false;
+        for (E edge : edges) {
+            removed |= removeEdge(edge);
+        }
+        return removed;
+    }
+
     /**
      * Check if edge exists in graph.
      * For undirected graphs edges with same properties except source and target are considered as same.
@@ -95,4 +194,37 @@ public interface Graph<V, E extends Edge<V>> {
      * @throws NullPointerException if vertex is null;
      */
     Set<E> getIncomingEdges(V vertex);
+
+    /**
+     * Visit outgoing edges of vertex and neighbors they lead to.
+     * Unlike getOutgoingEdges no set view is created. Undirected edges are passed as they are stored,
+     * so neighbor is the end of the edge which is not the vertex. Graph should not be changed by the action.
+     *
+     * @param vertex graph vertex. Can't be null;
+     * @param action callback which gets neighbor and edge. Can't be null;
+     * @throws IllegalArgumentException if vertex not found in the graph;
+     * @throws NullPointerException if vertex or action is null;
+     */
+    default void forEachNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        Objects.requireNonNull(action, AbstractGraph.MSG_ACTION_SHOULD_BE_NON_NULL);
+        for (E edge : getOutgoingEdges(vertex)) {
+            action.accept(vertex.equals(edge.getSource()) ? edge.getTarget() : edge.getSource(), edge);
+        }
+    }
+
+    /**
+     * Visit incoming edges of vertex and neighbors they come from.
+     * The same as forEachNeighbor for incoming edges.
+     *
+     * @param vertex graph vertex. Can't be null;
+     * @param action callback which gets neighbor and edge. Can't be null;
+     * @throws IllegalArgumentException if vertex not found in the graph;
+     * @throws NullPointerException if vertex or action is null;
+     */
+    default void forEachIncomingNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        Objects.requireNonNull(action, AbstractGraph.MSG_ACTION_SHOULD_BE_NON_NULL);
+        for (E edge : getIncomingEdges(vertex)) {
+            action.accept(vertex.equals(edge.getTarget()) ? edge.getSource() : edge.getTarget(), edge);
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package com.example.graph;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Graph which assigns dense int ids to its vertices.
+ * Ids are in range [0, vertexCount()) and are assigned in order of vertex addition.
+ * When a vertex is removed, the vertex with the last id takes its id, so ids stay dense.
+ * Id based accessors do not hash vertex objects, so traversal code could work on plain int arrays.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public interface IndexedGraph<V, E extends Edge<V>> extends Graph<V, E> {
+    /**
+     * Id which is returned for vertices that do not exist in graph.
+     */
+    int UNKNOWN_ID = -1;
+
+    /**
+     * Check if id based accessors are available.
+     *
+     * @return true - graph keeps vertex dictionary;
+     *         false - id based accessors throw UnsupportedOperationException.
+     */
+    boolean isIndexed();
+
+    /**
+     * Get count of vertices.
+     *
+     * @return count of vertices. All vertex ids are less than this value.
+     */
+    int vertexCount();
+
+    /**
+     * Get vertex id.
+     *
+     * @param vertex graph vertex. Can't be null.
+     * @return vertex id or UNKNOWN_ID if vertex not found in the graph.
+     * @throws NullPointerException if vertex is null.
+     */
+    int idOf(V vertex);
+
+    /**
+     * Get vertex by its id.
+     *
+     * @param id vertex id.
+     * @return vertex.
+     * @throws IllegalArgumentException if id is unknown.
+     */
+    V vertexOf(int id);
+
+    /**
+     * Get count of vertex outgoing edges.
+     *
+     * @param id vertex id.
+     * @return count of outgoing edges.
+     */
+    int outDegree(int id);
+
+    /**
+     * Get id of outgoing neighbor.
+     * For undirected graphs it is the opposite end of the edge.
+     *
+     * @param id vertex id.
+     * @param index index of outgoing edge in range [0, outDegree(id)).
+     * @return neighbor id.
+     */
+    int outgoingId(int id, int index);
+
+    /**
+     * Get outgoing edge.
+     *
+     * @param id vertex id.
+     * @param index index of outgoing edge in range [0, outDegree(id)).
+     * @return edge which leads to outgoingId(id, index).
+     */
+    E outgoingEdge(int id, int index);
+
+    /**
+     * Get count of vertex incoming edges.
+     *
+     * @param id vertex id.
+     * @return count of incoming edges.
+     */
+    int inDegree(int id);
+
+    /**
+     * Get id of incoming neighbor.
+     * For undirected graphs it is the opposite end of the edge.
+     *
+     * @param id vertex id.
+     * @param index index of incoming edge in range [0, inDegree(id)).
+     * @return neighbor id.
+     */
+    int incomingId(int id, int index);
+
+    /**
+     * Get incoming edge.
+     *
+     * @param id vertex id.
+     * @param index index of incoming edge in range [0, inDegree(id)).
+     * @return edge which comes from incomingId(id, index).
+     */
+    E incomingEdge(int id, int index);
+
+    /**
+     * Get ids of outgoing neighbors.
+     *
+     * @param id vertex id.
+     * @return new array of neighbor ids.
+     */
+    default int[] outgoingIds(int id) {
+        final int[] result = new int[outDegree(id)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = outgoingId(id, i);
+        }
+        return result;
+    }
+
+    /**
+     * Get ids of incoming neighbors.
+     *
+     * @param id vertex id.
+     * @return new array of neighbor ids.
+     */
+    default int[] incomingIds(int id) {
+        final int[] result = new int[inDegree(id)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = incomingId(id, i);
+        }
+        return result;
+    }
+
+    /**
+     * Visit outgoing edges by vertex ids, so no set view or iterator is created.
+     * Graphs without vertex dictionary use getOutgoingEdges.
+     *
+     * @param vertex graph vertex. Can't be null;
+     * @param action callback which gets neighbor and edge. Can't be null;
+     * @throws IllegalArgumentException if vertex not found in the graph;
+     * @throws NullPointerException if vertex or action is null;
+     */
+    @Override
+    default void forEachNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        if (!isIndexed()) {
+            Graph.super.forEachNeighbor(vertex, action);
+            return;
+        }
+        Objects.requireNonNull(action, AbstractGraph.MSG_ACTION_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(vertex, AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final int id = idOf(vertex);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(AbstractGraph.MSG_UNKNOWN_VERTEX);
+        }
+        final int degree = outDegree(id);
+        for (int i = 0; i < degree; i++) {
+            action.accept(vertexOf(outgoingId(id, i)), outgoingEdge(id, i));
+        }
+    }
+
+    /**
+     * Visit incoming edges by vertex ids, so no set view or iterator is created.
+     * Graphs without vertex dictionary use getIncomingEdges.
+     *
+     * @param vertex graph vertex. Can't be null;
+     * @param action callback which gets neighbor and edge. Can't be null;
+     * @throws IllegalArgumentException if vertex not found in the graph;
+     * @throws NullPointerException if vertex or action is null;
+     */
+    @Override
+    default void forEachIncomingNeighbor(V vertex, BiConsumer<? super V, ? super E> action) {
+        if (!isIndexed()) {
+            Graph.super.forEachIncomingNeighbor(vertex, action);
+            return;
+        }
+        Objects.requireNonNull(action, AbstractGraph.MSG_ACTION_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(vertex, AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final int id = idOf(vertex);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(AbstractGraph.MSG_UNKNOWN_VERTEX);
+        }
+        final int degree = inDegree(id);
+        for (int i = 0; i < degree; i++) {
+            action.accept(vertexOf(incomingId(id, i)), incomingEdge(id, i));
+        }
+    }
+
+    /**
+     * Create cursor over adjacency of this graph.
+     * The cursor could be reused for any count of vertices.
+     *
+     * @return new cursor.
+     * @throws UnsupportedOperationException if graph does not keep vertex ids.
+     */
+    default NeighborCursor<V, E> cursor() {
+        if (!isIndexed()) {
+            throw new UnsupportedOperationException(AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED);
+        }
+        return new NeighborCursor<>(this);
+    }
+}
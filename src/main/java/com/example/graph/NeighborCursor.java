@@ -0,0 +1,107 @@
+package com.example.graph;
+
+/**
+ * Reusable cursor over adjacency of indexed graph.
+ * It walks outgoing or incoming edges of one vertex after another by ids without allocation:
+ * <pre>
+ * final NeighborCursor&lt;V, E&gt; cursor = graph.cursor();
+ * cursor.outgoing(id);
+ * while (cursor.next()) {
+ *     visit(cursor.id(), cursor.edge());
+ * }
+ * </pre>
+ * Cursor is not thread safe and should not be used while the graph is changed.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class NeighborCursor<V, E extends Edge<V>> {
+    private final IndexedGraph<V, E> graph;
+    private int vertex;
+    private boolean incoming;
+    private int degree;
+    private int index;
+
+    /**
+     * Constructor. Cursor is positioned after the end until outgoing or incoming is called.
+     *
+     * @param graph indexed graph.
+     */
+    NeighborCursor(IndexedGraph<V, E> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Position cursor before the first outgoing edge of vertex.
+     *
+     * @param id vertex id.
+     */
+    public void outgoing(int id) {
+        reset(id, false, graph.outDegree(id));
+    }
+
+    /**
+     * Position cursor before the first incoming edge of vertex.
+     *
+     * @param id vertex id.
+     */
+    public void incoming(int id) {
+        reset(id, true, graph.inDegree(id));
+    }
+
+    /**
+     * Move to the next edge.
+     *
+     * @return true - cursor is at an edge;
+     *         false - there are no more edges.
+     */
+    public boolean next() {
+        if (index < degree) {
+            index++;
+        }
+        return index < degree;
+    }
+
+    /**
+     * Get index of the current edge in adjacency of the vertex.
+     *
+     * @return edge index.
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Get id of the neighbor at the other end of the current edge.
+     *
+     * @return neighbor id.
+     */
+    public int id() {
+        return incoming ? graph.incomingId(vertex, index) : graph.outgoingId(vertex, index);
+    }
+
+    /**
+     * Get neighbor at the other end of the current edge.
+     *
+     * @return neighbor vertex.
+     */
+    public V vertex() {
+        return graph.vertexOf(id());
+    }
+
+    /**
+     * Get the current edge as it is stored.
+     *
+     * @return edge.
+     */
+    public E edge() {
+        return incoming ? graph.incomingEdge(vertex, index) : graph.outgoingEdge(vertex, index);
+    }
+
+    private void reset(int id, boolean isIncoming, int count) {
+        this.vertex = id;
+        this.incoming = isIncoming;
+        this.degree = count;
+        this.index = -1;
+    }
+}
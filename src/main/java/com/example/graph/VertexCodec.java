@@ -0,0 +1,85 @@
+package com.example.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts vertices into bytes and back.
+ * It is used to store graphs in files.
+ *
+ * @param <V> vertex type.
+ */
+public interface VertexCodec<V> {
+    /**
+     * Convert vertex into bytes.
+     *
+     * @param vertex vertex to convert. Can't be null.
+     * @return vertex bytes.
+     */
+    byte[] encode(V vertex);
+
+    /**
+     * Restore vertex from bytes.
+     *
+     * @param bytes bytes created by encode method.
+     * @return vertex.
+     */
+    V decode(byte[] bytes);
+
+    /**
+     * Codec for String vertices. Uses UTF-8.
+     *
+     * @return codec.
+     */
+    static VertexCodec<String> strings() {
+        return new VertexCodec<String>() {
+            @Override
+            public byte[] encode(String vertex) {
+                return vertex.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Codec for Integer vertices.
+     *
+     * @return codec.
+     */
+    static VertexCodec<Integer> integers() {
+        return new VertexCodec<Integer>() {
+            @Override
+            public byte[] encode(Integer vertex) {
+                return ByteBuffer.allocate(Integer.BYTES).putInt(vertex).array();
+            }
+
+            @Override
+            public Integer decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+    }
+
+    /**
+     * Codec for Long vertices.
+     *
+     * @return codec.
+     */
+    static VertexCodec<Long> longs() {
+        return new VertexCodec<Long>() {
+            @Override
+            public byte[] encode(Long vertex) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(vertex).array();
+            }
+
+            @Override
+            public Long decode(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.graph.impl;
+
+import com.example.graph.AbstractGraph;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Abstract thread safe graph.
+ * Vertices, edges and edge containers are kept in concurrent maps, so readers never block.
+ * Edge writes are guarded by striped locks, so concurrent addEdge calls on different edges run in parallel
+ * and duplicate detection stays atomic. Vertex removal locks all stripes.
+ * Edges are implemented by DefaultEdge.class and can be replaced.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public abstract class AbstractConcurrentGraph<V> extends AbstractGraph<V, DefaultEdge<V>> {
+    private final EdgeLockStripes stripes = new EdgeLockStripes();
+
+    /**
+     * Default constructor.
+     */
+    public AbstractConcurrentGraph() {
+        super(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+    }
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return false;
+    }
+
+    @Override
+    protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
+        return new DefaultEdge<>(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Add vertices one by one, so vertices added concurrently are never replaced.
+     *
+     * @param vertices vertices to be added to this graph.
+     */
+    @Override
+    public void addVertices(Collection<V> vertices) {
+        Objects.requireNonNull(vertices, MSG_VERTICES_SHOULD_BE_NON_NULL);
+        for (V vertex : vertices) {
+            addVertex(vertex);
+        }
+    }
+
+    /**
+     * Add edges one by one under striped locks.
+     *
+     * @param edges edges to add into graph.
+     */
+    @Override
+    public void addEdges(Iterable<DefaultEdge<V>> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        for (DefaultEdge<V> edge : edges) {
+            addEdge(edge);
+        }
+    }
+
+    @Override
+    protected void createLinkBetweenVertices(DefaultEdge<V> edge) {
+        final ReentrantLock lock = stripes.lockFor(edge);
+        lock.lock();
+        try {
+            // Vertex could be removed after addEdge validated it.
+            if (!containsVertex(edge.getSource())) {
+                throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+            }
+            if (!containsVertex(edge.getTarget())) {
+                throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+            }
+            if (containsEdge(edge)) {
+                throw new IllegalArgumentException(MSG_EDGE_SHOULD_BE_UNIQUE);
+            }
+            // Vertex removal takes all stripes, so containers can't disappear while the stripe is held.
+            getMap().get(edge.getSource()).addOutgoingEdge(edge);
+            getMap().get(edge.getTarget()).addIncomingEdge(edge);
+            registerEdge(edge);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeEdge(DefaultEdge<V> edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        final ReentrantLock lock = stripes.lockFor(edge);
+        lock.lock();
+        try {
+            return super.removeEdge(edge);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove vertex and all its edges.
+     * Edges of the vertex could belong to any stripe, so all stripes are locked.
+     *
+     * @param vertex vertex to remove.
+     * @return true - vertex was removed.
+     */
+    @Override
+    public boolean removeVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        stripes.lockAll();
+        try {
+            return super.removeVertex(vertex);
+        } finally {
+            stripes.unlockAll();
+        }
+    }
+}
@@ -0,0 +1,581 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.EdgeIndexedGraph;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.example.graph.AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.impl.CsrGraph.MSG_UNKNOWN_EDGE_ID;
+
+/**
+ * Abstract multigraph. Any number of parallel edges could connect the same vertices.
+ * Each edge gets a stable int id when it is added. Edges are not checked for uniqueness,
+ * so adding an edge costs O(1) and there is no global set of edges.
+ * Ids of removed edges are not reused, so ids of other edges and edge columns stay valid.
+ * Vertices have dense int ids, removal moves the last vertex into the freed id.
+ * Not thread safe.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type. Parallel edges should not be equal, e.g. they could keep edge id (see MultiEdge).
+ */
+public abstract class AbstractMultigraph<V, E extends Edge<V>> implements EdgeIndexedGraph<V, E> {
+    public static final String MSG_EDGE_ID_DOES_NOT_MATCH = "Edge id should be equal to the next edge id";
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<V, Integer> ids;
+    private Object[] vertices;
+    private int vertexCount;
+
+    private final EdgeIdLists outgoing;
+    // The same lists as outgoing for undirected graphs.
+    private final EdgeIdLists incoming;
+
+    // Edges and their ends by edge id. Removed edges leave null.
+    private Object[] edgesById;
+    private int[] sources;
+    private int[] targets;
+    private int edgeIdCount;
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public AbstractMultigraph() {
+        this.ids = new HashMap<>();
+        this.vertices = new Object[DEFAULT_CAPACITY];
+        this.outgoing = new EdgeIdLists();
+        this.incoming = isDirected() ? new EdgeIdLists() : outgoing;
+        this.edgesById = new Object[DEFAULT_CAPACITY];
+        this.sources = new int[DEFAULT_CAPACITY];
+        this.targets = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Abstract method that is used to create edges by addEdge(V, V).
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @param edgeId id of new edge.
+     * @return new edge object.
+     */
+    protected abstract E createEdge(V sourceVertex, V targetVertex, int edgeId);
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return false;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        if (ids.containsKey(vertex)) {
+            return;
+        }
+        if (vertexCount == vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertexCount * 2);
+        }
+        vertices[vertexCount] = vertex;
+        ids.put(vertex, vertexCount++);
+        outgoing.newList();
+        if (incoming != outgoing) {
+            incoming.newList();
+        }
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return ids.containsKey(vertex);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return Collections.unmodifiableSet(ids.keySet());
+    }
+
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        addEdgeWithId(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Add new edge created by createEdge.
+     * Vertices could already be connected by other edges.
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @return id of new edge.
+     * @throws IllegalArgumentException if vertices are not found in the graph or edge is a not supported loop.
+     */
+    public int addEdgeWithId(V sourceVertex, V targetVertex) {
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+        final int sourceId = requireEndId(sourceVertex, MSG_UNKNOWN_SOURCE_VERTEX);
+        final int targetId = requireEndId(targetVertex, MSG_UNKNOWN_TARGET_VERTEX);
+        checkLoop(sourceId, targetId);
+        return link(sourceId, targetId, createEdge(sourceVertex, targetVertex, edgeIdCount));
+    }
+
+    @Override
+    public void addEdge(E edge) {
+        addEdgeWithId(edge);
+    }
+
+    /**
+     * Add edge.
+     * Edge is not checked for uniqueness, it should not be equal to edges of the graph.
+     * MultiEdge should carry the id which the graph assigns, it is edgeCount() before the edge is added,
+     * so parallel edges with the same ends stay different.
+     *
+     * @param edge edge to add. Can't be null.
+     * @return id of new edge.
+     * @throws IllegalArgumentException if vertices are not found in the graph, edge is a not supported loop
+     *         or id of MultiEdge is not the next edge id.
+     */
+    public int addEdgeWithId(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        final int sourceId = requireEndId(edge.getSource(), MSG_UNKNOWN_SOURCE_VERTEX);
+        final int targetId = requireEndId(edge.getTarget(), MSG_UNKNOWN_TARGET_VERTEX);
+        checkLoop(sourceId, targetId);
+        checkEdgeId(edge, edgeIdCount);
+        return link(sourceId, targetId, edge);
+    }
+
+    /**
+     * Add edges. Batch is validated before the graph is changed.
+     * Ids of MultiEdges should follow each other from edgeCount().
+     *
+     * @param edges edges to add. Can't be null.
+     * @throws IllegalArgumentException if vertices of any edge are not found in the graph,
+     *         any edge is a not supported loop or id of any MultiEdge is not its next edge id.
+     */
+    @Override
+    public void addEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        final List<E> batch = new ArrayList<>();
+        for (E edge : edges) {
+            Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+            final int sourceId = requireEndId(edge.getSource(), MSG_UNKNOWN_SOURCE_VERTEX);
+            checkLoop(sourceId, requireEndId(edge.getTarget(), MSG_UNKNOWN_TARGET_VERTEX));
+            checkEdgeId(edge, edgeIdCount + batch.size());
+            batch.add(edge);
+        }
+
+        ensureEdgeCapacity(edgeIdCount + batch.size());
+        for (E edge : batch) {
+            link(ids.get(edge.getSource()), ids.get(edge.getTarget()), edge);
+        }
+    }
+
+    @Override
+    public boolean containsEdge(E edge) {
+        return edgeIdOf(edge) != UNKNOWN_ID;
+    }
+
+    /**
+     * Get id of edge. It scans edges of source vertex.
+     *
+     * @param edge edge. Can't be null.
+     * @return edge id or UNKNOWN_ID if edge is not found.
+     */
+    public int edgeIdOf(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        final Integer sourceId = ids.get(edge.getSource());
+        if (sourceId == null) {
+            return UNKNOWN_ID;
+        }
+        final int degree = outgoing.size(sourceId);
+        for (int i = 0; i < degree; i++) {
+            final int edgeId = outgoing.get(sourceId, i);
+            if (sameEdge((Edge<?>) edgesById[edgeId], edge)) {
+                return edgeId;
+            }
+        }
+        return UNKNOWN_ID;
+    }
+
+    /**
+     * Get count of edges.
+     *
+     * @return count of edges in the graph. It is less than edgeCount() when edges were removed.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        return new EdgeView(requireId(vertex), outgoing);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        return new EdgeView(requireId(vertex), incoming);
+    }
+
+    @Override
+    public boolean removeVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final Integer removed = ids.remove(vertex);
+        if (removed == null) {
+            return false;
+        }
+        final int id = removed;
+        for (int edgeId : outgoing.copy(id)) {
+            unlink(edgeId);
+        }
+        if (incoming != outgoing) {
+            for (int edgeId : incoming.copy(id)) {
+                unlink(edgeId);
+            }
+        }
+
+        final int last = --vertexCount;
+        if (id != last) {
+            vertices[id] = vertices[last];
+            ids.put((V) vertices[id], id);
+            renameEnds(outgoing, last, id);
+            if (incoming != outgoing) {
+                renameEnds(incoming, last, id);
+            }
+        }
+        vertices[last] = null;
+        outgoing.removeLast();
+        if (incoming != outgoing) {
+            incoming.removeLast();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        final int edgeId = edgeIdOf(edge);
+        if (edgeId == UNKNOWN_ID) {
+            return false;
+        }
+        unlink(edgeId);
+        return true;
+    }
+
+    /**
+     * Remove edge by id. Ids of other edges do not change.
+     *
+     * @param edgeId edge id.
+     * @return true - edge was removed;
+     *         false - there is no edge with such id.
+     */
+    public boolean removeEdge(int edgeId) {
+        if (!containsEdgeId(edgeId)) {
+            return false;
+        }
+        unlink(edgeId);
+        return true;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final Integer id = ids.get(vertex);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        if (id < 0 || id >= vertexCount) {
+            throw new IllegalArgumentException(VertexDictionary.MSG_UNKNOWN_ID);
+        }
+        return (V) vertices[id];
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return outgoing.size(id);
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return otherEnd(outgoing.get(id, index), id);
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return (E) edgesById[outgoing.get(id, index)];
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return incoming.size(id);
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return otherEnd(incoming.get(id, index), id);
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        return (E) edgesById[incoming.get(id, index)];
+    }
+
+    @Override
+    public int edgeCount() {
+        return edgeIdCount;
+    }
+
+    @Override
+    public boolean containsEdgeId(int edgeId) {
+        return edgeId >= 0 && edgeId < edgeIdCount && edgesById[edgeId] != null;
+    }
+
+    @Override
+    public int outgoingEdgeId(int id, int index) {
+        return outgoing.get(id, index);
+    }
+
+    @Override
+    public int incomingEdgeId(int id, int index) {
+        return incoming.get(id, index);
+    }
+
+    @Override
+    public E edgeOf(int edgeId) {
+        if (!containsEdgeId(edgeId)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_EDGE_ID);
+        }
+        return (E) edgesById[edgeId];
+    }
+
+    private int link(int sourceId, int targetId, E edge) {
+        ensureEdgeCapacity(edgeIdCount + 1);
+        final int edgeId = edgeIdCount++;
+        edgesById[edgeId] = edge;
+        sources[edgeId] = sourceId;
+        targets[edgeId] = targetId;
+        outgoing.add(sourceId, edgeId);
+        incoming.add(targetId, edgeId);
+        size++;
+        return edgeId;
+    }
+
+    private void unlink(int edgeId) {
+        if (edgesById[edgeId] == null) {
+            // Loop or edge which was already removed with the other end.
+            return;
+        }
+        outgoing.remove(sources[edgeId], edgeId);
+        incoming.remove(targets[edgeId], edgeId);
+        edgesById[edgeId] = null;
+        size--;
+    }
+
+    // Moves lists of the last vertex into the freed id and fixes ends of its edges.
+    private void renameEnds(EdgeIdLists lists, int oldId, int newId) {
+        lists.move(oldId, newId);
+        final int degree = lists.size(newId);
+        for (int i = 0; i < degree; i++) {
+            final int edgeId = lists.get(newId, i);
+            if (sources[edgeId] == oldId) {
+                sources[edgeId] = newId;
+            }
+            if (targets[edgeId] == oldId) {
+                targets[edgeId] = newId;
+            }
+        }
+    }
+
+    private int otherEnd(int edgeId, int id) {
+        return sources[edgeId] == id ? targets[edgeId] : sources[edgeId];
+    }
+
+    private boolean sameEdge(Edge<?> stored, Edge<?> edge) {
+        return isDirected() ? stored.equals(edge) : stored.equalsIgnoreDirection(edge);
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+        if (capacity > edgesById.length) {
+            final int newCapacity = Math.max(capacity, edgesById.length * 2);
+            edgesById = Arrays.copyOf(edgesById, newCapacity);
+            sources = Arrays.copyOf(sources, newCapacity);
+            targets = Arrays.copyOf(targets, newCapacity);
+        }
+    }
+
+    private void checkLoop(int sourceId, int targetId) {
+        if (!isSelfLoopSupported() && sourceId == targetId) {
+            throw new IllegalArgumentException(MSG_LOOPS_NOT_SUPPORTED);
+        }
+    }
+
+    // MultiEdge is equal only to edges with the same id, so its id should be the one it gets.
+    private void checkEdgeId(E edge, int edgeId) {
+        if (edge instanceof MultiEdge && ((MultiEdge<?>) edge).getId() != edgeId) {
+            throw new IllegalArgumentException(MSG_EDGE_ID_DOES_NOT_MATCH);
+        }
+    }
+
+    private int requireEndId(V vertex, String message) {
+        final Integer id = ids.get(vertex);
+        if (id == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return id;
+    }
+
+    private int requireId(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final Integer id = ids.get(vertex);
+        if (id == null) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return id;
+    }
+
+    /**
+     * View of outgoing or incoming edges of vertex.
+     */
+    private final class EdgeView extends AbstractSet<E> {
+        private final int id;
+        private final EdgeIdLists lists;
+
+        private EdgeView(int id, EdgeIdLists lists) {
+            this.id = id;
+            this.lists = lists;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size();
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return (E) edgesById[lists.get(id, index++)];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Edge)) {
+                return false;
+            }
+            final int degree = size();
+            for (int i = 0; i < degree; i++) {
+                if (sameEdge((Edge<?>) edgesById[lists.get(id, i)], (Edge<?>) o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return lists.size(id);
+        }
+    }
+
+    /**
+     * Lists of edge ids by vertex id.
+     */
+    private static final class EdgeIdLists {
+        private static final int[] EMPTY = new int[0];
+        private static final int MIN_LIST_CAPACITY = 4;
+
+        private int[][] lists = new int[DEFAULT_CAPACITY][];
+        private int[] sizes = new int[DEFAULT_CAPACITY];
+        private int count;
+
+        void newList() {
+            if (count == lists.length) {
+                lists = Arrays.copyOf(lists, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            lists[count] = EMPTY;
+            sizes[count] = 0;
+            count++;
+        }
+
+        int size(int list) {
+            return sizes[list];
+        }
+
+        int get(int list, int index) {
+            return lists[list][index];
+        }
+
+        int[] copy(int list) {
+            return Arrays.copyOf(lists[list], sizes[list]);
+        }
+
+        void add(int list, int value) {
+            final int listSize = sizes[list];
+            if (listSize == lists[list].length) {
+                lists[list] = Arrays.copyOf(lists[list], Math.max(MIN_LIST_CAPACITY, listSize * 2));
+            }
+            lists[list][listSize] = value;
+            sizes[list] = listSize + 1;
+        }
+
+        void remove(int list, int value) {
+            final int[] values = lists[list];
+            final int last = sizes[list] - 1;
+            for (int i = 0; i <= last; i++) {
+                if (values[i] == value) {
+                    values[i] = values[last];
+                    sizes[list] = last;
+                    return;
+                }
+            }
+        }
+
+        void move(int from, int to) {
+            lists[to] = lists[from];
+            sizes[to] = sizes[from];
+        }
+
+        // Lists of removed vertex should be already replaced by move.
+        void removeLast() {
+            count--;
+            lists[count] = null;
+            sizes[count] = 0;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.example.graph.AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_UNIQUE;
+import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+
+/**
+ * Abstract graph which keeps adjacency outside of java heap.
+ * Vertices are kept in heap dictionary with dense int ids.
+ * Adjacency is kept as int lists of neighbor ids in direct byte buffers,
+ * so heap usage grows only with count of vertices.
+ * Edge objects are not stored. They are created by createEdge on each access,
+ * so edges are identified by source and target only and their other properties are not kept.
+ * Not thread safe.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public abstract class AbstractOffHeapGraph<V, E extends Edge<V>> implements IndexedGraph<V, E> {
+    public static final String MSG_CHUNK_SIZE_IS_INVALID = "Chunk size should be a positive multiple of 16 bytes";
+    public static final String MSG_ADJACENCY_IS_TOO_LARGE = "Vertex can't have more than 2^28 neighbors";
+    /**
+     * Default size of direct buffer chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1048576;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<V, Integer> ids;
+    private Object[] vertices;
+    private int count;
+
+    private final OffHeapIntLists outgoing;
+    // The same lists as outgoing for undirected graphs.
+    private final OffHeapIntLists incoming;
+
+    /**
+     * Default constructor.
+     */
+    public AbstractOffHeapGraph() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize size of direct buffer chunk in bytes, positive multiple of 16.
+     *                  Vertices with larger adjacency get dedicated chunks.
+     * @throws IllegalArgumentException if chunk size is not a positive multiple of 16.
+     */
+    public AbstractOffHeapGraph(int chunkSize) {
+        this.ids = new HashMap<>();
+        this.vertices = new Object[DEFAULT_CAPACITY];
+        this.outgoing = new OffHeapIntLists(chunkSize);
+        this.incoming = isDirected() ? new OffHeapIntLists(chunkSize) : outgoing;
+    }
+
+    /**
+     * Abstract method that is used to create edge objects on access.
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @return new edge object.
+     */
+    protected abstract E createEdge(V sourceVertex, V targetVertex);
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return false;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        if (ids.containsKey(vertex)) {
+            return;
+        }
+        if (count == vertices.length) {
+            vertices = Arrays.copyOf(vertices, count * 2);
+        }
+        vertices[count] = vertex;
+        ids.put(vertex, count++);
+        outgoing.newList();
+        if (incoming != outgoing) {
+            incoming.newList();
+        }
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return ids.containsKey(vertex);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return Collections.unmodifiableSet(ids.keySet());
+    }
+
+    /**
+     * Add edge. Uniqueness is checked by scan of the source adjacency, so it costs O(out degree),
+     * use addEdges to load many edges.
+     *
+     * @param sourceVertex source vertex.
+     * @param targetVertex target vertex.
+     */
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+        link(sourceVertex, targetVertex);
+    }
+
+    /**
+     * Add edge. Only source and target of the edge are stored, the edge object and its other properties,
+     * e.g. weight, are dropped. Edges which are read later are created by createEdge.
+     * Uniqueness is checked by scan of the source adjacency, so it costs O(out degree),
+     * use addEdges to load many edges.
+     *
+     * @param edge edge to add.
+     */
+    @Override
+    public void addEdge(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        link(edge.getSource(), edge.getTarget());
+    }
+
+    /**
+     * Add edges. The whole batch is validated before the graph is changed.
+     * Uniqueness is checked by a temporary hash set of vertex id pairs, which gets the present adjacency
+     * of each source vertex of the batch once, so loading costs O(edges + present degree of sources)
+     * instead of a scan of the adjacency for each edge. Only source and target of edges are stored.
+     *
+     * @param edges edges to add into graph.
+     */
+    @Override
+    public void addEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        final LongHashSet keys = new LongHashSet(DEFAULT_CAPACITY);
+        final BitSet loadedSources = new BitSet(count);
+        int[] pairs = new int[DEFAULT_CAPACITY];
+        int size = 0;
+        for (E edge : edges) {
+            Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+            final int sourceId = requireId(edge.getSource(), MSG_UNKNOWN_SOURCE_VERTEX);
+            final int targetId = requireId(edge.getTarget(), MSG_UNKNOWN_TARGET_VERTEX);
+            if (!isSelfLoopSupported() && sourceId == targetId) {
+                throw new IllegalArgumentException(MSG_LOOPS_NOT_SUPPORTED);
+            }
+
+            // For undirected graphs adjacency of the source has edges of both directions.
+            if (!loadedSources.get(sourceId)) {
+                loadedSources.set(sourceId);
+                final int degree = outgoing.size(sourceId);
+                for (int i = 0; i < degree; i++) {
+                    keys.add(key(sourceId, outgoing.get(sourceId, i)));
+                }
+            }
+            if (!keys.add(key(sourceId, targetId))) {
+                throw new IllegalArgumentException(MSG_EDGE_SHOULD_BE_UNIQUE);
+            }
+
+            if (size == pairs.length) {
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            pairs[size++] = sourceId;
+            pairs[size++] = targetId;
+        }
+
+        for (int i = 0; i < size; i += 2) {
+            outgoing.add(pairs[i], pairs[i + 1]);
+            incoming.add(pairs[i + 1], pairs[i]);
+        }
+    }
+
+    @Override
+    public boolean containsEdge(E edge) {
+        final Integer sourceId = ids.get(edge.getSource());
+        final Integer targetId = ids.get(edge.getTarget());
+        return sourceId != null && targetId != null && outgoing.indexOf(sourceId, targetId) >= 0;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        return new IndexedEdgeSet<>(this, requireId(vertex), false);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        return new IndexedEdgeSet<>(this, requireId(vertex), true);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return count;
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final Integer id = ids.get(vertex);
+        return id == null ? UNKNOWN_ID : id;
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        if (id < 0 || id >= count) {
+            throw new IllegalArgumentException(VertexDictionary.MSG_UNKNOWN_ID);
+        }
+        return (V) vertices[id];
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return outgoing.size(id);
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return outgoing.get(id, index);
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return createEdge((V) vertices[id], (V) vertices[outgoing.get(id, index)]);
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return incoming.size(id);
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return incoming.get(id, index);
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        return createEdge((V) vertices[incoming.get(id, index)], (V) vertices[id]);
+    }
+
+    private void link(V sourceVertex, V targetVertex) {
+        final Integer sourceId = ids.get(sourceVertex);
+        if (sourceId == null) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+
+        final Integer targetId = ids.get(targetVertex);
+        if (targetId == null) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+        }
+
+        if (!isSelfLoopSupported() && sourceId.equals(targetId)) {
+            throw new IllegalArgumentException(MSG_LOOPS_NOT_SUPPORTED);
+        }
+
+        // For undirected graphs it checks both source->target and target->source.
+        if (outgoing.indexOf(sourceId, targetId) >= 0) {
+            throw new IllegalArgumentException(MSG_EDGE_SHOULD_BE_UNIQUE);
+        }
+
+        outgoing.add(sourceId, targetId);
+        incoming.add(targetId, sourceId);
+    }
+
+    private int requireId(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return requireId(vertex, MSG_UNKNOWN_VERTEX);
+    }
+
+    private int requireId(V vertex, String message) {
+        final Integer id = ids.get(vertex);
+        if (id == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return id;
+    }
+
+    /**
+     * Key of vertex id pair, the same for both directions of undirected edge.
+     */
+    private long key(int sourceId, int targetId) {
+        final int first = isDirected() ? sourceId : Math.min(sourceId, targetId);
+        final int second = isDirected() ? targetId : Math.max(sourceId, targetId);
+        return (long) first << Integer.SIZE | second;
+    }
+}
@@ -0,0 +1,474 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_EDGES_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_UNIQUE;
+import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_VERTICES_SHOULD_BE_NON_NULL;
+
+/**
+ * Abstract multi version graph.
+ * Each mutation creates a new epoch and publishes a new immutable GraphSnapshot.
+ * Snapshots share unchanged per vertex adjacency, and a mutation copies only O(log n) small tree nodes,
+ * so snapshot() costs O(1) and readers get lock free repeatable views while writes continue.
+ * Writes are serialized. Read methods of this graph always use the latest epoch.
+ * Edge removal costs O(degree). Vertex removal also copies the id map, so it costs O(V).
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public abstract class AbstractVersionedGraph<V, E extends Edge<V>> implements IndexedGraph<V, E> {
+    /**
+     * Vertex ids. Snapshots share this map while vertices are only added.
+     * Vertex removal changes ids, so it creates a new map. Changed only under write lock.
+     */
+    private Map<V, Integer> ids;
+
+    // Guards writes.
+    private final Object writeLock = new Object();
+
+    private volatile GraphSnapshot<V, E> current;
+
+    /**
+     * Default constructor.
+     */
+    public AbstractVersionedGraph() {
+        this.ids = new ConcurrentHashMap<>();
+        this.current = new GraphSnapshot<>(0L, isDirected(), isSelfLoopSupported(), ids,
+                PersistentArray.EMPTY, PersistentArray.EMPTY, PersistentArray.EMPTY);
+    }
+
+    /**
+     * Abstract method that is used for new edges creation.
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @return new edge object.
+     */
+    protected abstract E createEdge(V sourceVertex, V targetVertex);
+
+    /**
+     * Returns immutable view of the latest epoch.
+     *
+     * @return snapshot. It does not change when graph is changed.
+     */
+    public GraphSnapshot<V, E> snapshot() {
+        return current;
+    }
+
+    /**
+     * Get the latest epoch.
+     *
+     * @return epoch.
+     */
+    public long getEpoch() {
+        return current.getEpoch();
+    }
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return false;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            if (latest.containsVertex(vertex)) {
+                return;
+            }
+            ids.put(vertex, latest.vertexCount());
+            final PersistentArray outgoing = latest.getOutgoingArray().append(GraphSnapshot.Adjacency.EMPTY);
+            final PersistentArray incoming = isDirected()
+                    ? latest.getIncomingArray().append(GraphSnapshot.Adjacency.EMPTY)
+                    : outgoing;
+            publish(latest, latest.getVertexArray().append(vertex), outgoing, incoming);
+        }
+    }
+
+    /**
+     * Add vertices. The whole batch is published as one epoch.
+     *
+     * @param vertices vertices to be added to this graph.
+     */
+    @Override
+    public void addVertices(Collection<V> vertices) {
+        Objects.requireNonNull(vertices, MSG_VERTICES_SHOULD_BE_NON_NULL);
+        vertices.forEach(vertex -> Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL));
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            PersistentArray vertexArray = latest.getVertexArray();
+            PersistentArray outgoing = latest.getOutgoingArray();
+            PersistentArray incoming = latest.getIncomingArray();
+            for (V vertex : vertices) {
+                if (ids.putIfAbsent(vertex, vertexArray.size()) != null) {
+                    continue;
+                }
+                vertexArray = vertexArray.append(vertex);
+                outgoing = outgoing.append(GraphSnapshot.Adjacency.EMPTY);
+                incoming = isDirected() ? incoming.append(GraphSnapshot.Adjacency.EMPTY) : outgoing;
+            }
+            if (vertexArray != latest.getVertexArray()) {
+                publish(latest, vertexArray, outgoing, incoming);
+            }
+        }
+    }
+
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+        synchronized (writeLock) {
+            checkEnds(current, sourceVertex, targetVertex);
+            link(createEdge(sourceVertex, targetVertex));
+        }
+    }
+
+    @Override
+    public void addEdge(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        synchronized (writeLock) {
+            checkEnds(current, edge.getSource(), edge.getTarget());
+            link(edge);
+        }
+    }
+
+    /**
+     * Add edges. All edges are validated before the graph is changed,
+     * and the whole batch is published as one epoch, so it is either fully visible or not applied at all.
+     *
+     * @param edges edges to add into graph.
+     */
+    @Override
+    public void addEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        final List<E> batch = new ArrayList<>();
+        for (E edge : edges) {
+            Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+            batch.add(edge);
+        }
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            // Ends are checked under the lock, so a concurrent vertex removal can't happen in between.
+            batch.forEach(edge -> checkEnds(latest, edge.getSource(), edge.getTarget()));
+            final Links links = new Links(latest);
+            batch.forEach(links::add);
+            publish(latest, links.vertices, links.outgoing, links.incoming);
+        }
+    }
+
+    /**
+     * Remove vertex and all its edges.
+     * The vertex with the last id takes id of removed vertex, so the id map is copied and this call costs O(V).
+     *
+     * @param vertex vertex to remove.
+     * @return true - vertex was removed.
+     */
+    @Override
+    public boolean removeVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            final int id = latest.idOf(vertex);
+            if (id == UNKNOWN_ID) {
+                return false;
+            }
+
+            final Links links = new Links(latest);
+            links.removeEdgesOf(GraphSnapshot.adjacency(latest.getOutgoingArray(), id));
+            if (isDirected()) {
+                links.removeEdgesOf(GraphSnapshot.adjacency(latest.getIncomingArray(), id));
+            }
+
+            final Map<V, Integer> newIds = new ConcurrentHashMap<>(ids);
+            newIds.remove(vertex);
+            final V moved = links.removeVertex(id);
+            if (moved != null) {
+                newIds.put(moved, id);
+            }
+            ids = newIds;
+            publish(latest, links.vertices, links.outgoing, links.incoming);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            final Links links = new Links(latest);
+            if (!links.remove(edge)) {
+                return false;
+            }
+            publish(latest, links.vertices, links.outgoing, links.incoming);
+            return true;
+        }
+    }
+
+    /**
+     * Remove edges. The whole batch is published as one epoch.
+     *
+     * @param edges edges to remove.
+     * @return true - at least one edge was removed.
+     */
+    @Override
+    public boolean removeEdges(Iterable<E> edges) {
+        Objects.requireNonNull(edges, MSG_EDGES_SHOULD_BE_NON_NULL);
+        edges.forEach(edge -> Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL));
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            final Links links = new Links(latest);
+            boolean removed = false;
+            for (E edge : edges) {
+                removed |= links.remove(edge);
+            }
+            if (removed) {
+                publish(latest, links.vertices, links.outgoing, links.incoming);
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        return current.containsVertex(vertex);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return current.getVertices();
+    }
+
+    @Override
+    public boolean containsEdge(E edge) {
+        return current.containsEdge(edge);
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        return current.getOutgoingEdges(vertex);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        return current.getIncomingEdges(vertex);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return current.vertexCount();
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        return current.idOf(vertex);
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        return current.vertexOf(id);
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return current.outDegree(id);
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return current.outgoingId(id, index);
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return current.outgoingEdge(id, index);
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return current.inDegree(id);
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return current.incomingId(id, index);
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        return current.incomingEdge(id, index);
+    }
+
+    // Should be called under write lock with the latest snapshot.
+    private void checkEnds(GraphSnapshot<V, E> latest, V sourceVertex, V targetVertex) {
+        if (!latest.containsVertex(sourceVertex)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+
+        if (!latest.containsVertex(targetVertex)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+        }
+
+        if (!isSelfLoopSupported() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(MSG_LOOPS_NOT_SUPPORTED);
+        }
+    }
+
+    private void link(E edge) {
+        synchronized (writeLock) {
+            final GraphSnapshot<V, E> latest = current;
+            final Links links = new Links(latest);
+            links.add(edge);
+            publish(latest, links.vertices, links.outgoing, links.incoming);
+        }
+    }
+
+    private void publish(GraphSnapshot<V, E> latest, PersistentArray vertices, PersistentArray outgoing, PersistentArray incoming) {
+        current = new GraphSnapshot<>(latest.getEpoch() + 1, isDirected(), isSelfLoopSupported(), ids, vertices, outgoing, incoming);
+    }
+
+    /**
+     * Vertices and adjacency of the next epoch which is being built.
+     * Used only under write lock.
+     */
+    private final class Links {
+        private PersistentArray vertices;
+        private PersistentArray outgoing;
+        private PersistentArray incoming;
+
+        Links(GraphSnapshot<V, E> latest) {
+            this.vertices = latest.getVertexArray();
+            this.outgoing = latest.getOutgoingArray();
+            this.incoming = latest.getIncomingArray();
+        }
+
+        void add(E edge) {
+            final int sourceId = ids.get(edge.getSource());
+            final int targetId = ids.get(edge.getTarget());
+
+            // For undirected graphs it checks both source->target and target->source.
+            final GraphSnapshot.Adjacency sourceAdjacency = GraphSnapshot.adjacency(outgoing, sourceId);
+            if (sourceAdjacency.indexOf(edge, isDirected()) >= 0) {
+                throw new IllegalArgumentException(MSG_EDGE_SHOULD_BE_UNIQUE);
+            }
+
+            outgoing = outgoing.set(sourceId, sourceAdjacency.append(targetId, edge));
+            if (isDirected()) {
+                incoming = incoming.set(targetId, GraphSnapshot.adjacency(incoming, targetId).append(sourceId, edge));
+            } else {
+                outgoing = outgoing.set(targetId, GraphSnapshot.adjacency(outgoing, targetId).append(sourceId, edge));
+                incoming = outgoing;
+            }
+        }
+
+        boolean remove(E edge) {
+            final Integer sourceId = ids.get(edge.getSource());
+            final Integer targetId = ids.get(edge.getTarget());
+            if (sourceId == null || targetId == null) {
+                return false;
+            }
+
+            // For undirected graphs edge could be stored in opposite direction.
+            final GraphSnapshot.Adjacency sourceAdjacency = GraphSnapshot.adjacency(outgoing, sourceId);
+            final int index = sourceAdjacency.indexOf(edge, isDirected());
+            if (index < 0) {
+                return false;
+            }
+            final Edge<?> storedEdge = (Edge<?>) sourceAdjacency.getEdge(index);
+
+            outgoing = outgoing.set(sourceId, sourceAdjacency.remove(index));
+            if (isDirected()) {
+                incoming = incoming.set(targetId, removeStored(GraphSnapshot.adjacency(incoming, targetId), storedEdge));
+            } else {
+                outgoing = outgoing.set(targetId, removeStored(GraphSnapshot.adjacency(outgoing, targetId), storedEdge));
+                incoming = outgoing;
+            }
+            return true;
+        }
+
+        void removeEdgesOf(GraphSnapshot.Adjacency adjacency) {
+            // Adjacency of the previous epoch is not changed by removal.
+            for (int i = 0; i < adjacency.getDegree(); i++) {
+                remove((E) adjacency.getEdge(i));
+            }
+        }
+
+        /**
+         * Remove vertex without edges. The vertex with the last id is moved to its id.
+         *
+         * @param id id of vertex to remove.
+         * @return moved vertex or null if removed vertex had the last id.
+         */
+        V removeVertex(int id) {
+            final int last = vertices.size() - 1;
+            V moved = null;
+            if (id != last) {
+                moved = (V) vertices.get(last);
+                vertices = vertices.set(id, moved);
+                outgoing = outgoing.set(id, GraphSnapshot.adjacency(outgoing, last));
+                if (isDirected()) {
+                    incoming = incoming.set(id, GraphSnapshot.adjacency(incoming, last));
+                    renameInNeighbors(GraphSnapshot.adjacency(outgoing, id), true, id, last);
+                    renameInNeighbors(GraphSnapshot.adjacency(incoming, id), false, id, last);
+                } else {
+                    renameInNeighbors(GraphSnapshot.adjacency(outgoing, id), false, id, last);
+                }
+            }
+
+            vertices = vertices.removeLast();
+            outgoing = outgoing.removeLast();
+            incoming = isDirected() ? incoming.removeLast() : outgoing;
+            return moved;
+        }
+
+        /**
+         * Replace old id of moved vertex in adjacency of its neighbors.
+         *
+         * @param moved adjacency of moved vertex.
+         * @param neighborIncoming true - neighbors refer to moved vertex in incoming adjacency.
+         * @param id new id.
+         * @param oldId old id.
+         */
+        private void renameInNeighbors(GraphSnapshot.Adjacency moved, boolean neighborIncoming, int id, int oldId) {
+            for (int i = 0; i < moved.getDegree(); i++) {
+                // Self loop refers to the moved vertex itself.
+                final int neighbor = moved.getId(i) == oldId ? id : moved.getId(i);
+                if (neighborIncoming) {
+                    incoming = incoming.set(neighbor, GraphSnapshot.adjacency(incoming, neighbor).rename(oldId, id));
+                } else {
+                    outgoing = outgoing.set(neighbor, GraphSnapshot.adjacency(outgoing, neighbor).rename(oldId, id));
+                }
+            }
+            if (!isDirected()) {
+                incoming = outgoing;
+            }
+        }
+
+        private GraphSnapshot.Adjacency removeStored(GraphSnapshot.Adjacency adjacency, Edge<?> storedEdge) {
+            return adjacency.remove(adjacency.indexOf(storedEdge, true));
+        }
+    }
+}
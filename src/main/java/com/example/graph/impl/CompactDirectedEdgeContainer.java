@@ -0,0 +1,48 @@
+package com.example.graph.impl;
+
+import com.example.graph.EdgeContainer;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Memory efficient edge container for directed graph.
+ * Incoming and outgoing edges are kept in adaptive sets: a single edge is kept inline,
+ * a few edges in an array, and only high degree vertices use hash sets.
+ *
+ * @param <E> edge type.
+ */
+public final class CompactDirectedEdgeContainer<E> implements EdgeContainer<E> {
+    private final CompactEdgeSet<E> incomingEdges;
+    private final CompactEdgeSet<E> outgoingEdges;
+
+    /**
+     * Default constructor.
+     */
+    public CompactDirectedEdgeContainer() {
+        this.incomingEdges = new CompactEdgeSet<>();
+        this.outgoingEdges = new CompactEdgeSet<>();
+    }
+
+    @Override
+    public Set<E> getIncomingEdges() {
+        return this.incomingEdges;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges() {
+        return this.outgoingEdges;
+    }
+
+    @Override
+    public void addIncomingEdge(E edge) {
+        Objects.requireNonNull(edge, DirectedEdgeContainer.MSG_EDGE_SHOULD_BE_NON_NULL);
+        this.incomingEdges.add(edge);
+    }
+
+    @Override
+    public void addOutgoingEdge(E edge) {
+        Objects.requireNonNull(edge, DirectedEdgeContainer.MSG_EDGE_SHOULD_BE_NON_NULL);
+        this.outgoingEdges.add(edge);
+    }
+}
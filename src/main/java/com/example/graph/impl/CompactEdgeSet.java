@@ -0,0 +1,172 @@
+package com.example.graph.impl;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Set of edges which adapts its storage to the number of edges.
+ * Single edge is kept in the field, a few edges in a plain array with linear scan,
+ * and only large sets are promoted to HashSet.
+ * Not thread safe.
+ *
+ * @param <E> edge type.
+ */
+final class CompactEdgeSet<E> extends AbstractSet<E> {
+    // Max number of edges in array. Bigger sets are kept in HashSet.
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private static final int INITIAL_ARRAY_SIZE = 4;
+
+    /**
+     * Storage depends on size:
+     * 0 - null;
+     * 1 - the edge itself;
+     * more - Object[] with edges or HashSet when set was promoted.
+     */
+    private Object storage;
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (size == 0 || o == null) {
+            return false;
+        }
+        if (size == 1) {
+            return storage.equals(o);
+        }
+        if (storage instanceof Object[]) {
+            return indexOf((Object[]) storage, o) >= 0;
+        }
+        return hashed().contains(o);
+    }
+
+    @Override
+    public boolean add(E edge) {
+        Objects.requireNonNull(edge, DirectedEdgeContainer.MSG_EDGE_SHOULD_BE_NON_NULL);
+        if (size == 0) {
+            storage = edge;
+            size = 1;
+            return true;
+        }
+        if (contains(edge)) {
+            return false;
+        }
+        if (size == 1) {
+            final Object[] array = new Object[INITIAL_ARRAY_SIZE];
+            array[0] = storage;
+            array[1] = edge;
+            storage = array;
+        } else if (storage instanceof Object[]) {
+            Object[] array = (Object[]) storage;
+            if (size == MAX_ARRAY_SIZE) {
+                // Promote to hash set.
+                final Set<E> set = new HashSet<>();
+                for (Object stored : array) {
+                    set.add((E) stored);
+                }
+                set.add(edge);
+                storage = set;
+            } else {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, MAX_ARRAY_SIZE);
+                    storage = array;
+                }
+                array[size] = edge;
+            }
+        } else {
+            hashed().add(edge);
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+        if (size == 1) {
+            storage = null;
+        } else if (storage instanceof Object[]) {
+            final Object[] array = (Object[]) storage;
+            final int index = indexOf(array, o);
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            array[size - 1] = null;
+            if (size == 2) {
+                storage = array[0];
+            }
+        } else {
+            final Set<E> set = hashed();
+            set.remove(o);
+            // Demote to array with some gap, so add/remove near the bound does not rebuild storage.
+            if (set.size() == INITIAL_ARRAY_SIZE) {
+                storage = set.toArray(new Object[MAX_ARRAY_SIZE]);
+            }
+        }
+        size--;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        storage = null;
+        size = 0;
+    }
+
+    /**
+     * Returns iterator over edges.
+     * Iterator does not support removal.
+     *
+     * @return iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        if (size > 1 && !(storage instanceof Object[])) {
+            return Collections.unmodifiableSet(hashed()).iterator();
+        }
+        return new Iterator<E>() {
+            private final Object current = storage;
+            private final int count = size;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final Object edge = count == 1 ? current : ((Object[]) current)[index];
+                index++;
+                return (E) edge;
+            }
+        };
+    }
+
+    private Set<E> hashed() {
+        return (Set<E>) storage;
+    }
+
+    private int indexOf(Object[] array, Object o) {
+        for (int i = 0; i < size; i++) {
+            if (array[i].equals(o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
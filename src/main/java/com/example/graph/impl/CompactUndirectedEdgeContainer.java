@@ -0,0 +1,43 @@
+package com.example.graph.impl;
+
+import com.example.graph.EdgeContainer;
+
+import java.util.Set;
+
+/**
+ * Memory efficient edge container for undirected graph.
+ * Edges are kept in adaptive set: a single edge is kept inline,
+ * a few edges in an array, and only high degree vertices use hash set.
+ *
+ * @param <E> edge type.
+ */
+public final class CompactUndirectedEdgeContainer<E> implements EdgeContainer<E> {
+    private final CompactEdgeSet<E> edges;
+
+    /**
+     * Default constructor.
+     */
+    public CompactUndirectedEdgeContainer() {
+        this.edges = new CompactEdgeSet<>();
+    }
+
+    @Override
+    public Set<E> getIncomingEdges() {
+        return this.edges;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges() {
+        return this.edges;
+    }
+
+    @Override
+    public void addIncomingEdge(E edge) {
+        this.edges.add(edge);
+    }
+
+    @Override
+    public void addOutgoingEdge(E edge) {
+        this.edges.add(edge);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.graph.impl;
+
+
+import com.example.graph.EdgeContainer;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe edge container for directed graph.
+ * Readers never block.
+ *
+ * @param <E> edge type.
+ */
+public final class ConcurrentDirectedEdgeContainer<E> implements EdgeContainer<E> {
+    private final Set<E> incomingEdges;
+    private final Set<E> outgoingEdges;
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentDirectedEdgeContainer() {
+        this.incomingEdges = ConcurrentHashMap.newKeySet();
+        this.outgoingEdges = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Set<E> getIncomingEdges() {
+        return this.incomingEdges;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges() {
+        return this.outgoingEdges;
+    }
+
+    @Override
+    public void addIncomingEdge(E edge) {
+        Objects.requireNonNull(edge, DirectedEdgeContainer.MSG_EDGE_SHOULD_BE_NON_NULL);
+        this.incomingEdges.add(edge);
+    }
+
+    @Override
+    public void addOutgoingEdge(E edge) {
+        Objects.requireNonNull(edge, DirectedEdgeContainer.MSG_EDGE_SHOULD_BE_NON_NULL);
+        this.outgoingEdges.add(edge);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.graph.impl;
+
+import com.example.graph.EdgeContainer;
+
+/**
+ * Thread safe directed graph implementation, see AbstractConcurrentGraph.
+ * Edges are implemented by DefaultEdge.class and can be replaced.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class ConcurrentDirectedGraphImpl<V> extends AbstractConcurrentGraph<V> {
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentDirectedGraphImpl() {
+        super();
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    protected EdgeContainer<DefaultEdge<V>> createEdgeContainer() {
+        return new ConcurrentDirectedEdgeContainer<>();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.graph.impl;
+
+
+import com.example.graph.EdgeContainer;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe edge container for undirected graph.
+ * Readers never block.
+ *
+ * @param <E> edge type.
+ */
+public final class ConcurrentUndirectedEdgeContainer<E> implements EdgeContainer<E> {
+    private final Set<E> edges;
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentUndirectedEdgeContainer() {
+        this.edges = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Set<E> getIncomingEdges() {
+        return this.edges;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges() {
+        return this.edges;
+    }
+
+    @Override
+    public void addIncomingEdge(E edge) {
+        this.edges.add(edge);
+    }
+
+    @Override
+    public void addOutgoingEdge(E edge) {
+        this.edges.add(edge);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.graph.impl;
+
+import com.example.graph.EdgeContainer;
+
+/**
+ * Thread safe undirected graph implementation, see AbstractConcurrentGraph.
+ * Edges are kept in the direction they were added. Edge which is not found as is
+ * is compared by equalsIgnoreDirection with edges of its end with the smaller degree,
+ * so lookups do not create opposite edges.
+ * Edges are implemented by DefaultEdge.class and can be replaced.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class ConcurrentUndirectedGraphImpl<V> extends AbstractConcurrentGraph<V> {
+
+    /**
+     * Default constructor.
+     */
+    public ConcurrentUndirectedGraphImpl() {
+        super();
+    }
+
+    @Override
+    public boolean isDirected() {
+        return false;
+    }
+
+    @Override
+    protected EdgeContainer<DefaultEdge<V>> createEdgeContainer() {
+        return new ConcurrentUndirectedEdgeContainer<>();
+    }
+
+    @Override
+    public boolean containsEdge(DefaultEdge<V> edge) {
+        return findEdge(edge) != null;
+    }
+
+    @Override
+    protected DefaultEdge<V> findEdge(DefaultEdge<V> edge) {
+        final DefaultEdge<V> storedEdge = super.findEdge(edge);
+        if (storedEdge != null) {
+            return storedEdge;
+        }
+        final EdgeContainer<DefaultEdge<V>> sourceContainer = getMap().get(edge.getSource());
+        final EdgeContainer<DefaultEdge<V>> targetContainer = getMap().get(edge.getTarget());
+        if (sourceContainer == null || targetContainer == null) {
+            return null;
+        }
+        final EdgeContainer<DefaultEdge<V>> container =
+                sourceContainer.getOutgoingEdges().size() <= targetContainer.getOutgoingEdges().size()
+                        ? sourceContainer : targetContainer;
+        for (DefaultEdge<V> stored : container.getOutgoingEdges()) {
+            if (stored.equalsIgnoreDirection(edge)) {
+                return stored;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.EdgeIndexedGraph;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+
+/**
+ * Immutable graph which keeps adjacency in compressed sparse row (CSR) arrays.
+ * Neighbors of vertex with id i are stored in targets[offsets[i]..offsets[i + 1]).
+ * There are no per vertex containers and no per edge hash set entries,
+ * so neighbor scans are sequential.
+ * Edge objects are kept once, in outgoing order, because they are returned by edge views.
+ * Besides them a directed edge costs an outgoing target id, an edge reference, an incoming source id
+ * and an incoming edge id. An undirected edge is stored for both ends: two target ids, two references
+ * and two edge ids, plus its first position. Vertex ids are an open addressing int table, not a map.
+ * For undirected graphs incoming adjacency is the same as outgoing.
+ * Edges of directed graphs are identified by their position in outgoing arrays,
+ * edges of undirected graphs get ids in order of their first position.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class CsrGraph<V, E extends Edge<V>> implements EdgeIndexedGraph<V, E> {
+    public static final String MSG_GRAPH_IS_IMMUTABLE = "Graph is immutable";
+    public static final String MSG_GRAPH_SHOULD_BE_NON_NULL = "Graph should be not null";
+    public static final String MSG_UNKNOWN_EDGE_ID = "Unknown edge id";
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final boolean directed;
+    private final boolean selfLoopSupported;
+
+    private final Object[] vertices;
+    private final VertexIdTable ids;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final Object[] outEdges;
+
+    private final int[] inOffsets;
+    private final int[] inSources;
+
+    // Edge ids by position. For directed graphs outgoing positions are edge ids, so outEdgeIds is null,
+    // and incoming edge ids lead to edge objects in outgoing order.
+    private final int[] outEdgeIds;
+    private final int[] inEdgeIds;
+    // First position of edge by edge id. Null for directed graphs.
+    private final int[] edgePositions;
+
+    private CsrGraph(Graph<V, E> graph) {
+        this.directed = graph.isDirected();
+        this.selfLoopSupported = graph.isSelfLoopSupported();
+
+        // Assign ids. Indexed graphs keep their own ids.
+        final Set<V> graphVertices = graph.getVertices();
+        final int count = graphVertices.size();
+        this.vertices = new Object[count];
+        this.ids = new VertexIdTable(count);
+        if (graph instanceof IndexedGraph && ((IndexedGraph<V, E>) graph).isIndexed()) {
+            final IndexedGraph<V, E> indexedGraph = (IndexedGraph<V, E>) graph;
+            for (int id = 0; id < count; id++) {
+                vertices[id] = indexedGraph.vertexOf(id);
+                ids.add(id, vertices);
+            }
+        } else {
+            int id = 0;
+            for (V vertex : graphVertices) {
+                vertices[id] = vertex;
+                ids.add(id++, vertices);
+            }
+        }
+
+        // Count degrees.
+        this.outOffsets = new int[count + 1];
+        for (int id = 0; id < count; id++) {
+            outOffsets[id + 1] = outOffsets[id] + graph.getOutgoingEdges(vertexOf(id)).size();
+        }
+
+        // Fill outgoing adjacency.
+        this.outTargets = new int[outOffsets[count]];
+        this.outEdges = new Object[outOffsets[count]];
+        for (int id = 0; id < count; id++) {
+            final V vertex = vertexOf(id);
+            int position = outOffsets[id];
+            for (E edge : graph.getOutgoingEdges(vertex)) {
+                outTargets[position] = ids.get(opposite(edge, vertex), vertices);
+                outEdges[position++] = edge;
+            }
+        }
+
+        if (directed) {
+            // Incoming adjacency is transposed outgoing adjacency.
+            this.inOffsets = new int[count + 1];
+            for (int target : outTargets) {
+                inOffsets[target + 1]++;
+            }
+            for (int id = 0; id < count; id++) {
+                inOffsets[id + 1] += inOffsets[id];
+            }
+            this.inSources = new int[outTargets.length];
+            this.inEdgeIds = new int[outTargets.length];
+            final int[] next = Arrays.copyOf(inOffsets, count);
+            for (int id = 0; id < count; id++) {
+                for (int position = outOffsets[id]; position < outOffsets[id + 1]; position++) {
+                    final int inPosition = next[outTargets[position]]++;
+                    inSources[inPosition] = id;
+                    inEdgeIds[inPosition] = position;
+                }
+            }
+            this.outEdgeIds = null;
+            this.edgePositions = null;
+        } else {
+            this.inOffsets = outOffsets;
+            this.inSources = outTargets;
+
+            // Each edge is stored for both ends. The second position gets id of the first one.
+            this.outEdgeIds = new int[outTargets.length];
+            final Map<Object, Integer> firstIds = new HashMap<>(capacityFor(outTargets.length / 2));
+            int[] positions = new int[outTargets.length];
+            int edgeCount = 0;
+            for (int position = 0; position < outEdges.length; position++) {
+                final Integer existing = firstIds.remove(outEdges[position]);
+                if (existing == null) {
+                    firstIds.put(outEdges[position], edgeCount);
+                    positions[edgeCount] = position;
+                    outEdgeIds[position] = edgeCount++;
+                } else {
+                    outEdgeIds[position] = existing;
+                }
+            }
+            this.inEdgeIds = outEdgeIds;
+            this.edgePositions = Arrays.copyOf(positions, edgeCount);
+        }
+    }
+
+    /**
+     * Creates immutable CSR snapshot of provided graph.
+     * If provided graph is indexed, snapshot keeps the same vertex ids.
+     *
+     * @param graph graph to copy. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return immutable snapshot.
+     * @throws NullPointerException if graph is null.
+     */
+    public static <V, E extends Edge<V>> CsrGraph<V, E> of(Graph<V, E> graph) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        if (graph instanceof CsrGraph) {
+            return (CsrGraph<V, E>) graph;
+        }
+        return new CsrGraph<>(graph);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return selfLoopSupported;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return ids.get(vertex, vertices) != UNKNOWN_ID;
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return new VertexArraySet<>(this);
+    }
+
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public void addEdge(E edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsEdge(E edge) {
+        final int sourceId = ids.get(edge.getSource(), vertices);
+        if (sourceId == UNKNOWN_ID) {
+            return false;
+        }
+        for (int i = outOffsets[sourceId]; i < outOffsets[sourceId + 1]; i++) {
+            final Edge<?> stored = (Edge<?>) outEdges[i];
+            // Undirected edges could be stored in opposite direction.
+            if (directed ? stored.equals(edge) : stored.equalsIgnoreDirection(edge)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        final int id = requireId(vertex);
+        return new EdgeArraySet<>(outEdges, outOffsets[id], outOffsets[id + 1]);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        final int id = requireId(vertex);
+        if (!directed) {
+            return new EdgeArraySet<>(outEdges, inOffsets[id], inOffsets[id + 1]);
+        }
+        return new EdgeArraySet<>(outEdges, inEdgeIds, inOffsets[id], inOffsets[id + 1]);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertices.length;
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        return ids.get(vertex, vertices);
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        if (id < 0 || id >= vertices.length) {
+            throw new IllegalArgumentException(VertexDictionary.MSG_UNKNOWN_ID);
+        }
+        return (V) vertices[id];
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return outOffsets[id + 1] - outOffsets[id];
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return outTargets[outOffsets[id] + index];
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return (E) outEdges[outOffsets[id] + index];
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return inOffsets[id + 1] - inOffsets[id];
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return inSources[inOffsets[id] + index];
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        final int position = inOffsets[id] + index;
+        return (E) outEdges[directed ? inEdgeIds[position] : position];
+    }
+
+    @Override
+    public int edgeCount() {
+        return directed ? outEdges.length : edgePositions.length;
+    }
+
+    @Override
+    public int outgoingEdgeId(int id, int index) {
+        final int position = outOffsets[id] + index;
+        return directed ? position : outEdgeIds[position];
+    }
+
+    @Override
+    public int incomingEdgeId(int id, int index) {
+        return inEdgeIds[inOffsets[id] + index];
+    }
+
+    @Override
+    public E edgeOf(int edgeId) {
+        if (edgeId < 0 || edgeId >= edgeCount()) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_EDGE_ID);
+        }
+        return (E) outEdges[directed ? edgeId : edgePositions[edgeId]];
+    }
+
+    private int requireId(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final int id = ids.get(vertex, vertices);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return id;
+    }
+
+    private static <V> V opposite(Edge<V> edge, V vertex) {
+        return vertex.equals(edge.getSource()) ? edge.getTarget() : edge.getSource();
+    }
+
+    private static int capacityFor(int count) {
+        return (int) (count / LOAD_FACTOR) + 1;
+    }
+}
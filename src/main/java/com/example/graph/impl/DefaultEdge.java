@@ -65,6 +65,20 @@ public class DefaultEdge<V> implements Edge<V> {
         return target.equals(that.target);
     }
 
+    @Override
+    public boolean equalsIgnoreDirection(Edge<?> other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        final DefaultEdge<?> that = (DefaultEdge<?>) other;
+        return source.equals(that.source) && target.equals(that.target)
+                || source.equals(that.target) && target.equals(that.source);
+    }
+
     @Override
     public int hashCode() {
         int result = source.hashCode();
@@ -0,0 +1,57 @@
+package com.example.graph.impl;
+
+import com.example.graph.WeightedEdge;
+
+/**
+ * Default weighted edge implementation.
+ * Weight is not a part of edge identity, edges with the same source and target are equal.
+ * Should be immutable.
+ *
+ * @param <V> vertex class.
+ */
+public class DefaultWeightedEdge<V> extends DefaultEdge<V> implements WeightedEdge<V> {
+    private final double weight;
+
+    /**
+     * Constructor of edge with default weight.
+     *
+     * @param source source vertex; Can't be null.
+     * @param target target vertex; Can't be null.
+     * @throws NullPointerException when source or target are null.
+     */
+    public DefaultWeightedEdge(final V source, final V target) {
+        this(source, target, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source source vertex; Can't be null.
+     * @param target target vertex; Can't be null.
+     * @param weight edge weight.
+     * @throws NullPointerException when source or target are null.
+     */
+    public DefaultWeightedEdge(final V source, final V target, final double weight) {
+        super(source, target);
+        this.weight = weight;
+    }
+
+    @Override
+    public double getWeight() {
+        return weight;
+    }
+
+    @Override
+    public DefaultWeightedEdge<V> getOpposite() {
+        return new DefaultWeightedEdge<>(getTarget(), getSource(), weight);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultWeightedEdge{"
+                + "source=" + getSource()
+                + ", target=" + getTarget()
+                + ", weight=" + weight
+                + '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.graph.impl;
+
+/**
+ * Directed multigraph implementation.
+ * Edges are implemented by MultiEdge.class and keep their edge ids.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class DirectedMultigraphImpl<V> extends AbstractMultigraph<V, MultiEdge<V>> {
+
+    /**
+     * Default constructor.
+     */
+    public DirectedMultigraphImpl() {
+        super();
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    protected MultiEdge<V> createEdge(V sourceVertex, V targetVertex, int edgeId) {
+        return new MultiEdge<>(sourceVertex, targetVertex, edgeId);
+    }
+}
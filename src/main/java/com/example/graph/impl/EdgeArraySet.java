@@ -0,0 +1,84 @@
+package com.example.graph.impl;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unmodifiable set view over a part of edges array, directly or through an array of positions.
+ * Array part should contain unique edges and should not be changed while view is used.
+ *
+ * @param <E> edge type.
+ */
+final class EdgeArraySet<E> extends AbstractSet<E> {
+    private final Object[] edges;
+    // Positions of edges in edges array or null if the part is viewed directly.
+    private final int[] positions;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructor.
+     *
+     * @param edges array of edges.
+     * @param from first index, inclusive.
+     * @param to last index, exclusive.
+     */
+    EdgeArraySet(Object[] edges, int from, int to) {
+        this(edges, null, from, to);
+    }
+
+    /**
+     * Constructor of view through positions.
+     *
+     * @param edges array of edges.
+     * @param positions positions of edges in edges array.
+     * @param from first index of positions, inclusive.
+     * @param to last index of positions, exclusive.
+     */
+    EdgeArraySet(Object[] edges, int[] positions, int from, int to) {
+        this.edges = edges;
+        this.positions = positions;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int position = from;
+
+            @Override
+            public boolean hasNext() {
+                return position < to;
+            }
+
+            @Override
+            public E next() {
+                if (position >= to) {
+                    throw new NoSuchElementException();
+                }
+                return (E) edgeAt(position++);
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (int i = from; i < to; i++) {
+            if (edgeAt(i).equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    private Object edgeAt(int index) {
+        return edges[positions == null ? index : positions[index]];
+    }
+}
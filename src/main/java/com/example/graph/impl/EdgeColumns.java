@@ -0,0 +1,412 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.EdgeIndexedGraph;
+import com.example.graph.Graph;
+import com.example.graph.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_SHOULD_BE_NON_NULL;
+import static com.example.graph.impl.CsrGraph.MSG_UNKNOWN_EDGE_ID;
+
+/**
+ * Columnar store of edge attributes.
+ * Each attribute is kept in its own primitive array indexed by edge id,
+ * so algorithms could scan e.g. weights sequentially instead of calling getters of edge objects.
+ * Weight costs 8 bytes per edge, long attribute 8 bytes, dictionary encoded attribute 4 bytes.
+ * Columns are filled from edges of the graph when they are added and could be changed later by edge id.
+ * Weighted traversals which are given these columns read the WEIGHT column by edge id
+ * instead of edge objects when they traverse the graph of the columns.
+ * Values of unused edge ids are 0 or null.
+ * Not thread safe for writes.
+ *
+ * @param <E> edge type.
+ */
+public final class EdgeColumns<E extends Edge<?>> {
+    public static final String MSG_UNKNOWN_COLUMN = "Unknown column";
+    public static final String MSG_COLUMN_ALREADY_EXISTS = "Column already exists";
+    public static final String MSG_COLUMN_NAME_SHOULD_BE_NON_NULL = "Column name should be not null";
+    public static final String MSG_COLUMN_IS_TOO_SHORT = "Column does not cover all edge ids of the graph";
+
+    /**
+     * Name of weight column which is created by withWeights.
+     */
+    public static final String WEIGHT = "weight";
+
+    private final EdgeIndexedGraph<?, E> graph;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    /**
+     * Constructor. Creates store without columns.
+     *
+     * @param graph graph which assigns edge ids. Can't be null.
+     */
+    public EdgeColumns(EdgeIndexedGraph<?, E> graph) {
+        this.graph = Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+    }
+
+    /**
+     * Creates store with weight column filled by WeightedEdge.getWeight.
+     *
+     * @param graph graph with weighted edges. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return columns with WEIGHT column.
+     */
+    public static <V, E extends WeightedEdge<V>> EdgeColumns<E> withWeights(EdgeIndexedGraph<V, E> graph) {
+        final EdgeColumns<E> columns = new EdgeColumns<>(graph);
+        columns.addDoubleColumn(WEIGHT, WeightedEdge::getWeight);
+        return columns;
+    }
+
+    /**
+     * Get names of columns.
+     *
+     * @return unmodifiable set of names in order of addition.
+     */
+    public Set<String> getColumnNames() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    /**
+     * Add double column and fill it from edges.
+     *
+     * @param name column name. Can't be null.
+     * @param extractor function which gets attribute from edge.
+     * @return new column.
+     * @throws IllegalArgumentException if column with the same name exists.
+     */
+    public DoubleColumn addDoubleColumn(String name, ToDoubleFunction<? super E> extractor) {
+        Objects.requireNonNull(extractor);
+        final int count = graph.edgeCount();
+        final double[] values = new double[count];
+        for (int edgeId = 0; edgeId < count; edgeId++) {
+            if (graph.containsEdgeId(edgeId)) {
+                values[edgeId] = extractor.applyAsDouble(graph.edgeOf(edgeId));
+            }
+        }
+        return register(name, new DoubleColumn(values));
+    }
+
+    /**
+     * Add long column and fill it from edges.
+     * Int, short and boolean attributes could be kept in this column too.
+     *
+     * @param name column name. Can't be null.
+     * @param extractor function which gets attribute from edge.
+     * @return new column.
+     * @throws IllegalArgumentException if column with the same name exists.
+     */
+    public LongColumn addLongColumn(String name, ToLongFunction<? super E> extractor) {
+        Objects.requireNonNull(extractor);
+        final int count = graph.edgeCount();
+        final long[] values = new long[count];
+        for (int edgeId = 0; edgeId < count; edgeId++) {
+            if (graph.containsEdgeId(edgeId)) {
+                values[edgeId] = extractor.applyAsLong(graph.edgeOf(edgeId));
+            }
+        }
+        return register(name, new LongColumn(values));
+    }
+
+    /**
+     * Add dictionary encoded column and fill it from edges.
+     * Each distinct value is kept once, edges keep int codes of values.
+     * It suits attributes with few distinct values, e.g. enums.
+     *
+     * @param name column name. Can't be null.
+     * @param extractor function which gets attribute from edge. Values could be null.
+     * @param <T> attribute type.
+     * @return new column.
+     * @throws IllegalArgumentException if column with the same name exists.
+     */
+    public <T> DictionaryColumn<T> addDictionaryColumn(String name, Function<? super E, ? extends T> extractor) {
+        Objects.requireNonNull(extractor);
+        final int count = graph.edgeCount();
+        final DictionaryColumn<T> column = new DictionaryColumn<>(count);
+        for (int edgeId = 0; edgeId < count; edgeId++) {
+            if (graph.containsEdgeId(edgeId)) {
+                column.set(edgeId, extractor.apply(graph.edgeOf(edgeId)));
+            }
+        }
+        return register(name, column);
+    }
+
+    /**
+     * Get double column.
+     *
+     * @param name column name.
+     * @return column.
+     * @throws IllegalArgumentException if there is no double column with such name.
+     */
+    public DoubleColumn getDoubleColumn(String name) {
+        return get(name, DoubleColumn.class);
+    }
+
+    /**
+     * Get long column.
+     *
+     * @param name column name.
+     * @return column.
+     * @throws IllegalArgumentException if there is no long column with such name.
+     */
+    public LongColumn getLongColumn(String name) {
+        return get(name, LongColumn.class);
+    }
+
+    /**
+     * Get dictionary encoded column.
+     *
+     * @param name column name.
+     * @param <T> attribute type.
+     * @return column.
+     * @throws IllegalArgumentException if there is no dictionary column with such name.
+     */
+    public <T> DictionaryColumn<T> getDictionaryColumn(String name) {
+        return get(name, DictionaryColumn.class);
+    }
+
+    /**
+     * Check if columns were created for the graph, so edge ids of the graph index the columns.
+     *
+     * @param other graph.
+     * @return true - columns were created for this graph object.
+     */
+    public boolean isBuiltFor(Graph<?, ?> other) {
+        return graph == other;
+    }
+
+    private <C extends Column> C register(String name, C column) {
+        Objects.requireNonNull(name, MSG_COLUMN_NAME_SHOULD_BE_NON_NULL);
+        if (columns.putIfAbsent(name, column) != null) {
+            throw new IllegalArgumentException(MSG_COLUMN_ALREADY_EXISTS);
+        }
+        return column;
+    }
+
+    private <C extends Column> C get(String name, Class<? super C> type) {
+        Objects.requireNonNull(name, MSG_COLUMN_NAME_SHOULD_BE_NON_NULL);
+        final Column column = columns.get(name);
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_COLUMN);
+        }
+        return (C) column;
+    }
+
+    private static void checkEdgeId(int edgeId, int size) {
+        if (edgeId < 0 || edgeId >= size) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_EDGE_ID);
+        }
+    }
+
+    /**
+     * Base column class.
+     */
+    public abstract static class Column {
+        Column() {
+        }
+
+        /**
+         * Get count of values.
+         *
+         * @return count of values. It is the count of edge ids when column was created or grown.
+         */
+        public abstract int size();
+
+        /**
+         * Make sure column could keep values of edge ids less than provided count.
+         * New values are 0 or null.
+         *
+         * @param count count of edge ids.
+         */
+        public abstract void ensureSize(int count);
+    }
+
+    /**
+     * Column of double values.
+     */
+    public static final class DoubleColumn extends Column {
+        private double[] values;
+
+        private DoubleColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public void ensureSize(int count) {
+            if (count > values.length) {
+                values = Arrays.copyOf(values, count);
+            }
+        }
+
+        /**
+         * Get value.
+         *
+         * @param edgeId edge id.
+         * @return value.
+         */
+        public double get(int edgeId) {
+            return values[edgeId];
+        }
+
+        /**
+         * Set value.
+         *
+         * @param edgeId edge id.
+         * @param value new value.
+         */
+        public void set(int edgeId, double value) {
+            checkEdgeId(edgeId, values.length);
+            values[edgeId] = value;
+        }
+
+        /**
+         * Copy values into array.
+         *
+         * @return array of values indexed by edge id.
+         */
+        public double[] toArray() {
+            return values.clone();
+        }
+    }
+
+    /**
+     * Column of long values.
+     */
+    public static final class LongColumn extends Column {
+        private long[] values;
+
+        private LongColumn(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public void ensureSize(int count) {
+            if (count > values.length) {
+                values = Arrays.copyOf(values, count);
+            }
+        }
+
+        /**
+         * Get value.
+         *
+         * @param edgeId edge id.
+         * @return value.
+         */
+        public long get(int edgeId) {
+            return values[edgeId];
+        }
+
+        /**
+         * Set value.
+         *
+         * @param edgeId edge id.
+         * @param value new value.
+         */
+        public void set(int edgeId, long value) {
+            checkEdgeId(edgeId, values.length);
+            values[edgeId] = value;
+        }
+    }
+
+    /**
+     * Dictionary encoded column.
+     * Code 0 is reserved for null.
+     *
+     * @param <T> attribute type.
+     */
+    public static final class DictionaryColumn<T> extends Column {
+        private int[] codes;
+        private final List<T> dictionary = new ArrayList<>();
+        private final Map<T, Integer> codesByValue = new HashMap<>();
+
+        private DictionaryColumn(int size) {
+            this.codes = new int[size];
+            dictionary.add(null);
+        }
+
+        @Override
+        public int size() {
+            return codes.length;
+        }
+
+        @Override
+        public void ensureSize(int count) {
+            if (count > codes.length) {
+                codes = Arrays.copyOf(codes, count);
+            }
+        }
+
+        /**
+         * Get value.
+         *
+         * @param edgeId edge id.
+         * @return value. Could be null.
+         */
+        public T get(int edgeId) {
+            return dictionary.get(codes[edgeId]);
+        }
+
+        /**
+         * Get code of value. Edges with the same value have the same code.
+         *
+         * @param edgeId edge id.
+         * @return code of value. 0 for null.
+         */
+        public int getCode(int edgeId) {
+            return codes[edgeId];
+        }
+
+        /**
+         * Get count of distinct values including null.
+         *
+         * @return count of codes.
+         */
+        public int getDictionarySize() {
+            return dictionary.size();
+        }
+
+        /**
+         * Set value.
+         *
+         * @param edgeId edge id.
+         * @param value new value. Could be null.
+         */
+        public void set(int edgeId, T value) {
+            checkEdgeId(edgeId, codes.length);
+            if (value == null) {
+                codes[edgeId] = 0;
+                return;
+            }
+            Integer code = codesByValue.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codesByValue.put(value, code);
+            }
+            codes[edgeId] = code;
+        }
+    }
+}
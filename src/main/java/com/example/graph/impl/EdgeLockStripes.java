@@ -0,0 +1,62 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks for edge writes.
+ * Stripe depends on both edge ends and does not depend on direction,
+ * so edge and its opposite always share a lock.
+ */
+final class EdgeLockStripes {
+    private static final int STRIPES_PER_PROCESSOR = 4;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * Default constructor.
+     * Count of stripes depends on count of available processors.
+     */
+    EdgeLockStripes() {
+        final int wanted = Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR;
+        final int count = Integer.highestOneBit(wanted - 1) << 1;
+        this.locks = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Get lock of edge.
+     *
+     * @param edge edge to lock.
+     * @return lock of stripe.
+     */
+    ReentrantLock lockFor(Edge<?> edge) {
+        int hash = edge.getSource().hashCode() + edge.getTarget().hashCode();
+        hash ^= hash >>> Short.SIZE;
+        return locks[hash & mask];
+    }
+
+    /**
+     * Acquire all stripes in fixed order.
+     * It is used by operations which change edges of many stripes, e.g. vertex removal.
+     */
+    void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    /**
+     * Release all stripes acquired by lockAll.
+     */
+    void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+}
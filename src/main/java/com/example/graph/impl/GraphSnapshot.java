@@ -0,0 +1,356 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.IndexedGraph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_IS_IMMUTABLE;
+
+/**
+ * Immutable view of versioned graph at some epoch.
+ * Snapshots of different epochs share unchanged parts of adjacency,
+ * so creating a snapshot costs O(1) and reading it never blocks.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class GraphSnapshot<V, E extends Edge<V>> implements IndexedGraph<V, E> {
+    private final long epoch;
+    private final boolean directed;
+    private final boolean selfLoopSupported;
+
+    // Vertex ids of all epochs. Vertices with ids out of this snapshot are not visible.
+    private final Map<V, Integer> ids;
+    private final int vertexCount;
+
+    private final PersistentArray vertices;
+    private final PersistentArray outgoing;
+    // The same array as outgoing for undirected graphs.
+    private final PersistentArray incoming;
+
+    /**
+     * Constructor.
+     *
+     * @param epoch snapshot epoch.
+     * @param directed true - graph is directed.
+     * @param selfLoopSupported true - graph supports self loops.
+     * @param ids vertex ids of all epochs.
+     * @param vertices vertices by id.
+     * @param outgoing outgoing adjacency by id.
+     * @param incoming incoming adjacency by id.
+     */
+    GraphSnapshot(long epoch,
+                  boolean directed,
+                  boolean selfLoopSupported,
+                  Map<V, Integer> ids,
+                  PersistentArray vertices,
+                  PersistentArray outgoing,
+                  PersistentArray incoming) {
+        this.epoch = epoch;
+        this.directed = directed;
+        this.selfLoopSupported = selfLoopSupported;
+        this.ids = ids;
+        this.vertexCount = vertices.size();
+        this.vertices = vertices;
+        this.outgoing = outgoing;
+        this.incoming = incoming;
+    }
+
+    /**
+     * Get snapshot epoch.
+     * Each mutation of versioned graph creates a new epoch.
+     *
+     * @return epoch.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return selfLoopSupported;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        return idOf(vertex) != UNKNOWN_ID;
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return new AbstractSet<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private int id;
+
+                    @Override
+                    public boolean hasNext() {
+                        return id < vertexCount;
+                    }
+
+                    @Override
+                    public V next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return vertexOf(id++);
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o != null && containsVertex((V) o);
+            }
+
+            @Override
+            public int size() {
+                return vertexCount;
+            }
+        };
+    }
+
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public void addEdge(E edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsEdge(E edge) {
+        final int sourceId = idOf(edge.getSource());
+        return sourceId != UNKNOWN_ID && adjacency(outgoing, sourceId).indexOf(edge, directed) >= 0;
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        final Adjacency adjacency = adjacency(outgoing, requireId(vertex));
+        return new EdgeArraySet<>(adjacency.edges, 0, adjacency.degree);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        final Adjacency adjacency = adjacency(incoming, requireId(vertex));
+        return new EdgeArraySet<>(adjacency.edges, 0, adjacency.degree);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final Integer id = ids.get(vertex);
+        return id == null || id >= vertexCount ? UNKNOWN_ID : id;
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        if (id < 0 || id >= vertexCount) {
+            throw new IllegalArgumentException(VertexDictionary.MSG_UNKNOWN_ID);
+        }
+        return (V) vertices.get(id);
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return adjacency(outgoing, id).degree;
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return adjacency(outgoing, id).ids[index];
+    }
+
+    @Override
+    public E outgoingEdge(int id, int index) {
+        return (E) adjacency(outgoing, id).edges[index];
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return adjacency(incoming, id).degree;
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return adjacency(incoming, id).ids[index];
+    }
+
+    @Override
+    public E incomingEdge(int id, int index) {
+        return (E) adjacency(incoming, id).edges[index];
+    }
+
+    PersistentArray getVertexArray() {
+        return vertices;
+    }
+
+    PersistentArray getOutgoingArray() {
+        return outgoing;
+    }
+
+    PersistentArray getIncomingArray() {
+        return incoming;
+    }
+
+    static Adjacency adjacency(PersistentArray array, int id) {
+        return (Adjacency) array.get(id);
+    }
+
+    private int requireId(V vertex) {
+        final int id = idOf(vertex);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return id;
+    }
+
+    /**
+     * Adjacency of one vertex.
+     * Appending writes into free tail of shared arrays, so older adjacency objects
+     * which see fewer entries stay valid. Only the latest adjacency of arrays may be appended.
+     */
+    static final class Adjacency {
+        static final Adjacency EMPTY = new Adjacency(new int[0], new Object[0], 0);
+
+        private static final int DEFAULT_CAPACITY = 4;
+
+        private final int[] ids;
+        private final Object[] edges;
+        private final int degree;
+
+        private Adjacency(int[] ids, Object[] edges, int degree) {
+            this.ids = ids;
+            this.edges = edges;
+            this.degree = degree;
+        }
+
+        int getDegree() {
+            return degree;
+        }
+
+        Object getEdge(int index) {
+            return edges[index];
+        }
+
+        int getId(int index) {
+            return ids[index];
+        }
+
+        /**
+         * Create adjacency with one more edge.
+         *
+         * @param id neighbor id.
+         * @param edge edge.
+         * @return new adjacency.
+         */
+        Adjacency append(int id, Object edge) {
+            int[] newIds = ids;
+            Object[] newEdges = edges;
+            if (degree == ids.length) {
+                final int capacity = Math.max(DEFAULT_CAPACITY, degree * 2);
+                newIds = Arrays.copyOf(ids, capacity);
+                newEdges = Arrays.copyOf(edges, capacity);
+            }
+            newIds[degree] = id;
+            newEdges[degree] = edge;
+            return new Adjacency(newIds, newEdges, degree + 1);
+        }
+
+        /**
+         * Create adjacency without one edge.
+         * Arrays are copied, because they are shared with older snapshots.
+         *
+         * @param index index of edge to remove.
+         * @return new adjacency.
+         */
+        Adjacency remove(int index) {
+            final int[] newIds = new int[ids.length];
+            final Object[] newEdges = new Object[edges.length];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(edges, 0, newEdges, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, degree - index - 1);
+            System.arraycopy(edges, index + 1, newEdges, index, degree - index - 1);
+            return new Adjacency(newIds, newEdges, degree - 1);
+        }
+
+        /**
+         * Create adjacency where neighbor id is replaced.
+         *
+         * @param oldId id to replace.
+         * @param newId new id.
+         * @return new adjacency or this adjacency if it does not refer to old id.
+         */
+        Adjacency rename(int oldId, int newId) {
+            int[] newIds = null;
+            for (int i = 0; i < degree; i++) {
+                if (ids[i] == oldId) {
+                    if (newIds == null) {
+                        newIds = Arrays.copyOf(ids, ids.length);
+                    }
+                    newIds[i] = newId;
+                }
+            }
+            return newIds == null ? this : new Adjacency(newIds, edges, degree);
+        }
+
+        /**
+         * Find edge.
+         *
+         * @param edge edge to find.
+         * @param directed false - edges in opposite direction are the same.
+         * @return index of edge or -1 if edge not found.
+         */
+        int indexOf(Edge<?> edge, boolean directed) {
+            for (int i = 0; i < degree; i++) {
+                final Edge<?> stored = (Edge<?>) edges[i];
+                if (directed ? stored.equals(edge) : stored.equalsIgnoreDirection(edge)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
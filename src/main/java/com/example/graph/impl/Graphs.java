@@ -0,0 +1,40 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+
+import java.util.Objects;
+
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * Static helpers over graphs.
+ */
+public final class Graphs {
+
+    private Graphs() {
+    }
+
+    /**
+     * Get immutable indexed snapshot of graph.
+     * Immutable graphs are returned as they are, multi version graphs return their latest snapshot in O(1),
+     * other graphs are copied into CsrGraph, which keeps vertex ids of indexed graphs.
+     * Later changes of the graph are not visible in the snapshot, so its vertex ids stay valid.
+     *
+     * @param graph graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return immutable snapshot.
+     */
+    public static <V, E extends Edge<V>> IndexedGraph<V, E> freeze(Graph<V, E> graph) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        if (graph instanceof CsrGraph || graph instanceof GraphSnapshot || graph instanceof MappedGraph) {
+            return (IndexedGraph<V, E>) graph;
+        }
+        if (graph instanceof AbstractVersionedGraph) {
+            return ((AbstractVersionedGraph<V, E>) graph).snapshot();
+        }
+        return CsrGraph.of(graph);
+    }
+}
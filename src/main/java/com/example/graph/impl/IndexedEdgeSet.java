@@ -0,0 +1,82 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.IndexedGraph;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unmodifiable set view over adjacency of one vertex of indexed graph.
+ * It is used by graphs which do not keep edge objects and create them on access.
+ * Edges are identified by source and target.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+final class IndexedEdgeSet<V, E extends Edge<V>> extends AbstractSet<E> {
+    private final IndexedGraph<V, E> graph;
+    private final int id;
+    private final boolean incoming;
+
+    /**
+     * Constructor.
+     *
+     * @param graph graph to view.
+     * @param id vertex id.
+     * @param incoming true - view of incoming edges; false - view of outgoing edges.
+     */
+    IndexedEdgeSet(IndexedGraph<V, E> graph, int id, boolean incoming) {
+        this.graph = graph;
+        this.id = id;
+        this.incoming = incoming;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return incoming ? graph.incomingEdge(id, index++) : graph.outgoingEdge(id, index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Edge)) {
+            return false;
+        }
+        final Edge<V> edge = (Edge<V>) o;
+        final V self = incoming ? edge.getTarget() : edge.getSource();
+        final V neighbor = incoming ? edge.getSource() : edge.getTarget();
+        if (!graph.vertexOf(id).equals(self) || !graph.containsVertex(neighbor)) {
+            return false;
+        }
+
+        final int neighborId = graph.idOf(neighbor);
+        final int size = size();
+        for (int i = 0; i < size; i++) {
+            if ((incoming ? graph.incomingId(id, i) : graph.outgoingId(id, i)) == neighborId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return incoming ? graph.inDegree(id) : graph.outDegree(id);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.graph.impl;
+
+import java.util.Arrays;
+
+/**
+ * Hash set of non negative longs without boxing.
+ * Values are kept in a long array with open addressing and linear probing, -1 is an empty slot.
+ * Not thread safe.
+ */
+final class LongHashSet {
+    private static final int MIN_CAPACITY = 16;
+    // Table is kept at most half full.
+    private static final int LOAD_SHIFT = 1;
+    // Fibonacci hashing spreads keys which differ only in low or high bits.
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final long EMPTY = -1L;
+    private long[] slots;
+    private int mask;
+    private int shift;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize count of values which fit without rehash.
+     */
+    LongHashSet(int expectedSize) {
+        allocate(expectedSize);
+    }
+
+    /**
+     * Add value.
+     *
+     * @param value non negative value.
+     * @return true - value was added, false - value is already in the set.
+     */
+    boolean add(long value) {
+        int slot = slotOf(value);
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) << LOAD_SHIFT > slots.length) {
+            final long[] old = slots;
+            allocate(size + 1);
+            for (long stored : old) {
+                if (stored != EMPTY) {
+                    insert(stored);
+                }
+            }
+            insert(value);
+        } else {
+            slots[slot] = value;
+        }
+        size++;
+        return true;
+    }
+
+    private void insert(long value) {
+        int slot = slotOf(value);
+        while (slots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+    }
+
+    private void allocate(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < (long) expectedSize << LOAD_SHIFT) {
+            capacity <<= 1;
+        }
+        slots = new long[capacity];
+        Arrays.fill(slots, EMPTY);
+        mask = capacity - 1;
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private int slotOf(long value) {
+        return (int) ((value * HASH_MULTIPLIER) >>> shift);
+    }
+}
@@ -0,0 +1,495 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.VertexCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_IS_IMMUTABLE;
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * Immutable graph which is served straight from memory mapped file.
+ * File contains header, vertex table and CSR offsets and neighbor ids for both directions:
+ * <pre>
+ * header: magic, version, flags, vertex count, counts and positions of sections;
+ * vertex index: long[vertexCount + 1] positions of encoded vertices;
+ * outgoing offsets: long[vertexCount + 1];
+ * incoming offsets: long[vertexCount + 1] (directed graphs only);
+ * outgoing targets: int[outgoing count];
+ * incoming sources: int[incoming count] (directed graphs only);
+ * vertex hash table: int[capacity] id + 1 or 0 for empty slot, open addressing by hash of encoded vertex;
+ * vertex data: encoded vertices.
+ * </pre>
+ * Opening does not read adjacency, so pages are loaded on demand and shared between processes through page cache.
+ * Vertices are looked up by id in the hash table of the file: the vertex is encoded once
+ * and compared with stored bytes, so no dictionary is built in heap.
+ * Edges are stored by their ends and are created as DefaultEdge on access.
+ *
+ * @param <V> vertex type.
+ */
+public final class MappedGraph<V> implements IndexedGraph<V, DefaultEdge<V>> {
+    public static final String MSG_UNSUPPORTED_FORMAT = "Unsupported graph file format";
+    public static final String MSG_CODEC_SHOULD_BE_NON_NULL = "Vertex codec should be not null";
+
+    private static final int MAGIC = 0x47524148;
+    private static final int VERSION = 2;
+    private static final int FLAG_DIRECTED = 1;
+    private static final int FLAG_SELF_LOOPS = 2;
+    private static final int FLAGS_POSITION = 8;
+    private static final int VERTEX_COUNT_POSITION = 12;
+    private static final int SECTIONS_POSITION = 32;
+    private static final int HEADER_SIZE = 96;
+    private static final int ALIGNMENT = Long.BYTES;
+    private static final int MIN_TABLE_CAPACITY = 16;
+    // Hash table is kept at most half full.
+    private static final int LOAD_SHIFT = 1;
+    // FNV-1a hash of encoded vertex, so the table does not depend on hashCode of vertex class.
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final int BYTE_MASK = 0xFF;
+
+    // Segment size is a multiple of alignment, so aligned values never cross segments.
+    private static final long SEGMENT_SIZE = 1073741824L;
+
+    private final VertexCodec<V> codec;
+    private final MappedByteBuffer[] segments;
+
+    private final boolean directed;
+    private final boolean selfLoopSupported;
+    private final int vertexCount;
+    private final long vertexIndexPosition;
+    private final long outOffsetsPosition;
+    private final long inOffsetsPosition;
+    private final long outTargetsPosition;
+    private final long inSourcesPosition;
+    private final long vertexHashPosition;
+    private final long vertexDataPosition;
+    private final int tableMask;
+
+    private MappedGraph(MappedByteBuffer[] segments, VertexCodec<V> codec) throws IOException {
+        this.segments = segments;
+        this.codec = codec;
+        if (getInt(0) != MAGIC || getInt(Integer.BYTES) != VERSION) {
+            throw new IOException(MSG_UNSUPPORTED_FORMAT);
+        }
+        final int flags = getInt(FLAGS_POSITION);
+        this.directed = (flags & FLAG_DIRECTED) != 0;
+        this.selfLoopSupported = (flags & FLAG_SELF_LOOPS) != 0;
+        this.vertexCount = getInt(VERTEX_COUNT_POSITION);
+        long position = SECTIONS_POSITION;
+        this.vertexIndexPosition = getLong(position);
+        position += Long.BYTES;
+        this.outOffsetsPosition = getLong(position);
+        position += Long.BYTES;
+        this.inOffsetsPosition = getLong(position);
+        position += Long.BYTES;
+        this.outTargetsPosition = getLong(position);
+        position += Long.BYTES;
+        this.inSourcesPosition = getLong(position);
+        position += Long.BYTES;
+        this.vertexHashPosition = getLong(position);
+        position += Long.BYTES;
+        this.vertexDataPosition = getLong(position);
+        position += Long.BYTES;
+        this.tableMask = (int) getLong(position) - 1;
+    }
+
+    /**
+     * Write graph into file.
+     * Vertex ids of indexed graphs are kept.
+     *
+     * @param graph graph to write. Can't be null.
+     * @param file file to write. Existing file is replaced.
+     * @param codec vertex codec. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @throws IOException if file can't be written.
+     */
+    public static <V, E extends Edge<V>> void write(Graph<V, E> graph, Path file, VertexCodec<V> codec) throws IOException {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(codec, MSG_CODEC_SHOULD_BE_NON_NULL);
+        final CsrGraph<V, E> csr = CsrGraph.of(graph);
+        final int count = csr.vertexCount();
+        final boolean directed = csr.isDirected();
+
+        final byte[][] encoded = new byte[count][];
+        long outCount = 0;
+        long inCount = 0;
+        for (int id = 0; id < count; id++) {
+            encoded[id] = codec.encode(csr.vertexOf(id));
+            outCount += csr.outDegree(id);
+            inCount += directed ? csr.inDegree(id) : 0;
+        }
+        final int[] table = hashTable(encoded);
+
+        final long offsetsSize = (long) (count + 1) * Long.BYTES;
+        final long vertexIndexPosition = HEADER_SIZE;
+        final long outOffsetsPosition = vertexIndexPosition + offsetsSize;
+        final long inOffsetsPosition = directed ? outOffsetsPosition + offsetsSize : outOffsetsPosition;
+        final long outTargetsPosition = (directed ? inOffsetsPosition : outOffsetsPosition) + offsetsSize;
+        final long inSourcesPosition = directed ? align(outTargetsPosition + outCount * Integer.BYTES) : outTargetsPosition;
+        final long vertexHashPosition = align(inSourcesPosition + (directed ? inCount : outCount) * Integer.BYTES);
+        // Capacity is a power of two not less than 16, so vertex data stays aligned.
+        final long vertexDataPosition = vertexHashPosition + (long) table.length * Integer.BYTES;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt((directed ? FLAG_DIRECTED : 0) | (csr.isSelfLoopSupported() ? FLAG_SELF_LOOPS : 0));
+            out.writeInt(count);
+            out.writeLong(outCount);
+            out.writeLong(inCount);
+            out.writeLong(vertexIndexPosition);
+            out.writeLong(outOffsetsPosition);
+            out.writeLong(inOffsetsPosition);
+            out.writeLong(outTargetsPosition);
+            out.writeLong(inSourcesPosition);
+            out.writeLong(vertexHashPosition);
+            out.writeLong(vertexDataPosition);
+            out.writeLong(table.length);
+
+            // Vertex index.
+            long vertexPosition = 0;
+            out.writeLong(vertexPosition);
+            for (byte[] bytes : encoded) {
+                vertexPosition += bytes.length;
+                out.writeLong(vertexPosition);
+            }
+
+            // Offsets.
+            writeOffsets(out, csr, false);
+            if (directed) {
+                writeOffsets(out, csr, true);
+            }
+
+            // Neighbors.
+            for (int id = 0; id < count; id++) {
+                for (int i = 0; i < csr.outDegree(id); i++) {
+                    out.writeInt(csr.outgoingId(id, i));
+                }
+            }
+            pad(out, outCount * Integer.BYTES);
+            if (directed) {
+                for (int id = 0; id < count; id++) {
+                    for (int i = 0; i < csr.inDegree(id); i++) {
+                        out.writeInt(csr.incomingId(id, i));
+                    }
+                }
+                pad(out, inCount * Integer.BYTES);
+            }
+
+            // Vertex hash table.
+            for (int slot : table) {
+                out.writeInt(slot);
+            }
+
+            // Vertex data.
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Open graph file.
+     * Adjacency is not read, file is only mapped into memory.
+     *
+     * @param file file created by write method.
+     * @param codec vertex codec. Can't be null.
+     * @param <V> vertex type.
+     * @return immutable graph.
+     * @throws IOException if file can't be read or has unsupported format.
+     */
+    public static <V> MappedGraph<V> open(Path file, VertexCodec<V> codec) throws IOException {
+        Objects.requireNonNull(codec, MSG_CODEC_SHOULD_BE_NON_NULL);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException(MSG_UNSUPPORTED_FORMAT);
+            }
+            final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                final long position = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+            }
+            return new MappedGraph<>(segments, codec);
+        }
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public boolean isSelfLoopSupported() {
+        return selfLoopSupported;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsVertex(V vertex) {
+        return idOf(vertex) != UNKNOWN_ID;
+    }
+
+    /**
+     * Get vertices. The set reads vertices from the file by id, they are decoded on each access.
+     *
+     * @return unmodifiable set of vertices.
+     */
+    @Override
+    public Set<V> getVertices() {
+        return new AbstractSet<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return IntStream.range(0, vertexCount).mapToObj(MappedGraph.this::vertexOf).iterator();
+            }
+
+            @Override
+            public int size() {
+                return vertexCount;
+            }
+
+            @Override
+            public boolean contains(Object vertex) {
+                return vertex != null && containsVertex((V) vertex);
+            }
+        };
+    }
+
+    @Override
+    public void addEdge(V sourceVertex, V targetVertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public void addEdge(DefaultEdge<V> edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeVertex(V vertex) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean removeEdge(DefaultEdge<V> edge) {
+        throw new UnsupportedOperationException(MSG_GRAPH_IS_IMMUTABLE);
+    }
+
+    @Override
+    public boolean containsEdge(DefaultEdge<V> edge) {
+        final int sourceId = idOf(edge.getSource());
+        final int targetId = idOf(edge.getTarget());
+        if (sourceId == UNKNOWN_ID || targetId == UNKNOWN_ID) {
+            return false;
+        }
+        final int degree = outDegree(sourceId);
+        for (int i = 0; i < degree; i++) {
+            if (outgoingId(sourceId, i) == targetId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<DefaultEdge<V>> getOutgoingEdges(V vertex) {
+        return new IndexedEdgeSet<>(this, requireId(vertex), false);
+    }
+
+    @Override
+    public Set<DefaultEdge<V>> getIncomingEdges(V vertex) {
+        return new IndexedEdgeSet<>(this, requireId(vertex), true);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Get id of vertex by the hash table of the file.
+     * Vertex is encoded by codec and its bytes are compared with stored vertices of the probed slots.
+     *
+     * @param vertex vertex. Can't be null.
+     * @return id or UNKNOWN_ID.
+     */
+    @Override
+    public int idOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final byte[] bytes = codec.encode(vertex);
+        int slot = hash(bytes) & tableMask;
+        int value = getInt(vertexHashPosition + (long) slot * Integer.BYTES);
+        while (value != 0) {
+            if (isEncodedAs(value - 1, bytes)) {
+                return value - 1;
+            }
+            slot = (slot + 1) & tableMask;
+            value = getInt(vertexHashPosition + (long) slot * Integer.BYTES);
+        }
+        return UNKNOWN_ID;
+    }
+
+    @Override
+    public V vertexOf(int id) {
+        if (id < 0 || id >= vertexCount) {
+            throw new IllegalArgumentException(VertexDictionary.MSG_UNKNOWN_ID);
+        }
+        final long from = getLong(vertexIndexPosition + (long) id * Long.BYTES);
+        final long to = getLong(vertexIndexPosition + (long) (id + 1) * Long.BYTES);
+        final byte[] bytes = new byte[(int) (to - from)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = getByte(vertexDataPosition + from + i);
+        }
+        return codec.decode(bytes);
+    }
+
+    @Override
+    public int outDegree(int id) {
+        return degree(outOffsetsPosition, id);
+    }
+
+    @Override
+    public int outgoingId(int id, int index) {
+        return neighbor(outOffsetsPosition, outTargetsPosition, id, index);
+    }
+
+    @Override
+    public DefaultEdge<V> outgoingEdge(int id, int index) {
+        return new DefaultEdge<>(vertexOf(id), vertexOf(outgoingId(id, index)));
+    }
+
+    @Override
+    public int inDegree(int id) {
+        return degree(inOffsetsPosition, id);
+    }
+
+    @Override
+    public int incomingId(int id, int index) {
+        return neighbor(inOffsetsPosition, inSourcesPosition, id, index);
+    }
+
+    @Override
+    public DefaultEdge<V> incomingEdge(int id, int index) {
+        return new DefaultEdge<>(vertexOf(incomingId(id, index)), vertexOf(id));
+    }
+
+    private int degree(long offsetsPosition, int id) {
+        final long position = offsetsPosition + (long) id * Long.BYTES;
+        return (int) (getLong(position + Long.BYTES) - getLong(position));
+    }
+
+    private int neighbor(long offsetsPosition, long neighborsPosition, int id, int index) {
+        final long offset = getLong(offsetsPosition + (long) id * Long.BYTES);
+        return getInt(neighborsPosition + (offset + index) * Integer.BYTES);
+    }
+
+    private int requireId(V vertex) {
+        final int id = idOf(vertex);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return id;
+    }
+
+    private boolean isEncodedAs(int id, byte[] bytes) {
+        final long from = getLong(vertexIndexPosition + (long) id * Long.BYTES);
+        final long to = getLong(vertexIndexPosition + (long) (id + 1) * Long.BYTES);
+        if (to - from != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (getByte(vertexDataPosition + from + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte getByte(long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+    }
+
+    private int getInt(long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].getInt((int) (position % SEGMENT_SIZE));
+    }
+
+    private long getLong(long position) {
+        return segments[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+    }
+
+    /**
+     * Build open addressing table of vertex ids by hash of encoded vertices.
+     */
+    private static int[] hashTable(byte[][] encoded) {
+        int capacity = MIN_TABLE_CAPACITY;
+        while (capacity < (long) encoded.length << LOAD_SHIFT) {
+            capacity <<= 1;
+        }
+        final int[] table = new int[capacity];
+        final int mask = capacity - 1;
+        for (int id = 0; id < encoded.length; id++) {
+            int slot = hash(encoded[id]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+        return table;
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = FNV_OFFSET_BASIS;
+        for (byte value : bytes) {
+            hash = (hash ^ (value & BYTE_MASK)) * FNV_PRIME;
+        }
+        // FNV is weak in low bits, which select the slot.
+        return hash ^ (hash >>> Integer.SIZE / 2);
+    }
+
+    private static void writeOffsets(DataOutputStream out, CsrGraph<?, ?> csr, boolean incoming) throws IOException {
+        long offset = 0;
+        out.writeLong(offset);
+        for (int id = 0; id < csr.vertexCount(); id++) {
+            offset += incoming ? csr.inDegree(id) : csr.outDegree(id);
+            out.writeLong(offset);
+        }
+    }
+
+    private static void pad(DataOutputStream out, long written) throws IOException {
+        for (long i = written; i < align(written); i++) {
+            out.writeByte(0);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+
+import java.util.Objects;
+
+/**
+ * Edge of multigraph.
+ * Edge is identified by its id, so parallel edges between the same vertices are different edges.
+ * Should be immutable.
+ *
+ * @param <V> vertex class.
+ */
+public class MultiEdge<V> implements Edge<V> {
+    // It is used because of checkstyle [MagicNumber] error.
+    private static final int CONSTANT_FOR_HASH_CODE = 31;
+
+    private final V source;
+    private final V target;
+    private final int id;
+
+    /**
+     * Default constructor.
+     *
+     * @param source source vertex; Can't be null.
+     * @param target target vertex; Can't be null.
+     * @param id edge id.
+     * @throws NullPointerException when source or target are null.
+     */
+    public MultiEdge(final V source, final V target, final int id) {
+        Objects.requireNonNull(source, "Edge source vertex can't be null");
+        Objects.requireNonNull(target, "Edge target vertex can't be null");
+
+        this.source = source;
+        this.target = target;
+        this.id = id;
+    }
+
+    @Override
+    public V getSource() {
+        return source;
+    }
+
+    @Override
+    public V getTarget() {
+        return target;
+    }
+
+    /**
+     * Get edge id.
+     *
+     * @return id which was assigned by multigraph.
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public MultiEdge<V> getOpposite() {
+        return new MultiEdge<>(target, source, id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final MultiEdge<?> that = (MultiEdge<?>) o;
+        return id == that.id && source.equals(that.source) && target.equals(that.target);
+    }
+
+    @Override
+    public boolean equalsIgnoreDirection(Edge<?> other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        final MultiEdge<?> that = (MultiEdge<?>) other;
+        return id == that.id
+                && (source.equals(that.source) && target.equals(that.target)
+                || source.equals(that.target) && target.equals(that.source));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = source.hashCode();
+        result = CONSTANT_FOR_HASH_CODE * result + target.hashCode();
+        result = CONSTANT_FOR_HASH_CODE * result + id;
+        return result;
+    }
+
+    @Override
+    public int hashCodeIgnoreDirection() {
+        return source.hashCode() + target.hashCode() + id;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiEdge{"
+                + "source=" + source
+                + ", target=" + target
+                + ", id=" + id
+                + '}';
+    }
+}
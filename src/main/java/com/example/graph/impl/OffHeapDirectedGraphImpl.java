@@ -0,0 +1,37 @@
+package com.example.graph.impl;
+
+/**
+ * Directed graph implementation with off heap adjacency.
+ * Edges are implemented by DefaultEdge.class and are created on access.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class OffHeapDirectedGraphImpl<V> extends AbstractOffHeapGraph<V, DefaultEdge<V>> {
+
+    /**
+     * Default constructor.
+     */
+    public OffHeapDirectedGraphImpl() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize size of direct buffer chunk in bytes.
+     * @throws IllegalArgumentException if chunk size is not a positive multiple of 16.
+     */
+    public OffHeapDirectedGraphImpl(int chunkSize) {
+        super(chunkSize);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
+        return new DefaultEdge<>(sourceVertex, targetVertex);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.graph.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable int lists which keep their values in direct byte buffers.
+ * Each list occupies a contiguous block of capacity 2^k ints inside one buffer chunk.
+ * Full blocks are moved into twice larger blocks and old blocks are reused by later lists.
+ * Heap usage depends only on count of lists, not on count of values.
+ * Not thread safe.
+ */
+final class OffHeapIntLists {
+    private static final int MIN_BLOCK_SHIFT = 2;
+    // Larger block does not fit into one direct buffer.
+    private static final int MAX_BLOCK_SHIFT = 28;
+    private static final int SIZE_CLASSES = Integer.SIZE;
+    private static final int OFFSET_BITS = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+    private static final int DEFAULT_LISTS = 16;
+
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks;
+
+    // Chunk which is used for new small blocks.
+    private int currentChunk;
+    private int chunkPosition;
+
+    // Free blocks by size class.
+    private final long[][] freeBlocks;
+    private final int[] freeBlockCounts;
+
+    // Block address, size and size class of each list.
+    private long[] addresses;
+    private int[] sizes;
+    private byte[] shifts;
+    private int count;
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize size of direct buffer chunk in bytes. Positive multiple of the smallest block size.
+     * @throws IllegalArgumentException if chunk size is not positive or is not a multiple of the smallest block size.
+     */
+    OffHeapIntLists(int chunkSize) {
+        if (chunkSize <= 0 || chunkSize % blockBytes(MIN_BLOCK_SHIFT) != 0) {
+            throw new IllegalArgumentException(AbstractOffHeapGraph.MSG_CHUNK_SIZE_IS_INVALID);
+        }
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayList<>();
+        this.chunkPosition = chunkSize;
+        this.freeBlocks = new long[SIZE_CLASSES][];
+        this.freeBlockCounts = new int[SIZE_CLASSES];
+        this.addresses = new long[DEFAULT_LISTS];
+        this.sizes = new int[DEFAULT_LISTS];
+        this.shifts = new byte[DEFAULT_LISTS];
+    }
+
+    /**
+     * Create new empty list.
+     *
+     * @return list id.
+     */
+    int newList() {
+        if (count == addresses.length) {
+            addresses = Arrays.copyOf(addresses, count * 2);
+            sizes = Arrays.copyOf(sizes, count * 2);
+            shifts = Arrays.copyOf(shifts, count * 2);
+        }
+        addresses[count] = -1L;
+        return count++;
+    }
+
+    int size(int list) {
+        return sizes[list];
+    }
+
+    int get(int list, int index) {
+        final long address = addresses[list];
+        return chunk(address).getInt(offset(address) + index * Integer.BYTES);
+    }
+
+    /**
+     * Append value to the list.
+     *
+     * @param list list id.
+     * @param value value to add.
+     * @throws IllegalStateException if list already has max count of values.
+     */
+    void add(int list, int value) {
+        final int size = sizes[list];
+        if (addresses[list] < 0) {
+            addresses[list] = allocate(MIN_BLOCK_SHIFT);
+            shifts[list] = MIN_BLOCK_SHIFT;
+        } else if (size == 1 << shifts[list]) {
+            if (shifts[list] == MAX_BLOCK_SHIFT) {
+                throw new IllegalStateException(AbstractOffHeapGraph.MSG_ADJACENCY_IS_TOO_LARGE);
+            }
+            grow(list);
+        }
+        final long address = addresses[list];
+        chunk(address).putInt(offset(address) + size * Integer.BYTES, value);
+        sizes[list] = size + 1;
+    }
+
+    /**
+     * Find value in the list.
+     *
+     * @param list list id.
+     * @param value value to find.
+     * @return index of value or -1 if value not found.
+     */
+    int indexOf(int list, int value) {
+        final int size = sizes[list];
+        if (size == 0) {
+            return -1;
+        }
+        final long address = addresses[list];
+        final ByteBuffer chunk = chunk(address);
+        final int offset = offset(address);
+        for (int i = 0; i < size; i++) {
+            if (chunk.getInt(offset + i * Integer.BYTES) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void grow(int list) {
+        final long oldAddress = addresses[list];
+        final int oldShift = shifts[list];
+        final long newAddress = allocate(oldShift + 1);
+
+        final ByteBuffer source = chunk(oldAddress).duplicate();
+        source.position(offset(oldAddress)).limit(offset(oldAddress) + (int) blockBytes(oldShift));
+        final ByteBuffer target = chunk(newAddress).duplicate();
+        target.position(offset(newAddress));
+        target.put(source);
+
+        release(oldAddress, oldShift);
+        addresses[list] = newAddress;
+        shifts[list] = (byte) (oldShift + 1);
+    }
+
+    private long allocate(int shift) {
+        if (freeBlockCounts[shift] > 0) {
+            return freeBlocks[shift][--freeBlockCounts[shift]];
+        }
+
+        final long bytes = blockBytes(shift);
+        if (bytes > chunkSize) {
+            // Dedicated chunk for large blocks.
+            chunks.add(allocateChunk((int) bytes));
+            return (long) (chunks.size() - 1) << OFFSET_BITS;
+        }
+        if (chunkPosition + bytes > chunkSize) {
+            chunks.add(allocateChunk(chunkSize));
+            currentChunk = chunks.size() - 1;
+            chunkPosition = 0;
+        }
+        final long address = ((long) currentChunk << OFFSET_BITS) | chunkPosition;
+        chunkPosition += (int) bytes;
+        return address;
+    }
+
+    private static long blockBytes(int shift) {
+        return (long) Integer.BYTES << shift;
+    }
+
+    private void release(long address, int shift) {
+        if (freeBlocks[shift] == null) {
+            freeBlocks[shift] = new long[DEFAULT_LISTS];
+        } else if (freeBlockCounts[shift] == freeBlocks[shift].length) {
+            freeBlocks[shift] = Arrays.copyOf(freeBlocks[shift], freeBlockCounts[shift] * 2);
+        }
+        freeBlocks[shift][freeBlockCounts[shift]++] = address;
+    }
+
+    private ByteBuffer chunk(long address) {
+        return chunks.get((int) (address >>> OFFSET_BITS));
+    }
+
+    private static int offset(long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+
+    private static ByteBuffer allocateChunk(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.graph.impl;
+
+/**
+ * Undirected graph implementation with off heap adjacency.
+ * Edges are implemented by DefaultEdge.class and are created on access.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class OffHeapUndirectedGraphImpl<V> extends AbstractOffHeapGraph<V, DefaultEdge<V>> {
+
+    /**
+     * Default constructor.
+     */
+    public OffHeapUndirectedGraphImpl() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize size of direct buffer chunk in bytes.
+     * @throws IllegalArgumentException if chunk size is not a positive multiple of 16.
+     */
+    public OffHeapUndirectedGraphImpl(int chunkSize) {
+        super(chunkSize);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return false;
+    }
+
+    @Override
+    protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
+        return new DefaultEdge<>(sourceVertex, targetVertex);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.graph.impl;
+
+/**
+ * Immutable array with structural sharing.
+ * Values are kept in a radix tree with 32 slots per node,
+ * so set and append copy only the nodes on the path to the changed slot.
+ */
+final class PersistentArray {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Empty array.
+     */
+    static final PersistentArray EMPTY = new PersistentArray(new Object[WIDTH], 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentArray(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get value.
+     *
+     * @param index index in range [0, size()).
+     * @return value.
+     */
+    Object get(int index) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node[index & MASK];
+    }
+
+    /**
+     * Create array with changed value.
+     *
+     * @param index index in range [0, size()).
+     * @param value new value.
+     * @return new array. This array is not changed.
+     */
+    PersistentArray set(int index, Object value) {
+        return new PersistentArray(set(root, shift, index, value), shift, size);
+    }
+
+    /**
+     * Create array with value appended to the end.
+     *
+     * @param value value to append.
+     * @return new array. This array is not changed.
+     */
+    PersistentArray append(Object value) {
+        if (size == 1L << (shift + BITS)) {
+            // Tree is full, add one more level.
+            final Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            return new PersistentArray(set(newRoot, shift + BITS, size, value), shift + BITS, size + 1);
+        }
+        return new PersistentArray(set(root, shift, size, value), shift, size + 1);
+    }
+
+    /**
+     * Create array without the last value.
+     *
+     * @return new array. This array is not changed.
+     */
+    PersistentArray removeLast() {
+        return new PersistentArray(set(root, shift, size - 1, null), shift, size - 1);
+    }
+
+    private static Object[] set(Object[] node, int level, int index, Object value) {
+        final Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            final int slot = (index >>> level) & MASK;
+            final Object[] child = (Object[]) node[slot];
+            copy[slot] = set(child == null ? new Object[WIDTH] : child, level - BITS, index, value);
+        }
+        return copy;
+    }
+}
@@ -17,6 +17,15 @@ public class SimpleDirectedGraphImpl<V> extends AbstractDirectedGraph<V, Default
         super();
     }
 
+    /**
+     * Constructor.
+     *
+     * @param indexed true - keep vertex dictionary with dense int ids.
+     */
+    public SimpleDirectedGraphImpl(boolean indexed) {
+        super(indexed);
+    }
+
     @Override
     protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
         return new DefaultEdge<>(sourceVertex, targetVertex);
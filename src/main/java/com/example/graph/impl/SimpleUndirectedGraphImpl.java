@@ -17,6 +17,15 @@ public class SimpleUndirectedGraphImpl<V> extends AbstractUndirectedGraph<V, Def
         super();
     }
 
+    /**
+     * Constructor.
+     *
+     * @param indexed true - keep vertex dictionary with dense int ids.
+     */
+    public SimpleUndirectedGraphImpl(boolean indexed) {
+        super(indexed);
+    }
+
     @Override
     protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
         return new DefaultEdge<>(sourceVertex, targetVertex);
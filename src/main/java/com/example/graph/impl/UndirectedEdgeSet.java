@@ -0,0 +1,190 @@
+package com.example.graph.impl;
+
+import com.example.graph.Edge;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Set of undirected edges.
+ * Edges are compared by Edge.equalsIgnoreDirection and Edge.hashCodeIgnoreDirection,
+ * so an edge and its opposite are the same element and lookups never create opposite edges.
+ * Edges are stored in the orientation they were added.
+ * Uses open addressing with linear probing. Not thread safe.
+ *
+ * @param <E> edge type.
+ */
+public final class UndirectedEdgeSet<E extends Edge<?>> extends AbstractSet<E> {
+    public static final String MSG_EDGE_SHOULD_BE_NON_NULL = "Edge should be non null";
+
+    private static final int DEFAULT_CAPACITY = 8;
+    // It is used because of checkstyle [MagicNumber] error.
+    private static final int HASH_SHIFT = 16;
+
+    private Object[] table;
+    private int size;
+
+    /**
+     * Default constructor.
+     */
+    public UndirectedEdgeSet() {
+        this.table = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize count of edges which fit without resize.
+     */
+    public UndirectedEdgeSet(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < 2L * expectedSize) {
+            capacity <<= 1;
+        }
+        this.table = new Object[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Edge && indexOf((Edge<?>) o) >= 0;
+    }
+
+    /**
+     * Find stored edge which is the same as provided one ignoring direction.
+     *
+     * @param edge edge to find.
+     * @return stored edge or null if it is not found.
+     */
+    public E find(Edge<?> edge) {
+        final int index = indexOf(edge);
+        return index < 0 ? null : (E) table[index];
+    }
+
+    @Override
+    public boolean add(E edge) {
+        Objects.requireNonNull(edge, MSG_EDGE_SHOULD_BE_NON_NULL);
+        final int mask = table.length - 1;
+        int index = slot(edge, mask);
+        while (table[index] != null) {
+            if (((Edge<?>) table[index]).equalsIgnoreDirection(edge)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = edge;
+        size++;
+        // Keep load factor not greater than 0.5.
+        if (size * 2 > table.length) {
+            resize();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Edge)) {
+            return false;
+        }
+        int index = indexOf((Edge<?>) o);
+        if (index < 0) {
+            return false;
+        }
+
+        // Shift following entries back to keep probe sequences without gaps.
+        final int mask = table.length - 1;
+        int next = (index + 1) & mask;
+        while (table[next] != null) {
+            final int home = slot((Edge<?>) table[next], mask);
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                table[index] = table[next];
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[index] = null;
+        size--;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        table = new Object[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns iterator over edges.
+     * Iterator does not support removal.
+     *
+     * @return iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Object[] entries = table;
+            private int index = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < entries.length;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final E edge = (E) entries[index];
+                index = advance(index + 1);
+                return edge;
+            }
+
+            private int advance(int from) {
+                int i = from;
+                while (i < entries.length && entries[i] == null) {
+                    i++;
+                }
+                return i;
+            }
+        };
+    }
+
+    private int indexOf(Edge<?> edge) {
+        final int mask = table.length - 1;
+        int index = slot(edge, mask);
+        while (table[index] != null) {
+            if (((Edge<?>) table[index]).equalsIgnoreDirection(edge)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        final Object[] old = table;
+        table = new Object[old.length * 2];
+        final int mask = table.length - 1;
+        for (Object entry : old) {
+            if (entry != null) {
+                int index = slot((Edge<?>) entry, mask);
+                while (table[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = entry;
+            }
+        }
+    }
+
+    private static int slot(Edge<?> edge, int mask) {
+        final int hash = edge.hashCodeIgnoreDirection();
+        return (hash ^ (hash >>> HASH_SHIFT)) & mask;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.graph.impl;
+
+/**
+ * Multi version directed graph implementation.
+ * Use snapshot() to get immutable view of the latest epoch.
+ * Edges are implemented by DefaultEdge.class and can be replaced.
+ *
+ * @param <V> type of vertex. Any immutable class.
+ */
+public class VersionedDirectedGraphImpl<V> extends AbstractVersionedGraph<V, DefaultEdge<V>> {
+
+    /**
+     * Default constructor.
+     */
+    public VersionedDirectedGraphImpl() {
+        super();
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    protected DefaultEdge<V> createEdge(V sourceVertex, V targetVertex) {
+        return new DefaultEdge<>(sourceVertex, targetVertex);
+    }
+}
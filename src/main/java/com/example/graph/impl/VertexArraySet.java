@@ -0,0 +1,58 @@
+package com.example.graph.impl;
+
+import com.example.graph.IndexedGraph;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+
+/**
+ * Unmodifiable set view over vertices of indexed graph in order of ids.
+ * It is used by graphs which keep vertices in arrays instead of a set.
+ *
+ * @param <V> vertex type.
+ */
+final class VertexArraySet<V> extends AbstractSet<V> {
+    private final IndexedGraph<V, ?> graph;
+
+    /**
+     * Constructor.
+     *
+     * @param graph graph to view.
+     */
+    VertexArraySet(IndexedGraph<V, ?> graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+            private int id;
+
+            @Override
+            public boolean hasNext() {
+                return id < size();
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return graph.vertexOf(id++);
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && graph.idOf((V) o) != UNKNOWN_ID;
+    }
+
+    @Override
+    public int size() {
+        return graph.vertexCount();
+    }
+}
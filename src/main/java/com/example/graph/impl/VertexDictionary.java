@@ -0,0 +1,372 @@
+package com.example.graph.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Vertex dictionary which assigns dense int ids to vertices and keeps adjacency by id.
+ * Ids are found by VertexIdTable over the vertex array, so lookups do not box ids.
+ * For undirected graphs incoming adjacency is the same as outgoing.
+ * Not thread safe.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class VertexDictionary<V, E> {
+    public static final String MSG_UNKNOWN_ID = "Unknown vertex id";
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_DEGREE_CAPACITY = 4;
+
+    private final boolean directed;
+    private final VertexIdTable ids;
+
+    private Object[] vertices;
+    private int size;
+
+    private int[][] outIds;
+    private Object[][] outEdges;
+    private int[] outDegrees;
+
+    private int[][] inIds;
+    private Object[][] inEdges;
+    private int[] inDegrees;
+
+    /**
+     * Default constructor.
+     *
+     * @param directed true - keep separate incoming adjacency;
+     *                 false - edges are registered for both ends as outgoing.
+     */
+    public VertexDictionary(boolean directed) {
+        this.directed = directed;
+        this.ids = new VertexIdTable(DEFAULT_CAPACITY);
+        this.vertices = new Object[DEFAULT_CAPACITY];
+        this.outIds = new int[DEFAULT_CAPACITY][];
+        this.outEdges = new Object[DEFAULT_CAPACITY][];
+        this.outDegrees = new int[DEFAULT_CAPACITY];
+        if (directed) {
+            this.inIds = new int[DEFAULT_CAPACITY][];
+            this.inEdges = new Object[DEFAULT_CAPACITY][];
+            this.inDegrees = new int[DEFAULT_CAPACITY];
+        }
+    }
+
+    /**
+     * Add vertex if it does not exist.
+     *
+     * @param vertex vertex to add. Can't be null.
+     * @return vertex id.
+     */
+    public int add(V vertex) {
+        Objects.requireNonNull(vertex);
+        final int existing = ids.get(vertex, vertices);
+        if (existing >= 0) {
+            return existing;
+        }
+
+        ensureArrayCapacity(size + 1);
+        final int id = size++;
+        vertices[id] = vertex;
+        ids.add(id, vertices);
+        return id;
+    }
+
+    /**
+     * Get vertex id.
+     *
+     * @param vertex vertex to find.
+     * @return vertex id or -1 if vertex is unknown.
+     */
+    public int idOf(V vertex) {
+        return vertex == null ? -1 : ids.get(vertex, vertices);
+    }
+
+    /**
+     * Get vertex by id.
+     *
+     * @param id vertex id.
+     * @return vertex.
+     * @throws IllegalArgumentException if id is unknown.
+     */
+    @SuppressWarnings("unchecked")
+    public V vertexOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_ID);
+        }
+        return (V) vertices[id];
+    }
+
+    /**
+     * Get count of vertices.
+     *
+     * @return count of vertices.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prepare storage for vertices, so the batch does not grow arrays and rehash ids more than once.
+     *
+     * @param vertexCount expected count of vertices.
+     */
+    public void ensureCapacity(int vertexCount) {
+        ensureArrayCapacity(vertexCount);
+        ids.ensureCapacity(vertexCount, vertices);
+    }
+
+    /**
+     * Prepare outgoing adjacency of vertex for more edges, so the batch grows it once.
+     *
+     * @param id vertex id.
+     * @param count count of edges which will be added.
+     */
+    public void reserveOutgoing(int id, int count) {
+        final int capacity = outDegrees[id] + count;
+        if (outIds[id] == null) {
+            outIds[id] = new int[Math.max(capacity, DEFAULT_DEGREE_CAPACITY)];
+            outEdges[id] = new Object[outIds[id].length];
+        } else if (capacity > outIds[id].length) {
+            outIds[id] = Arrays.copyOf(outIds[id], capacity);
+            outEdges[id] = Arrays.copyOf(outEdges[id], capacity);
+        }
+    }
+
+    /**
+     * Register edge between two known vertices.
+     *
+     * @param sourceId source vertex id.
+     * @param targetId target vertex id.
+     * @param edge edge object.
+     */
+    public void addEdge(int sourceId, int targetId, E edge) {
+        appendOut(sourceId, targetId, edge);
+        if (directed) {
+            appendIn(targetId, sourceId, edge);
+        } else {
+            appendOut(targetId, sourceId, edge);
+        }
+    }
+
+    /**
+     * Unregister edge between two known vertices. Costs O(degree) of both vertices.
+     * Order of remaining edges could change.
+     *
+     * @param sourceId source vertex id.
+     * @param targetId target vertex id.
+     * @param edge edge object.
+     */
+    public void removeEdge(int sourceId, int targetId, E edge) {
+        removeEntry(outIds, outEdges, outDegrees, sourceId, edge);
+        if (directed) {
+            removeEntry(inIds, inEdges, inDegrees, targetId, edge);
+        } else {
+            removeEntry(outIds, outEdges, outDegrees, targetId, edge);
+        }
+    }
+
+    /**
+     * Remove vertex without edges. All edges of the vertex should be removed before.
+     * Vertex with the last id takes id of removed vertex, so ids stay dense.
+     * Costs O(degree) of moved vertex and its neighbors.
+     *
+     * @param vertex vertex to remove.
+     * @return true - vertex was removed;
+     *         false - vertex is unknown.
+     */
+    public boolean remove(V vertex) {
+        final int id = vertex == null ? -1 : ids.remove(vertex, vertices);
+        if (id < 0) {
+            return false;
+        }
+
+        final int last = --size;
+        if (id != last) {
+            ids.rename(vertices[last], last, id);
+            vertices[id] = vertices[last];
+            moveAdjacency(outIds, outEdges, outDegrees, last, id);
+            if (directed) {
+                moveAdjacency(inIds, inEdges, inDegrees, last, id);
+                // Neighbors keep the old id in the opposite adjacency.
+                renameInNeighbors(outIds, outDegrees, inIds, inDegrees, id, last);
+                renameInNeighbors(inIds, inDegrees, outIds, outDegrees, id, last);
+            } else {
+                renameInNeighbors(outIds, outDegrees, outIds, outDegrees, id, last);
+            }
+        }
+        clear(last);
+        return true;
+    }
+
+    /**
+     * Get count of outgoing edges.
+     *
+     * @param id vertex id.
+     * @return count of outgoing edges.
+     */
+    public int outDegree(int id) {
+        return outDegrees[id];
+    }
+
+    /**
+     * Get outgoing neighbor id.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return neighbor id.
+     */
+    public int outgoingId(int id, int index) {
+        return outIds[id][index];
+    }
+
+    /**
+     * Get outgoing edge.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return edge.
+     */
+    @SuppressWarnings("unchecked")
+    public E outgoingEdge(int id, int index) {
+        return (E) outEdges[id][index];
+    }
+
+    /**
+     * Get count of incoming edges.
+     *
+     * @param id vertex id.
+     * @return count of incoming edges.
+     */
+    public int inDegree(int id) {
+        return directed ? inDegrees[id] : outDegrees[id];
+    }
+
+    /**
+     * Get incoming neighbor id.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return neighbor id.
+     */
+    public int incomingId(int id, int index) {
+        return directed ? inIds[id][index] : outIds[id][index];
+    }
+
+    /**
+     * Get incoming edge.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return edge.
+     */
+    @SuppressWarnings("unchecked")
+    public E incomingEdge(int id, int index) {
+        return (E) (directed ? inEdges[id][index] : outEdges[id][index]);
+    }
+
+    private void appendOut(int id, int neighborId, E edge) {
+        final int degree = outDegrees[id];
+        if (outIds[id] == null) {
+            outIds[id] = new int[DEFAULT_DEGREE_CAPACITY];
+            outEdges[id] = new Object[DEFAULT_DEGREE_CAPACITY];
+        } else if (degree == outIds[id].length) {
+            outIds[id] = Arrays.copyOf(outIds[id], degree * 2);
+            outEdges[id] = Arrays.copyOf(outEdges[id], degree * 2);
+        }
+        outIds[id][degree] = neighborId;
+        outEdges[id][degree] = edge;
+        outDegrees[id] = degree + 1;
+    }
+
+    private void appendIn(int id, int neighborId, E edge) {
+        final int degree = inDegrees[id];
+        if (inIds[id] == null) {
+            inIds[id] = new int[DEFAULT_DEGREE_CAPACITY];
+            inEdges[id] = new Object[DEFAULT_DEGREE_CAPACITY];
+        } else if (degree == inIds[id].length) {
+            inIds[id] = Arrays.copyOf(inIds[id], degree * 2);
+            inEdges[id] = Arrays.copyOf(inEdges[id], degree * 2);
+        }
+        inIds[id][degree] = neighborId;
+        inEdges[id][degree] = edge;
+        inDegrees[id] = degree + 1;
+    }
+
+    private static void removeEntry(int[][] adjacencyIds, Object[][] adjacencyEdges, int[] degrees, int id, Object edge) {
+        final int degree = degrees[id];
+        for (int i = 0; i < degree; i++) {
+            if (adjacencyEdges[id][i].equals(edge)) {
+                // Move the last entry into the free slot.
+                adjacencyIds[id][i] = adjacencyIds[id][degree - 1];
+                adjacencyEdges[id][i] = adjacencyEdges[id][degree - 1];
+                adjacencyEdges[id][degree - 1] = null;
+                degrees[id] = degree - 1;
+                return;
+            }
+        }
+    }
+
+    private static void moveAdjacency(int[][] adjacencyIds, Object[][] adjacencyEdges, int[] degrees, int from, int to) {
+        adjacencyIds[to] = adjacencyIds[from];
+        adjacencyEdges[to] = adjacencyEdges[from];
+        degrees[to] = degrees[from];
+    }
+
+    /**
+     * Replace old id of moved vertex in adjacency of its neighbors.
+     *
+     * @param movedIds adjacency of moved vertex.
+     * @param movedDegrees degrees of adjacency of moved vertex.
+     * @param neighborIds adjacency of neighbors which refers to moved vertex.
+     * @param neighborDegrees degrees of adjacency of neighbors.
+     * @param id new id.
+     * @param oldId old id.
+     */
+    private static void renameInNeighbors(int[][] movedIds,
+                                          int[] movedDegrees,
+                                          int[][] neighborIds,
+                                          int[] neighborDegrees,
+                                          int id,
+                                          int oldId) {
+        final int[] moved = movedIds[id];
+        for (int i = 0; i < movedDegrees[id]; i++) {
+            // Self loop refers to the moved vertex itself.
+            final int neighbor = moved[i] == oldId ? id : moved[i];
+            final int[] adjacency = neighborIds[neighbor];
+            for (int j = 0; j < neighborDegrees[neighbor]; j++) {
+                if (adjacency[j] == oldId) {
+                    adjacency[j] = id;
+                }
+            }
+        }
+    }
+
+    private void clear(int id) {
+        vertices[id] = null;
+        outIds[id] = null;
+        outEdges[id] = null;
+        outDegrees[id] = 0;
+        if (directed) {
+            inIds[id] = null;
+            inEdges[id] = null;
+            inDegrees[id] = 0;
+        }
+    }
+
+    private void ensureArrayCapacity(int capacity) {
+        if (capacity <= vertices.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, vertices.length * 2);
+        vertices = Arrays.copyOf(vertices, newCapacity);
+        outIds = Arrays.copyOf(outIds, newCapacity);
+        outEdges = Arrays.copyOf(outEdges, newCapacity);
+        outDegrees = Arrays.copyOf(outDegrees, newCapacity);
+        if (directed) {
+            inIds = Arrays.copyOf(inIds, newCapacity);
+            inEdges = Arrays.copyOf(inEdges, newCapacity);
+            inDegrees = Arrays.copyOf(inDegrees, newCapacity);
+        }
+    }
+}
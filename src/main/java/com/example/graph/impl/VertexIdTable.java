@@ -0,0 +1,155 @@
+package com.example.graph.impl;
+
+/**
+ * Hash index from vertex to its dense int id without boxing.
+ * Vertices themselves are kept by the owner in an array by id, the table keeps only ids in an int array
+ * with open addressing and linear probing, so it costs a few bytes per vertex instead of a map entry
+ * and an Integer. Lookups compare the vertex with vertices[id] of the owner's array.
+ * Not thread safe.
+ */
+final class VertexIdTable {
+    private static final int MIN_CAPACITY = 16;
+    // Table is kept at most half full.
+    private static final int LOAD_SHIFT = 1;
+    // Fibonacci hashing spreads poor hash codes like sequential Integers.
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    // Slot keeps id + 1, zero is an empty slot.
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param expectedSize count of vertices which fit without rehash.
+     */
+    VertexIdTable(int expectedSize) {
+        allocate(expectedSize);
+    }
+
+    /**
+     * Get count of vertices.
+     *
+     * @return count of vertices.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get id of vertex.
+     *
+     * @param vertex vertex, not null.
+     * @param vertices vertices by id.
+     * @return id or -1 if vertex is not in the table.
+     */
+    int get(Object vertex, Object[] vertices) {
+        int slot = slotOf(vertex);
+        while (slots[slot] != 0) {
+            final int id = slots[slot] - 1;
+            if (vertices[id].equals(vertex)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Add vertex which is not in the table yet. The vertex should be already stored at vertices[id].
+     *
+     * @param id id of the vertex.
+     * @param vertices vertices by id.
+     */
+    void add(int id, Object[] vertices) {
+        ensureCapacity(size + 1, vertices);
+        insert(id + 1, vertices);
+        size++;
+    }
+
+    /**
+     * Rehash the table once, so the expected count of vertices fits without further rehash.
+     *
+     * @param expectedSize expected count of vertices.
+     * @param vertices vertices by id.
+     */
+    void ensureCapacity(int expectedSize, Object[] vertices) {
+        if ((long) expectedSize << LOAD_SHIFT <= slots.length) {
+            return;
+        }
+        final int[] old = slots;
+        allocate(expectedSize);
+        for (int value : old) {
+            if (value != 0) {
+                insert(value, vertices);
+            }
+        }
+    }
+
+    /**
+     * Remove vertex.
+     *
+     * @param vertex vertex, not null.
+     * @param vertices vertices by id, the vertex should still be stored there.
+     * @return id of removed vertex or -1 if vertex is not in the table.
+     */
+    int remove(Object vertex, Object[] vertices) {
+        int slot = slotOf(vertex);
+        while (slots[slot] != 0 && !vertices[slots[slot] - 1].equals(vertex)) {
+            slot = (slot + 1) & mask;
+        }
+        if (slots[slot] == 0) {
+            return -1;
+        }
+        final int id = slots[slot] - 1;
+        // Backward shift deletion: move later entries of the probe chain into the hole.
+        int hole = slot;
+        for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+            final int home = slotOf(vertices[slots[next] - 1]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+        }
+        slots[hole] = 0;
+        size--;
+        return id;
+    }
+
+    /**
+     * Change id of vertex, when the owner moves it to another id.
+     *
+     * @param vertex vertex, not null.
+     * @param oldId current id.
+     * @param newId new id.
+     */
+    void rename(Object vertex, int oldId, int newId) {
+        int slot = slotOf(vertex);
+        while (slots[slot] != oldId + 1) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = newId + 1;
+    }
+
+    private void insert(int value, Object[] vertices) {
+        int slot = slotOf(vertices[value - 1]);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+    }
+
+    private void allocate(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < (long) expectedSize << LOAD_SHIFT) {
+            capacity <<= 1;
+        }
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotOf(Object vertex) {
+        final int hash = vertex.hashCode() * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> Integer.SIZE / 2)) & mask;
+    }
+}
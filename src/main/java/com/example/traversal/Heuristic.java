@@ -0,0 +1,20 @@
+package com.example.traversal;
+
+/**
+ * Estimate of distance between vertices which guides A* search.
+ * Estimate should be admissible: not negative and not greater than the real distance,
+ * otherwise found paths could be not optimal.
+ *
+ * @param <V> vertex type.
+ */
+@FunctionalInterface
+public interface Heuristic<V> {
+    /**
+     * Estimate distance from vertex to target.
+     *
+     * @param vertex current vertex.
+     * @param target target vertex.
+     * @return lower bound of distance.
+     */
+    double estimate(V vertex, V target);
+}
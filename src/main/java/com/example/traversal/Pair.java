@@ -0,0 +1,81 @@
+package com.example.traversal;
+
+import java.util.Objects;
+
+/**
+ * Immutable pair of values, e.g. source and target of a path query.
+ *
+ * @param <F> type of the first value.
+ * @param <S> type of the second value.
+ */
+public final class Pair<F, S> {
+    // It is used because of checkstyle [MagicNumber] error.
+    private static final int CONSTANT_FOR_HASH_CODE = 31;
+
+    private final F first;
+    private final S second;
+
+    /**
+     * Constructor.
+     *
+     * @param first the first value.
+     * @param second the second value.
+     */
+    public Pair(F first, S second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Create pair.
+     *
+     * @param first the first value.
+     * @param second the second value.
+     * @param <F> type of the first value.
+     * @param <S> type of the second value.
+     * @return new pair.
+     */
+    public static <F, S> Pair<F, S> of(F first, S second) {
+        return new Pair<>(first, second);
+    }
+
+    /**
+     * Get the first value.
+     *
+     * @return the first value, e.g. source vertex.
+     */
+    public F getFirst() {
+        return first;
+    }
+
+    /**
+     * Get the second value.
+     *
+     * @return the second value, e.g. target vertex.
+     */
+    public S getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Pair<?, ?> pair = (Pair<?, ?>) o;
+        return Objects.equals(first, pair.first) && Objects.equals(second, pair.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return CONSTANT_FOR_HASH_CODE * Objects.hashCode(first) + Objects.hashCode(second);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+}
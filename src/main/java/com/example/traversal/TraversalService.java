@@ -3,7 +3,18 @@ package com.example.traversal;
 import com.example.graph.Edge;
 import com.example.graph.Graph;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
 
 /**
  * Graph traversal service.
@@ -12,6 +23,10 @@ import java.util.List;
  * @param <E> edge type.
  */
 public interface TraversalService<V, E extends Edge<V>> {
+    String MSG_GRAPH_SHOULD_BE_NON_NULL = "Graph should be not null";
+    String MSG_TARGETS_SHOULD_BE_NON_NULL = "Target vertices should be not null";
+    String MSG_PAIRS_SHOULD_BE_NON_NULL = "Pairs should be not null";
+
     /**
      * Returns list of edges between source and target vertex.
      *
@@ -23,4 +38,72 @@ public interface TraversalService<V, E extends Edge<V>> {
      * @throws IllegalArgumentException if provided vertices do not exists in graph.
      */
     List<E> getPath(Graph<V, E> graph, V sourceVertex, V targetVertex);
+
+    /**
+     * Returns paths from source to each of target vertices.
+     * Implementations could answer all targets by one search from the source.
+     * By default getPath is called for each target.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertices target vertices. Can't be null.
+     * @return paths by target in order of targets. Path is empty if target is not reachable or is the source.
+     * @throws NullPointerException if graph, source, targets or any of targets is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph.
+     */
+    default Map<V, List<E>> getPaths(Graph<V, E> graph, V sourceVertex, Collection<V> targetVertices) {
+        Objects.requireNonNull(targetVertices, MSG_TARGETS_SHOULD_BE_NON_NULL);
+        final Map<V, List<E>> result = new LinkedHashMap<>();
+        for (V targetVertex : targetVertices) {
+            if (!result.containsKey(targetVertex)) {
+                result.put(targetVertex, getPath(graph, sourceVertex, targetVertex));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns paths between pairs of source and target vertices.
+     * Pairs are grouped by source, so each source is searched once by getPaths(Graph, V, Collection),
+     * and different sources are searched in parallel on the common fork join pool.
+     * Graph should not be changed until the result is returned.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param pairs pairs of source and target vertices. Can't be null.
+     * @return paths by pair in order of pairs. Path is empty if target is not reachable or is the source.
+     * @throws NullPointerException if graph, pairs, any pair or its vertex is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph.
+     */
+    default Map<Pair<V, V>, List<E>> getPaths(Graph<V, E> graph, Collection<Pair<V, V>> pairs) {
+        Objects.requireNonNull(pairs, MSG_PAIRS_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        // Arguments are checked before the parallel part, so errors are thrown from the calling thread.
+        final Map<V, List<V>> targetsBySource = new LinkedHashMap<>();
+        for (Pair<V, V> pair : pairs) {
+            Objects.requireNonNull(pair, MSG_PAIRS_SHOULD_BE_NON_NULL);
+            Objects.requireNonNull(pair.getFirst(), MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+            Objects.requireNonNull(pair.getSecond(), MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+            if (!graph.containsVertex(pair.getFirst())) {
+                throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+            }
+            if (!graph.containsVertex(pair.getSecond())) {
+                throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+            }
+            targetsBySource.computeIfAbsent(pair.getFirst(), source -> new ArrayList<>()).add(pair.getSecond());
+        }
+
+        final List<V> sources = new ArrayList<>(targetsBySource.keySet());
+        final List<Map<V, List<E>>> paths = sources.parallelStream()
+                .map(source -> getPaths(graph, source, targetsBySource.get(source)))
+                .collect(Collectors.toList());
+        final Map<V, Map<V, List<E>>> pathsBySource = new LinkedHashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            pathsBySource.put(sources.get(i), paths.get(i));
+        }
+        final Map<Pair<V, V>, List<E>> result = new LinkedHashMap<>();
+        for (Pair<V, V> pair : pairs) {
+            result.put(pair, pathsBySource.get(pair.getFirst()).get(pair.getSecond()));
+        }
+        return result;
+    }
 }
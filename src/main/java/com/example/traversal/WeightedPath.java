@@ -0,0 +1,73 @@
+package com.example.traversal;
+
+import com.example.graph.Edge;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Path with its total weight.
+ *
+ * @param <E> edge type.
+ */
+public final class WeightedPath<E extends Edge<?>> {
+    private final List<E> edges;
+    private final double weight;
+
+    /**
+     * Constructor.
+     *
+     * @param edges edges from source to target. Can't be null.
+     * @param weight sum of edge weights. Double.POSITIVE_INFINITY if there is no path.
+     */
+    public WeightedPath(List<E> edges, double weight) {
+        this.edges = Collections.unmodifiableList(Objects.requireNonNull(edges));
+        this.weight = weight;
+    }
+
+    /**
+     * Create result for not connected vertices.
+     *
+     * @param <E> edge type.
+     * @return empty path with infinite weight.
+     */
+    public static <E extends Edge<?>> WeightedPath<E> notFound() {
+        return new WeightedPath<>(Collections.emptyList(), Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Get edges of path.
+     *
+     * @return unmodifiable list of edges from source to target. Empty if path is not found or source is target.
+     */
+    public List<E> getEdges() {
+        return edges;
+    }
+
+    /**
+     * Get total weight of path.
+     *
+     * @return sum of edge weights. Double.POSITIVE_INFINITY if path is not found.
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Check if path exists.
+     *
+     * @return true - target is reachable from source.
+     */
+    public boolean isFound() {
+        return weight != Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedPath{"
+                + "edges=" + edges
+                + ", weight=" + weight
+                + '}';
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import com.example.traversal.Heuristic;
+
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Traversal service which finds path with minimal sum of edge weights by A* algorithm.
+ * It is Dijkstra search where queue is ordered by distance from source plus heuristic estimate of distance to target,
+ * so vertices in direction of the target are settled first.
+ * Heuristic should be admissible, e.g. straight line distance for geographic graphs or LandmarkHeuristic.
+ * LandmarkHeuristic built for the traversed immutable graph is used by vertex ids without vertex lookups.
+ * Search state is shared with Dijkstra, so graphs without vertex ids are searched over reached vertices only.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public class AStarTraversalServiceImpl<V, E extends WeightedEdge<V>> extends DijkstraTraversalServiceImpl<V, E> {
+    public static final String MSG_HEURISTIC_SHOULD_BE_NON_NULL = "Heuristic should be not null";
+
+    private final Heuristic<V> heuristic;
+
+    /**
+     * Constructor.
+     *
+     * @param heuristic admissible estimate of distance. Can't be null.
+     */
+    public AStarTraversalServiceImpl(Heuristic<V> heuristic) {
+        this.heuristic = Objects.requireNonNull(heuristic, MSG_HEURISTIC_SHOULD_BE_NON_NULL);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param heuristic admissible estimate of distance. Can't be null.
+     * @param columns columns with EdgeColumns.WEIGHT column, weights of their graph are read from the column.
+     *                Can't be null.
+     * @throws IllegalArgumentException if columns have no weight column.
+     */
+    public AStarTraversalServiceImpl(Heuristic<V> heuristic, EdgeColumns<E> columns) {
+        super(columns);
+        this.heuristic = Objects.requireNonNull(heuristic, MSG_HEURISTIC_SHOULD_BE_NON_NULL);
+    }
+
+    @Override
+    IntToDoubleFunction createEstimator(Graph<V, E> graph, SearchTree tree, int target) {
+        // Landmarks are built for an indexed graph, so ids of the tree are ids of the graph.
+        if (heuristic instanceof LandmarkHeuristic && ((LandmarkHeuristic<V>) heuristic).isBuiltFor(graph)) {
+            final LandmarkHeuristic<V> landmarks = (LandmarkHeuristic<V>) heuristic;
+            return vertex -> landmarks.estimate(vertex, target);
+        }
+        final V targetVertex = tree.vertexOf(target);
+        return vertex -> heuristic.estimate(tree.vertexOf(vertex), targetVertex);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.traversal.TraversalService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+
+/**
+ * Base class of traversal services.
+ * Validates arguments of getPath and handles trivial cases, so implementations only search.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public abstract class AbstractTraversalService<V, E extends Edge<V>> implements TraversalService<V, E> {
+    @Override
+    public List<E> getPath(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        checkVertices(graph, sourceVertex, targetVertex);
+
+        if (sourceVertex.equals(targetVertex)) {
+            return Collections.emptyList();
+        }
+
+        // Before traversing check nodes without connections.
+        if (graph.getOutgoingEdges(sourceVertex).isEmpty() || graph.getIncomingEdges(targetVertex).isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return traverse(graph, sourceVertex, targetVertex);
+    }
+
+    /**
+     * Check arguments of path query.
+     *
+     * @param graph graph to traverse.
+     * @param sourceVertex source vertex.
+     * @param targetVertex target vertex.
+     * @throws NullPointerException if any of the specified vertices or graph is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph.
+     */
+    protected void checkVertices(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+
+        // Check vertices existence.
+        if (!graph.containsVertex(sourceVertex)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+
+        if (!graph.containsVertex(targetVertex)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+        }
+    }
+
+    /**
+     * Check arguments of query from source to many targets.
+     *
+     * @param graph graph to traverse.
+     * @param sourceVertex source vertex.
+     * @param targetVertices target vertices.
+     * @throws NullPointerException if graph, source, targets or any of targets is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph.
+     */
+    protected void checkTargets(final Graph<V, E> graph, final V sourceVertex, final Collection<V> targetVertices) {
+        Objects.requireNonNull(targetVertices, MSG_TARGETS_SHOULD_BE_NON_NULL);
+        for (V targetVertex : targetVertices) {
+            checkVertices(graph, sourceVertex, targetVertex);
+        }
+        if (targetVertices.isEmpty()) {
+            checkVertices(graph, sourceVertex, sourceVertex);
+        }
+    }
+
+    /**
+     * Traverse function to get path from source to target.
+     * It is called for existing different vertices.
+     *
+     * @param graph graph to traverse. Can't be null;
+     * @param sourceVertex source vertex to find path. Can't be null;
+     * @param targetVertex target vertex to find path. Can't be null;
+     * @return list of edges between source and target. Returns empty list if nodes are not connected.
+     */
+    protected abstract List<E> traverse(Graph<V, E> graph, V sourceVertex, V targetVertex);
+
+    /**
+     * Get vertex on the other side of the edge.
+     * For directed graphs it is always edge target.
+     *
+     * @param vertex vertex the edge is reached from.
+     * @param edge outgoing edge of the vertex.
+     * @return next vertex. Can't be null.
+     */
+    protected V getNextVertex(V vertex, E edge) {
+        return vertex.equals(edge.getSource()) ? edge.getTarget() : edge.getSource();
+    }
+
+    /**
+     * Converts edges of undirected path to have correct source/target values.
+     * Opposite edges are created only for the found path.
+     *
+     * @param path edges in stored direction.
+     * @param sourceVertex path start.
+     * @return list of edges going from source to target.
+     */
+    protected List<E> orientPath(Iterable<E> path, V sourceVertex) {
+        final List<E> result = new ArrayList<>();
+        V vertex = sourceVertex;
+        for (E edge : path) {
+            result.add(vertex.equals(edge.getSource()) ? edge : (E) edge.getOpposite());
+            vertex = getNextVertex(vertex, edge);
+        }
+        return result;
+    }
+
+    /**
+     * Get graph with dense vertex ids, so search could keep its state in primitive arrays.
+     *
+     * @param graph graph to check.
+     * @return indexed graph or null if graph does not keep vertex ids.
+     */
+    protected static <V, E extends Edge<V>> IndexedGraph<V, E> asIndexed(Graph<V, E> graph) {
+        if (graph instanceof IndexedGraph && ((IndexedGraph<V, E>) graph).isIndexed()) {
+            return (IndexedGraph<V, E>) graph;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.traversal.impl;
+
+import com.example.graph.IndexedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.ContractionHierarchy.MSG_POOL_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+
+/**
+ * Parallel all pairs shortest paths.
+ * Matrices are primitive arrays in row-major order by vertex ids of indexed graph: element
+ * [source * vertex count + target] is the distance from source to target.
+ * Distances are floats, so sums of weights are rounded to float precision.
+ * <p>
+ * Dense graphs are solved by blocked Floyd-Warshall: the matrix is split into square tiles, which are updated
+ * by a block of intermediate vertices at once. At first the diagonal tile of the block is updated,
+ * then tiles of its row and column in parallel, then all other tiles in parallel.
+ * Sparse graphs are solved by one Dijkstra search per source, sources are searched in parallel.
+ * Matrices which do not fit into the heap could be written into file band by band of rows,
+ * where only one band is kept in memory.
+ * Weights of the graph of EdgeColumns are read from the weight column by edge id.
+ * Thread safe, graph should not be changed while distances are computed.
+ */
+public final class AllPairsShortestPaths {
+    public static final int UNREACHABLE = DirectionOptimizingBfs.UNREACHABLE;
+    public static final String MSG_TILE_SIZE_SHOULD_BE_POSITIVE = "Tile size should be positive";
+    public static final String MSG_MATRIX_IS_TOO_BIG = "Distance matrix does not fit into memory, write it into file";
+    public static final String MSG_UNSUPPORTED_FORMAT = "Unsupported distance matrix file format";
+    public static final String MSG_FILE_SHOULD_BE_NON_NULL = "File should be not null";
+    public static final String MSG_ROWS_OUT_OF_RANGE = "Rows are out of matrix range";
+
+    private static final int DEFAULT_TILE_SIZE = 64;
+    // Floyd-Warshall is used when there is at least one edge per DENSE_DIVISOR pairs of vertices.
+    private static final int DENSE_DIVISOR = 16;
+    private static final int MAGIC = 0x41505350;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    // Java arrays could be a bit shorter than Integer.MAX_VALUE.
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final ForkJoinPool pool;
+    private final int tileSize;
+    private final EdgeColumns<?> columns;
+
+    /**
+     * Constructor which uses common fork join pool.
+     */
+    public AllPairsShortestPaths() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool which computes distances. Can't be null.
+     * @param tileSize side of Floyd-Warshall tiles and count of rows in a band written into file.
+     *                 Three tiles of floats should fit into cache. Should be positive.
+     */
+    public AllPairsShortestPaths(ForkJoinPool pool, int tileSize) {
+        this(pool, tileSize, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool which computes distances. Can't be null.
+     * @param tileSize side of Floyd-Warshall tiles and count of rows in a band written into file.
+     *                 Three tiles of floats should fit into cache. Should be positive.
+     * @param columns columns with EdgeColumns.WEIGHT column, weights of their graph are read from the column.
+     *                Null - weights are read from edges.
+     * @throws IllegalArgumentException if tile size is not positive or columns have no weight column.
+     */
+    public AllPairsShortestPaths(ForkJoinPool pool, int tileSize, EdgeColumns<?> columns) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException(MSG_TILE_SIZE_SHOULD_BE_POSITIVE);
+        }
+        if (columns != null) {
+            columns.getDoubleColumn(EdgeColumns.WEIGHT);
+        }
+        this.pool = Objects.requireNonNull(pool, MSG_POOL_SHOULD_BE_NON_NULL);
+        this.tileSize = tileSize;
+        this.columns = columns;
+    }
+
+    /**
+     * Distances between all vertices by Floyd-Warshall for dense graphs and by Dijkstra from each source
+     * for sparse graphs.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distance matrix. Float.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids, has an edge with negative weight
+     *         or the matrix does not fit into memory.
+     */
+    public <V, E extends WeightedEdge<V>> float[] distances(IndexedGraph<V, E> graph) {
+        final int count = checkGraph(graph);
+        checkMatrixSize(count);
+        final long edgeCount = countEdges(graph);
+        return edgeCount * DENSE_DIVISOR >= (long) count * count ? floydWarshall(graph) : dijkstra(graph);
+    }
+
+    /**
+     * Distances between all vertices by blocked Floyd-Warshall.
+     * It takes O(n^3) time for any count of edges.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distance matrix. Float.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids, has an edge with negative weight
+     *         or the matrix does not fit into memory.
+     */
+    public <V, E extends WeightedEdge<V>> float[] floydWarshall(IndexedGraph<V, E> graph) {
+        final int count = checkGraph(graph);
+        checkMatrixSize(count);
+        final SearchGraph<V, E> searchGraph = SearchGraph.of(graph, columns);
+        final float[] matrix = new float[count * count];
+        Arrays.fill(matrix, Float.POSITIVE_INFINITY);
+        for (int source = 0; source < count; source++) {
+            final int row = source * count;
+            matrix[row + source] = 0;
+            final int degree = searchGraph.outDegree(source);
+            for (int i = 0; i < degree; i++) {
+                final float weight = (float) checkWeight(searchGraph.outgoingWeight(source, i));
+                final int target = searchGraph.outgoingId(source, i);
+                if (weight < matrix[row + target]) {
+                    matrix[row + target] = weight;
+                }
+            }
+        }
+
+        final int tiles = (count + tileSize - 1) / tileSize;
+        for (int block = 0; block < tiles; block++) {
+            final int k = block;
+            updateTile(matrix, count, k, k, k);
+            pool.submit(() -> IntStream.range(0, tiles).parallel().filter(tile -> tile != k).forEach(tile -> {
+                updateTile(matrix, count, k, tile, k);
+                updateTile(matrix, count, tile, k, k);
+            })).join();
+            pool.submit(() -> IntStream.range(0, tiles * tiles).parallel().forEach(tile -> {
+                final int rowTile = tile / tiles;
+                final int columnTile = tile % tiles;
+                if (rowTile != k && columnTile != k) {
+                    updateTile(matrix, count, rowTile, columnTile, k);
+                }
+            })).join();
+        }
+        return matrix;
+    }
+
+    /**
+     * Distances between all vertices by Dijkstra search from each source.
+     * It takes O(n * m * log(n)) time, sources are searched in parallel.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distance matrix. Float.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids, has an edge with negative weight
+     *         or the matrix does not fit into memory.
+     */
+    public <V, E extends WeightedEdge<V>> float[] dijkstra(IndexedGraph<V, E> graph) {
+        final int count = checkGraph(graph);
+        checkMatrixSize(count);
+        final SearchGraph<V, E> searchGraph = SearchGraph.of(graph, columns);
+        checkWeights(searchGraph);
+        final float[] matrix = new float[count * count];
+        searchRows(searchGraph, 0, count, matrix);
+        return matrix;
+    }
+
+    /**
+     * Count of edges on paths with minimal count of edges between all vertices by BFS from each source.
+     * Sources are searched in parallel.
+     *
+     * @param graph indexed graph. Can't be null.
+     * @param <V> vertex type.
+     * @return hop count matrix. UNREACHABLE for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids or the matrix does not fit into memory.
+     */
+    public <V> int[] hopCounts(IndexedGraph<V, ?> graph) {
+        final int count = checkGraph(graph);
+        checkMatrixSize(count);
+        final int[] matrix = new int[count * count];
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(source -> {
+            final int row = source * count;
+            Arrays.fill(matrix, row, row + count, UNREACHABLE);
+            final int[] queue = new int[count];
+            matrix[row + source] = 0;
+            queue[0] = source;
+            for (int head = 0, tail = 1; head < tail; head++) {
+                final int vertex = queue[head];
+                final int distance = matrix[row + vertex] + 1;
+                final int degree = graph.outDegree(vertex);
+                for (int i = 0; i < degree; i++) {
+                    final int next = graph.outgoingId(vertex, i);
+                    if (matrix[row + next] == UNREACHABLE) {
+                        matrix[row + next] = distance;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        })).join();
+        return matrix;
+    }
+
+    /**
+     * Write distances between all vertices into file.
+     * Rows are computed by Dijkstra search from each source in bands of tile size rows,
+     * each band is written before the next one is computed, so the matrix could be bigger than the heap.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param file file to write. Existing file is replaced. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @throws IOException if file can't be written.
+     * @throws IllegalArgumentException if graph does not keep vertex ids or has an edge with negative weight.
+     */
+    public <V, E extends WeightedEdge<V>> void write(IndexedGraph<V, E> graph, Path file) throws IOException {
+        final int count = checkGraph(graph);
+        Objects.requireNonNull(file, MSG_FILE_SHOULD_BE_NON_NULL);
+        final SearchGraph<V, E> searchGraph = SearchGraph.of(graph, columns);
+        checkWeights(searchGraph);
+        final int bandSize = Math.max(1, Math.min(tileSize, MAX_ARRAY_LENGTH / Math.max(1, count)));
+        final float[] band = new float[bandSize * count];
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            for (int first = 0; first < count; first += bandSize) {
+                final int rows = Math.min(bandSize, count - first);
+                searchRows(searchGraph, first, rows, band);
+                for (int i = 0; i < rows * count; i++) {
+                    out.writeFloat(band[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read rows of distance matrix which was written by write method.
+     *
+     * @param file file to read. Can't be null.
+     * @param firstRow id of the first source.
+     * @param rowCount count of rows.
+     * @return distances from rowCount sources to all vertices in row-major order.
+     * @throws IOException if file can't be read or has unsupported format.
+     * @throws IllegalArgumentException if rows are out of matrix range.
+     */
+    public static float[] readRows(Path file, int firstRow, int rowCount) throws IOException {
+        Objects.requireNonNull(file, MSG_FILE_SHOULD_BE_NON_NULL);
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            final DataInputStream header = new DataInputStream(Channels.newInputStream(channel));
+            if (header.readInt() != MAGIC || header.readInt() != VERSION) {
+                throw new IOException(MSG_UNSUPPORTED_FORMAT);
+            }
+            final int count = header.readInt();
+            if (firstRow < 0 || rowCount < 0 || (long) firstRow + rowCount > count
+                    || (long) rowCount * count > MAX_ARRAY_LENGTH) {
+                throw new IllegalArgumentException(MSG_ROWS_OUT_OF_RANGE);
+            }
+            channel.position(HEADER_SIZE + (long) firstRow * count * Float.BYTES);
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            final float[] rows = new float[rowCount * count];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = in.readFloat();
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Relax paths of tile (rowTile, columnTile) through intermediate vertices of tile block.
+     * Intermediate vertices are the outer loop, so the tile could be the row or column of the block itself.
+     */
+    private void updateTile(float[] matrix, int count, int rowTile, int columnTile, int block) {
+        final int rowEnd = Math.min(count, (rowTile + 1) * tileSize);
+        final int columnStart = columnTile * tileSize;
+        final int columnEnd = Math.min(count, columnStart + tileSize);
+        final int blockEnd = Math.min(count, (block + 1) * tileSize);
+        for (int k = block * tileSize; k < blockEnd; k++) {
+            final int kRow = k * count;
+            for (int i = rowTile * tileSize; i < rowEnd; i++) {
+                final int iRow = i * count;
+                final float throughK = matrix[iRow + k];
+                if (throughK == Float.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = columnStart; j < columnEnd; j++) {
+                    final float distance = throughK + matrix[kRow + j];
+                    if (distance < matrix[iRow + j]) {
+                        matrix[iRow + j] = distance;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fill rows of sources from first to first + rowCount by parallel Dijkstra searches.
+     */
+    private <V, E extends WeightedEdge<V>> void searchRows(SearchGraph<V, E> graph, int first, int rowCount, float[] rows) {
+        final int count = graph.vertexCount();
+        pool.submit(() -> IntStream.range(0, rowCount).parallel().forEach(row -> {
+            final double[] distances = DijkstraTraversalServiceImpl.distances(graph, first + row, false);
+            for (int target = 0; target < count; target++) {
+                rows[row * count + target] = (float) distances[target];
+            }
+        })).join();
+    }
+
+    /**
+     * Check weights before parallel searches, so the error is thrown from the calling thread.
+     */
+    private static void checkWeights(SearchGraph<?, ?> graph) {
+        final int count = graph.vertexCount();
+        for (int id = 0; id < count; id++) {
+            final int degree = graph.outDegree(id);
+            for (int i = 0; i < degree; i++) {
+                checkWeight(graph.outgoingWeight(id, i));
+            }
+        }
+    }
+
+    private static double checkWeight(double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException(MSG_NEGATIVE_WEIGHT);
+        }
+        return weight;
+    }
+
+    private static long countEdges(IndexedGraph<?, ?> graph) {
+        long result = 0;
+        for (int id = 0; id < graph.vertexCount(); id++) {
+            result += graph.outDegree(id);
+        }
+        return result;
+    }
+
+    private static int checkGraph(IndexedGraph<?, ?> graph) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        if (!graph.isIndexed()) {
+            throw new IllegalArgumentException(MSG_GRAPH_IS_NOT_INDEXED);
+        }
+        return graph.vertexCount();
+    }
+
+    private static void checkMatrixSize(int count) {
+        final long size = (long) count * count;
+        if (size > MAX_ARRAY_LENGTH || size * Float.BYTES > Runtime.getRuntime().maxMemory()) {
+            throw new IllegalArgumentException(MSG_MATRIX_IS_TOO_BIG);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Traversal service which finds path with minimal count of edges.
+ * Uses BFS (breadth first search) and stops as soon as the target vertex is reached,
+ * so vertices farther from the source than the target are not explored.
+ * Search state is kept in arrays: parent of each reached vertex is an int id.
+ * Indexed graphs are traversed by their vertex ids, other graphs get local ids in order of discovery.
+ * Works with all graph types, including undirected.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public class BfsTraversalServiceImpl<V, E extends Edge<V>> extends AbstractTraversalService<V, E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Override
+    protected List<E> traverse(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        final IndexedGraph<V, E> indexedGraph = asIndexed(graph);
+        final List<E> path = indexedGraph != null
+                ? traverseIndexed(indexedGraph, sourceVertex, targetVertex)
+                : traverseVertices(graph, sourceVertex, targetVertex);
+        return graph.isDirected() ? path : orientPath(path, sourceVertex);
+    }
+
+    /**
+     * Returns paths with minimal count of edges from source to each of target vertices.
+     * One BFS tree answers all targets, search stops when the last target is reached.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertices target vertices. Can't be null.
+     * @return paths by target in order of targets. Path is empty if target is not reachable or is the source.
+     * @throws NullPointerException if graph, source, targets or any of targets is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph.
+     */
+    @Override
+    public Map<V, List<E>> getPaths(final Graph<V, E> graph, final V sourceVertex, final Collection<V> targetVertices) {
+        checkTargets(graph, sourceVertex, targetVertices);
+        final SearchGraph<V, E> searchGraph = SearchGraph.of(graph);
+        final int count = searchGraph.vertexCount();
+        final int source = searchGraph.idOf(sourceVertex);
+        final boolean[] targets = new boolean[count];
+        int remaining = 0;
+        for (V targetVertex : targetVertices) {
+            final int target = searchGraph.idOf(targetVertex);
+            if (target != source && !targets[target]) {
+                targets[target] = true;
+                remaining++;
+            }
+        }
+
+        // Parent id + 1 of each reached vertex, 0 - vertex is not reached yet.
+        final int[] parents = new int[count];
+        // Index of the edge in outgoing adjacency of the parent.
+        final int[] edgeIndexes = new int[count];
+        final int[] queue = new int[count];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        parents[source] = source + 1;
+        while (head < tail && remaining > 0) {
+            final int vertex = queue[head++];
+            final int degree = searchGraph.outDegree(vertex);
+            for (int i = 0; i < degree; i++) {
+                final int next = searchGraph.outgoingId(vertex, i);
+                if (parents[next] == 0) {
+                    parents[next] = vertex + 1;
+                    edgeIndexes[next] = i;
+                    queue[tail++] = next;
+                    remaining -= targets[next] ? 1 : 0;
+                }
+            }
+        }
+
+        final Map<V, List<E>> result = new LinkedHashMap<>();
+        for (V targetVertex : targetVertices) {
+            final int target = searchGraph.idOf(targetVertex);
+            if (target == source || parents[target] == 0) {
+                result.put(targetVertex, Collections.emptyList());
+                continue;
+            }
+            final List<E> path = new ArrayList<>();
+            for (int vertex = target; vertex != source; vertex = parents[vertex] - 1) {
+                path.add(searchGraph.outgoingEdge(parents[vertex] - 1, edgeIndexes[vertex]));
+            }
+            Collections.reverse(path);
+            result.put(targetVertex, graph.isDirected() ? path : orientPath(path, sourceVertex));
+        }
+        return result;
+    }
+
+    private List<E> traverseIndexed(IndexedGraph<V, E> graph, V sourceVertex, V targetVertex) {
+        final int source = graph.idOf(sourceVertex);
+        final int target = graph.idOf(targetVertex);
+        final int count = graph.vertexCount();
+
+        // Parent id + 1 of each reached vertex, 0 - vertex is not reached yet.
+        final int[] parents = new int[count];
+        // Index of the edge in outgoing adjacency of the parent.
+        final int[] edgeIndexes = new int[count];
+        final int[] queue = new int[count];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        parents[source] = source + 1;
+        while (head < tail) {
+            final int vertex = queue[head++];
+            final int degree = graph.outDegree(vertex);
+            for (int i = 0; i < degree; i++) {
+                final int next = graph.outgoingId(vertex, i);
+                if (parents[next] == 0) {
+                    parents[next] = vertex + 1;
+                    edgeIndexes[next] = i;
+                    if (next == target) {
+                        return buildPath(graph, parents, edgeIndexes, source, target);
+                    }
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private List<E> buildPath(IndexedGraph<V, E> graph, int[] parents, int[] edgeIndexes, int source, int target) {
+        final List<E> path = new ArrayList<>();
+        int vertex = target;
+        while (vertex != source) {
+            final int parent = parents[vertex] - 1;
+            path.add(graph.outgoingEdge(parent, edgeIndexes[vertex]));
+            vertex = parent;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private List<E> traverseVertices(Graph<V, E> graph, V sourceVertex, V targetVertex) {
+        final VertexSearch<V, E> search = new VertexSearch<>(sourceVertex, targetVertex);
+        for (int head = 0; head < search.vertices.size() && search.found == 0; head++) {
+            final int parent = head;
+            graph.forEachNeighbor(search.vertices.get(head), (next, edge) -> search.reach(parent, next, edge));
+        }
+        return search.found == 0 ? Collections.emptyList() : buildPath(search.parents, search.edges, search.found);
+    }
+
+    private List<E> buildPath(int[] parents, Object[] edges, int target) {
+        final List<E> path = new ArrayList<>();
+        for (int id = target; id != 0; id = parents[id]) {
+            path.add((E) edges[id]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Search state of graph without vertex ids.
+     * Vertices get local ids in order of discovery, so the list of vertices is the queue as well.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private static final class VertexSearch<V, E> {
+        private final Map<V, Integer> ids = new HashMap<>();
+        private final List<V> vertices = new ArrayList<>();
+        private final V targetVertex;
+        private int[] parents = new int[DEFAULT_CAPACITY];
+        // Edge which leads to the vertex from its parent.
+        private Object[] edges = new Object[DEFAULT_CAPACITY];
+        // Local id of the target, 0 - target is not reached yet.
+        private int found;
+
+        private VertexSearch(V sourceVertex, V targetVertex) {
+            this.targetVertex = targetVertex;
+            ids.put(sourceVertex, 0);
+            vertices.add(sourceVertex);
+        }
+
+        private void reach(int parent, V next, E edge) {
+            final int id = vertices.size();
+            if (found != 0 || ids.putIfAbsent(next, id) != null) {
+                return;
+            }
+            if (id == parents.length) {
+                parents = Arrays.copyOf(parents, id * 2);
+                edges = Arrays.copyOf(edges, id * 2);
+            }
+            vertices.add(next);
+            parents[id] = parent;
+            edges[id] = edge;
+            if (next.equals(targetVertex)) {
+                found = id;
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Traversal service which finds path with minimal count of edges by bidirectional BFS.
+ * Searches from source over outgoing edges and from target over incoming edges at the same time,
+ * each step expands the whole level of the smaller frontier and search stops when frontiers meet.
+ * On graphs with small diameter it explores far fewer vertices than one-sided search.
+ * Indexed graphs are searched by their vertex ids. Other graphs get local ids of each side in order of discovery
+ * and search state grows with reached vertices, so a query does not pay for the whole graph.
+ * Works with all graph types, including undirected.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public class BidirectionalTraversalServiceImpl<V, E extends Edge<V>> extends AbstractTraversalService<V, E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Override
+    protected List<E> traverse(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        final IndexedGraph<V, E> indexedGraph = asIndexed(graph);
+        final List<E> path = indexedGraph != null
+                ? traverseIndexed(SearchGraph.of(indexedGraph), sourceVertex, targetVertex)
+                : traverseVertices(graph, sourceVertex, targetVertex);
+        return graph.isDirected() ? path : orientPath(path, sourceVertex);
+    }
+
+    private List<E> traverseIndexed(SearchGraph<V, E> searchGraph, V sourceVertex, V targetVertex) {
+        final Side forward = new Side(searchGraph.vertexCount(), searchGraph.idOf(sourceVertex));
+        final Side backward = new Side(searchGraph.vertexCount(), searchGraph.idOf(targetVertex));
+
+        int meeting = -1;
+        while (meeting < 0 && !forward.isEmpty() && !backward.isEmpty()) {
+            meeting = forward.size() <= backward.size()
+                    ? expand(searchGraph, forward, backward, false)
+                    : expand(searchGraph, backward, forward, true);
+        }
+        if (meeting < 0) {
+            return Collections.emptyList();
+        }
+
+        final List<E> path = new ArrayList<>();
+        for (int vertex = meeting; vertex != forward.start; vertex = forward.parent(vertex)) {
+            path.add(searchGraph.outgoingEdge(forward.parent(vertex), forward.edgeIndexes[vertex]));
+        }
+        Collections.reverse(path);
+        for (int vertex = meeting; vertex != backward.start; vertex = backward.parent(vertex)) {
+            path.add(searchGraph.incomingEdge(backward.parent(vertex), backward.edgeIndexes[vertex]));
+        }
+        return path;
+    }
+
+    private List<E> traverseVertices(Graph<V, E> graph, V sourceVertex, V targetVertex) {
+        final VertexSide<V, E> forward = new VertexSide<>(sourceVertex);
+        final VertexSide<V, E> backward = new VertexSide<>(targetVertex);
+        V meeting = null;
+        while (meeting == null && !forward.isEmpty() && !backward.isEmpty()) {
+            meeting = forward.size() <= backward.size()
+                    ? forward.expand(graph, backward, false)
+                    : backward.expand(graph, forward, true);
+        }
+        if (meeting == null) {
+            return Collections.emptyList();
+        }
+
+        final List<E> path = new ArrayList<>();
+        for (int id = forward.ids.get(meeting); id != 0; id = forward.parents[id]) {
+            path.add((E) forward.edges[id]);
+        }
+        Collections.reverse(path);
+        for (int id = backward.ids.get(meeting); id != 0; id = backward.parents[id]) {
+            path.add((E) backward.edges[id]);
+        }
+        return path;
+    }
+
+    /**
+     * Expand the whole current level of one side.
+     *
+     * @param graph graph view.
+     * @param side side to expand.
+     * @param other opposite side.
+     * @param backward true - expand over incoming edges.
+     * @return vertex on the shortest path where sides meet or -1 if they have not met yet.
+     */
+    private int expand(SearchGraph<V, E> graph, Side side, Side other, boolean backward) {
+        int meeting = -1;
+        int shortest = Integer.MAX_VALUE;
+        final int levelEnd = side.tail;
+        while (side.head < levelEnd) {
+            final int vertex = side.queue[side.head++];
+            final int degree = backward ? graph.inDegree(vertex) : graph.outDegree(vertex);
+            for (int i = 0; i < degree; i++) {
+                final int next = backward ? graph.incomingId(vertex, i) : graph.outgoingId(vertex, i);
+                side.reach(next, vertex, i);
+                // Any meeting vertex of this level could give the shortest path, so the level is finished.
+                if (other.distances[next] != 0 && side.distances[next] + other.distances[next] < shortest) {
+                    shortest = side.distances[next] + other.distances[next];
+                    meeting = next;
+                }
+            }
+        }
+        return meeting;
+    }
+
+    /**
+     * State of one search direction.
+     */
+    private static final class Side {
+        private final int start;
+        // Distance + 1 of each reached vertex, 0 - vertex is not reached yet.
+        private final int[] distances;
+        private final int[] parents;
+        // Index of the edge in adjacency of the parent.
+        private final int[] edgeIndexes;
+        private final int[] queue;
+        private int head;
+        private int tail;
+
+        private Side(int count, int start) {
+            this.start = start;
+            this.distances = new int[count];
+            this.parents = new int[count];
+            this.edgeIndexes = new int[count];
+            this.queue = new int[count];
+            distances[start] = 1;
+            queue[tail++] = start;
+        }
+
+        private boolean isEmpty() {
+            return head == tail;
+        }
+
+        private int size() {
+            return tail - head;
+        }
+
+        private int parent(int vertex) {
+            return parents[vertex];
+        }
+
+        private void reach(int vertex, int parent, int edgeIndex) {
+            if (distances[vertex] == 0) {
+                distances[vertex] = distances[parent] + 1;
+                parents[vertex] = parent;
+                edgeIndexes[vertex] = edgeIndex;
+                queue[tail++] = vertex;
+            }
+        }
+    }
+
+    /**
+     * State of one search direction on graph without vertex ids.
+     * Vertices get local ids in order of discovery, so the list of vertices is the queue as well.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private static final class VertexSide<V, E extends Edge<V>> {
+        private final Map<V, Integer> ids = new HashMap<>();
+        private final List<V> vertices = new ArrayList<>();
+        // Distance + 1 of each reached vertex by local id.
+        private int[] distances = new int[DEFAULT_CAPACITY];
+        private int[] parents = new int[DEFAULT_CAPACITY];
+        // Edge which connects the vertex with its parent.
+        private Object[] edges = new Object[DEFAULT_CAPACITY];
+        private int head;
+        // Best meeting of the expanded level.
+        private V meeting;
+        private int shortest;
+
+        private VertexSide(V start) {
+            ids.put(start, 0);
+            vertices.add(start);
+            distances[0] = 1;
+        }
+
+        private boolean isEmpty() {
+            return head == vertices.size();
+        }
+
+        private int size() {
+            return vertices.size() - head;
+        }
+
+        /**
+         * Expand the whole current level.
+         *
+         * @param graph graph.
+         * @param other opposite side.
+         * @param backward true - expand over incoming edges.
+         * @return vertex on the shortest path where sides meet or null if they have not met yet.
+         */
+        private V expand(Graph<V, E> graph, VertexSide<V, E> other, boolean backward) {
+            meeting = null;
+            shortest = Integer.MAX_VALUE;
+            final int levelEnd = vertices.size();
+            while (head < levelEnd) {
+                final int parent = head++;
+                final V vertex = vertices.get(parent);
+                if (backward) {
+                    graph.forEachIncomingNeighbor(vertex, (next, edge) -> reach(other, parent, next, edge));
+                } else {
+                    graph.forEachNeighbor(vertex, (next, edge) -> reach(other, parent, next, edge));
+                }
+            }
+            return meeting;
+        }
+
+        private void reach(VertexSide<V, E> other, int parent, V next, E edge) {
+            final int id = vertices.size();
+            Integer existing = ids.putIfAbsent(next, id);
+            if (existing == null) {
+                if (id == parents.length) {
+                    distances = Arrays.copyOf(distances, id * 2);
+                    parents = Arrays.copyOf(parents, id * 2);
+                    edges = Arrays.copyOf(edges, id * 2);
+                }
+                vertices.add(next);
+                distances[id] = distances[parent] + 1;
+                parents[id] = parent;
+                edges[id] = edge;
+                existing = id;
+            }
+            // Any meeting vertex of this level could give the shortest path, so the level is finished.
+            final Integer otherId = other.ids.get(next);
+            if (otherId != null && distances[existing] + other.distances[otherId] < shortest) {
+                shortest = distances[existing] + other.distances[otherId];
+                meeting = next;
+            }
+        }
+    }
+}
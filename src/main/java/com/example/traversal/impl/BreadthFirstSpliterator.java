@@ -0,0 +1,87 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over vertices reachable from source which splits the BFS frontier.
+ * Split parts share the set of discovered vertices, so each vertex is returned by exactly one part.
+ * Each part keeps BFS order of its own frontier, there is no encounter order across parts.
+ * When the frontier has a single vertex, a few vertices are expanded ahead to get something to split.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+final class BreadthFirstSpliterator<V, E extends Edge<V>> implements Spliterator<V> {
+    // Limit of vertices expanded ahead by one trySplit call.
+    private static final int MAX_EXPANDED_AHEAD = 64;
+
+    private final Graph<V, E> graph;
+    // Discovered vertices of all parts. Should be thread safe.
+    private final Set<V> discovered;
+    // Discovered vertices which are not expanded yet.
+    private final ArrayDeque<V> frontier;
+    // Vertices expanded ahead by trySplit. They are returned before the frontier.
+    private final ArrayDeque<V> expanded = new ArrayDeque<>();
+
+    BreadthFirstSpliterator(Graph<V, E> graph, Set<V> discovered, ArrayDeque<V> frontier) {
+        this.graph = graph;
+        this.discovered = discovered;
+        this.frontier = frontier;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super V> action) {
+        if (!expanded.isEmpty()) {
+            action.accept(expanded.pollFirst());
+            return true;
+        }
+        final V vertex = frontier.pollFirst();
+        if (vertex == null) {
+            return false;
+        }
+        expand(vertex);
+        action.accept(vertex);
+        return true;
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+        for (int i = 0; frontier.size() == 1 && i < MAX_EXPANDED_AHEAD; i++) {
+            final V vertex = frontier.pollFirst();
+            expand(vertex);
+            expanded.addLast(vertex);
+        }
+        if (frontier.size() < 2) {
+            return null;
+        }
+        final ArrayDeque<V> part = new ArrayDeque<>();
+        for (int i = frontier.size() / 2; i > 0; i--) {
+            part.addFirst(frontier.pollLast());
+        }
+        return new BreadthFirstSpliterator<>(graph, discovered, part);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return DISTINCT | NONNULL;
+    }
+
+    private void expand(V vertex) {
+        graph.forEachNeighbor(vertex, (neighbor, edge) -> {
+            if (discovered.add(neighbor)) {
+                frontier.addLast(neighbor);
+            }
+        });
+    }
+}
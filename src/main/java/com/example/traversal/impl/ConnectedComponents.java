@@ -0,0 +1,223 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.impl.Graphs;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.ContractionHierarchy.MSG_POOL_SHOULD_BE_NON_NULL;
+
+/**
+ * Connected components of undirected graph or weakly connected components of directed graph.
+ * Components are found by concurrent union-find on int vertex ids: all edges are united in parallel,
+ * roots are linked by compare and set from the greater id to the smaller one, so links never make a cycle,
+ * and finds halve paths by compare and set too. No locks are taken, a failed link is retried from new roots.
+ * Components are numbered by their smallest vertex id, each vertex gets its component in an int array.
+ * Components are found over an immutable snapshot of the graph and vertices are resolved through it,
+ * so later changes of the graph are not seen and do not break vertex ids. Thread safe after creation.
+ *
+ * @param <V> vertex type.
+ */
+public final class ConnectedComponents<V> {
+    private final Graph<V, ?> source;
+    private final IndexedGraph<V, ?> graph;
+    // Component by vertex id.
+    private final int[] components;
+    private final int[] sizes;
+
+    private ConnectedComponents(Graph<V, ?> source, IndexedGraph<V, ?> graph, int[] components, int[] sizes) {
+        this.source = source;
+        this.graph = graph;
+        this.components = components;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Find components using common fork join pool.
+     *
+     * @param graph graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return components.
+     */
+    public static <V, E extends Edge<V>> ConnectedComponents<V> build(Graph<V, E> graph) {
+        return build(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find components.
+     * Mutable graph is copied into CsrGraph, see Graphs.freeze.
+     *
+     * @param graph graph. Can't be null.
+     * @param pool pool which unites edges. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return components.
+     */
+    public static <V, E extends Edge<V>> ConnectedComponents<V> build(Graph<V, E> graph, ForkJoinPool pool) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(pool, MSG_POOL_SHOULD_BE_NON_NULL);
+        final IndexedGraph<V, E> indexedGraph = Graphs.freeze(graph);
+        final int count = indexedGraph.vertexCount();
+        final AtomicIntegerArray parents = new AtomicIntegerArray(count);
+        final boolean directed = indexedGraph.isDirected();
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(id -> {
+            parents.set(id, id);
+        })).join();
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(id -> {
+            final int degree = indexedGraph.outDegree(id);
+            for (int i = 0; i < degree; i++) {
+                final int next = indexedGraph.outgoingId(id, i);
+                // Undirected edge is outgoing for both ends, it is enough to unite it once.
+                if (directed || next < id) {
+                    union(parents, id, next);
+                }
+            }
+        })).join();
+
+        // Roots are the smallest vertex ids of components, so numbering them in order of ids is deterministic.
+        final int[] roots = new int[count];
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(id -> {
+            roots[id] = find(parents, id);
+        })).join();
+        final int[] components = new int[count];
+        int componentCount = 0;
+        for (int id = 0; id < count; id++) {
+            if (roots[id] == id) {
+                components[id] = componentCount++;
+            }
+        }
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(id -> {
+            components[id] = components[roots[id]];
+        })).join();
+        final int[] sizes = new int[componentCount];
+        for (int component : components) {
+            sizes[component]++;
+        }
+        return new ConnectedComponents<>(graph, indexedGraph, components, sizes);
+    }
+
+    /**
+     * Get count of components.
+     *
+     * @return count of components, isolated vertex is a component too.
+     */
+    public int getCount() {
+        return sizes.length;
+    }
+
+    /**
+     * Get component of vertex.
+     *
+     * @param vertex vertex. Can't be null.
+     * @return component id from 0 to count - 1.
+     * @throws IllegalArgumentException if vertex was not in the graph when components were found.
+     */
+    public int componentOf(V vertex) {
+        Objects.requireNonNull(vertex, MSG_VERTEX_SHOULD_BE_NON_NULL);
+        final int id = graph.idOf(vertex);
+        if (id == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_VERTEX);
+        }
+        return components[id];
+    }
+
+    /**
+     * Check if vertices are in the same component.
+     *
+     * @param first vertex. Can't be null.
+     * @param second vertex. Can't be null.
+     * @return true - there is a path between vertices, edge directions are ignored.
+     * @throws IllegalArgumentException if vertices were not in the graph when components were found.
+     */
+    public boolean isConnected(V first, V second) {
+        return componentOf(first) == componentOf(second);
+    }
+
+    /**
+     * Get count of vertices of each component.
+     *
+     * @return sizes by component id.
+     */
+    public int[] getSizes() {
+        return Arrays.copyOf(sizes, sizes.length);
+    }
+
+    /**
+     * Get components of all vertices.
+     *
+     * @return component ids by vertex id of getGraph.
+     */
+    public int[] getComponents() {
+        return Arrays.copyOf(components, components.length);
+    }
+
+    /**
+     * Get immutable graph which defines vertex ids. It is the snapshot of the source graph.
+     *
+     * @return indexed graph.
+     */
+    public IndexedGraph<V, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Check if components were found for the graph.
+     *
+     * @param other graph.
+     * @return true - components were found for this graph object or it is the snapshot of getGraph.
+     */
+    public boolean isBuiltFor(Graph<?, ?> other) {
+        return source == other || graph == other;
+    }
+
+    /**
+     * Link roots of both vertices, the greater root gets the smaller one as parent.
+     * Only a root could be linked, so a failed compare and set means that another thread linked it first.
+     */
+    private static void union(AtomicIntegerArray parents, int first, int second) {
+        int firstRoot = first;
+        int secondRoot = second;
+        while (true) {
+            firstRoot = find(parents, firstRoot);
+            secondRoot = find(parents, secondRoot);
+            if (firstRoot == secondRoot) {
+                return;
+            }
+            final int greater = Math.max(firstRoot, secondRoot);
+            final int smaller = Math.min(firstRoot, secondRoot);
+            if (parents.compareAndSet(greater, greater, smaller)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Find root with path halving: each visited vertex is linked to its grandparent.
+     * Parents only decrease, so a stale compare and set just does nothing.
+     */
+    private static int find(AtomicIntegerArray parents, int id) {
+        int vertex = id;
+        while (true) {
+            final int parent = parents.get(vertex);
+            if (parent == vertex) {
+                return vertex;
+            }
+            final int grandparent = parents.get(parent);
+            if (grandparent != parent) {
+                parents.compareAndSet(vertex, parent, grandparent);
+            }
+            vertex = grandparent;
+        }
+    }
+}
@@ -0,0 +1,620 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import com.example.graph.impl.Graphs;
+import com.example.traversal.WeightedPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * Contraction hierarchy of a static weighted graph.
+ * Preprocessing contracts vertices one by one in order of importance. When a vertex is contracted,
+ * shortcut arcs are added between its neighbors unless a witness path without the vertex is not longer.
+ * Query is bidirectional Dijkstra which only goes to more important vertices, so it settles a few hundred
+ * vertices even on large road graphs. Shortcuts of the found path are unpacked into original edges.
+ * <p>
+ * Vertices are ordered by edge difference (added shortcuts minus removed arcs) plus count of contracted neighbors.
+ * Each round contracts in parallel a set of vertices which are less important than all their neighbors.
+ * Vertices of the set are not neighbors and witness searches do not go through any of them,
+ * so their shortcuts could be computed independently.
+ * <p>
+ * Hierarchy is built over an immutable snapshot of the graph and keeps it to resolve vertices, so later changes
+ * of the graph do not break queries: they find paths of the graph as it was when built.
+ * Hierarchy is immutable and thread safe for queries. It should be rebuilt when the graph changes.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class ContractionHierarchy<V, E extends WeightedEdge<V>> {
+    public static final String MSG_GRAPH_DOES_NOT_MATCH = "Contraction hierarchy was built for another graph";
+    public static final String MSG_POOL_SHOULD_BE_NON_NULL = "Pool should be not null";
+
+    // Witness searches stop after this count of settled vertices. Shorter searches only add extra shortcuts.
+    private static final int WITNESS_SETTLED_LIMIT = 500;
+    private static final int NO_ARC = -1;
+
+    private final Graph<V, E> source;
+    private final IndexedGraph<V, E> graph;
+    private final int shortcutCount;
+
+    // Arcs by arc id. Shortcuts keep two arcs they replace, original arcs keep index of the edge
+    // in outgoing edges of the tail, so edge objects are read from the snapshot only to unpack a found path.
+    private final int[] tails;
+    private final int[] heads;
+    private final double[] weights;
+    private final int[] firsts;
+    private final int[] seconds;
+    private final int[] edgeIndexes;
+
+    // Arcs to more important vertices by tail: upward graph of forward search.
+    private final int[] upOffsets;
+    private final int[] upArcs;
+    // Arcs from more important vertices by head: upward graph of backward search.
+    private final int[] downOffsets;
+    private final int[] downArcs;
+
+    private final ThreadLocal<Query> queries;
+
+    private ContractionHierarchy(Graph<V, E> source, IndexedGraph<V, E> graph, Builder builder) {
+        this.source = source;
+        this.graph = graph;
+        final int arcCount = builder.arcCount;
+        this.shortcutCount = builder.shortcutCount;
+        this.tails = Arrays.copyOf(builder.tails, arcCount);
+        this.heads = Arrays.copyOf(builder.heads, arcCount);
+        this.weights = Arrays.copyOf(builder.weights, arcCount);
+        this.firsts = Arrays.copyOf(builder.firsts, arcCount);
+        this.seconds = Arrays.copyOf(builder.seconds, arcCount);
+        this.edgeIndexes = Arrays.copyOf(builder.edgeIndexes, arcCount);
+
+        final int count = graph.vertexCount();
+        final int[] ranks = builder.ranks;
+        this.upOffsets = new int[count + 1];
+        this.downOffsets = new int[count + 1];
+        for (int arc = 0; arc < arcCount; arc++) {
+            if (ranks[heads[arc]] > ranks[tails[arc]]) {
+                upOffsets[tails[arc] + 1]++;
+            } else {
+                downOffsets[heads[arc] + 1]++;
+            }
+        }
+        for (int id = 0; id < count; id++) {
+            upOffsets[id + 1] += upOffsets[id];
+            downOffsets[id + 1] += downOffsets[id];
+        }
+        this.upArcs = new int[upOffsets[count]];
+        this.downArcs = new int[downOffsets[count]];
+        final int[] upPositions = Arrays.copyOf(upOffsets, count);
+        final int[] downPositions = Arrays.copyOf(downOffsets, count);
+        for (int arc = 0; arc < arcCount; arc++) {
+            if (ranks[heads[arc]] > ranks[tails[arc]]) {
+                upArcs[upPositions[tails[arc]]++] = arc;
+            } else {
+                downArcs[downPositions[heads[arc]]++] = arc;
+            }
+        }
+        this.queries = ThreadLocal.withInitial(() -> new Query(count));
+    }
+
+    /**
+     * Build hierarchy using common fork join pool.
+     *
+     * @param graph static weighted graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return hierarchy.
+     * @throws IllegalArgumentException if graph has edges with negative weight.
+     */
+    public static <V, E extends WeightedEdge<V>> ContractionHierarchy<V, E> build(Graph<V, E> graph) {
+        return build(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Build hierarchy.
+     * Mutable graph is copied into CsrGraph, see Graphs.freeze.
+     *
+     * @param graph static weighted graph. Can't be null.
+     * @param pool pool which runs witness searches. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return hierarchy.
+     * @throws IllegalArgumentException if graph has edges with negative weight.
+     */
+    public static <V, E extends WeightedEdge<V>> ContractionHierarchy<V, E> build(Graph<V, E> graph, ForkJoinPool pool) {
+        return build(graph, pool, null);
+    }
+
+    /**
+     * Build hierarchy.
+     * Mutable graph is copied into CsrGraph, see Graphs.freeze.
+     *
+     * @param graph static weighted graph. Can't be null.
+     * @param pool pool which runs witness searches. Can't be null.
+     * @param columns columns with EdgeColumns.WEIGHT column, weights of their graph are read from the column
+     *                if the graph is not copied. Null - weights are read from edges.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return hierarchy.
+     * @throws IllegalArgumentException if graph has edges with negative weight or columns have no weight column.
+     */
+    public static <V, E extends WeightedEdge<V>> ContractionHierarchy<V, E> build(
+            Graph<V, E> graph, ForkJoinPool pool, EdgeColumns<E> columns
+    ) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(pool, MSG_POOL_SHOULD_BE_NON_NULL);
+        if (columns != null) {
+            columns.getDoubleColumn(EdgeColumns.WEIGHT);
+        }
+        final IndexedGraph<V, E> indexedGraph = Graphs.freeze(graph);
+        final Builder builder = new Builder(SearchGraph.of(indexedGraph, columns));
+        builder.contract(pool);
+        return new ContractionHierarchy<>(graph, indexedGraph, builder);
+    }
+
+    /**
+     * Get count of shortcut arcs added by preprocessing.
+     *
+     * @return count of shortcuts.
+     */
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    /**
+     * Check if hierarchy was built for the graph.
+     *
+     * @param other graph.
+     * @return true - hierarchy was built for this graph object or it is the snapshot the hierarchy keeps.
+     */
+    public boolean isBuiltFor(Graph<?, ?> other) {
+        return source == other || graph == other;
+    }
+
+    /**
+     * Find path with minimal sum of edge weights.
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @return path and its weight. Weight is Double.POSITIVE_INFINITY if target is not reachable.
+     * @throws IllegalArgumentException if vertices were not in the graph when hierarchy was built.
+     */
+    public WeightedPath<E> findPath(V sourceVertex, V targetVertex) {
+        final int sourceId = graph.idOf(sourceVertex);
+        if (sourceId == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+        final int targetId = graph.idOf(targetVertex);
+        if (targetId == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+        }
+        if (sourceId == targetId) {
+            return new WeightedPath<>(Collections.emptyList(), 0);
+        }
+
+        final Query query = queries.get();
+        try {
+            return query.run(sourceId, targetId);
+        } finally {
+            query.reset();
+        }
+    }
+
+    /**
+     * Append original edges of arc in path order.
+     */
+    private void unpack(int arc, List<E> path) {
+        final IntList stack = new IntList();
+        stack.add(arc);
+        while (stack.size() > 0) {
+            final int current = stack.removeLast();
+            if (firsts[current] == NO_ARC) {
+                final E edge = graph.outgoingEdge(tails[current], edgeIndexes[current]);
+                // Undirected edges could be stored in the opposite orientation.
+                path.add(edge.getSource().equals(graph.vertexOf(tails[current])) ? edge : (E) edge.getOpposite());
+            } else {
+                stack.add(seconds[current]);
+                stack.add(firsts[current]);
+            }
+        }
+    }
+
+    /**
+     * State of bidirectional upward search. It is reused by queries of one thread.
+     */
+    private final class Query {
+        private final double[] forwardDistances;
+        private final double[] backwardDistances;
+        private final int[] forwardArcs;
+        private final int[] backwardArcs;
+        private final IndexedDoubleHeap forwardHeap;
+        private final IndexedDoubleHeap backwardHeap;
+        private final IntList touched = new IntList();
+
+        private Query(int count) {
+            this.forwardDistances = new double[count];
+            this.backwardDistances = new double[count];
+            Arrays.fill(forwardDistances, Double.POSITIVE_INFINITY);
+            Arrays.fill(backwardDistances, Double.POSITIVE_INFINITY);
+            this.forwardArcs = new int[count];
+            this.backwardArcs = new int[count];
+            this.forwardHeap = new IndexedDoubleHeap(count);
+            this.backwardHeap = new IndexedDoubleHeap(count);
+        }
+
+        private WeightedPath<E> run(int sourceId, int targetId) {
+            reach(forwardDistances, forwardArcs, forwardHeap, sourceId, 0, NO_ARC);
+            reach(backwardDistances, backwardArcs, backwardHeap, targetId, 0, NO_ARC);
+            double best = Double.POSITIVE_INFINITY;
+            int meeting = UNKNOWN_ID;
+            while (true) {
+                // Side could stop when its closest vertex is not closer than the best meeting.
+                final boolean forward = !forwardHeap.isEmpty() && forwardHeap.peekKey() < best;
+                final boolean backward = !backwardHeap.isEmpty() && backwardHeap.peekKey() < best;
+                if (!forward && !backward) {
+                    break;
+                }
+                final boolean isForward = forward && (!backward || forwardHeap.peekKey() <= backwardHeap.peekKey());
+                final int vertex = isForward ? forwardHeap.poll() : backwardHeap.poll();
+                final double total = forwardDistances[vertex] + backwardDistances[vertex];
+                if (total < best) {
+                    best = total;
+                    meeting = vertex;
+                }
+                if (isForward) {
+                    for (int i = upOffsets[vertex]; i < upOffsets[vertex + 1]; i++) {
+                        final int arc = upArcs[i];
+                        reach(forwardDistances, forwardArcs, forwardHeap, heads[arc], forwardDistances[vertex] + weights[arc], arc);
+                    }
+                } else {
+                    for (int i = downOffsets[vertex]; i < downOffsets[vertex + 1]; i++) {
+                        final int arc = downArcs[i];
+                        reach(backwardDistances, backwardArcs, backwardHeap, tails[arc], backwardDistances[vertex] + weights[arc], arc);
+                    }
+                }
+            }
+            if (meeting == UNKNOWN_ID) {
+                return WeightedPath.notFound();
+            }
+
+            final IntList arcs = new IntList();
+            for (int vertex = meeting; forwardArcs[vertex] != NO_ARC; vertex = tails[forwardArcs[vertex]]) {
+                arcs.add(forwardArcs[vertex]);
+            }
+            final List<E> path = new ArrayList<>();
+            for (int i = arcs.size() - 1; i >= 0; i--) {
+                unpack(arcs.get(i), path);
+            }
+            for (int vertex = meeting; backwardArcs[vertex] != NO_ARC; vertex = heads[backwardArcs[vertex]]) {
+                unpack(backwardArcs[vertex], path);
+            }
+            return new WeightedPath<>(path, best);
+        }
+
+        private void reach(double[] distances, int[] arcs, IndexedDoubleHeap heap, int vertex, double distance, int arc) {
+            if (distance < distances[vertex]) {
+                if (forwardDistances[vertex] == Double.POSITIVE_INFINITY
+                        && backwardDistances[vertex] == Double.POSITIVE_INFINITY) {
+                    touched.add(vertex);
+                }
+                distances[vertex] = distance;
+                arcs[vertex] = arc;
+                heap.push(vertex, distance);
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < touched.size(); i++) {
+                forwardDistances[touched.get(i)] = Double.POSITIVE_INFINITY;
+                backwardDistances[touched.get(i)] = Double.POSITIVE_INFINITY;
+            }
+            touched.clear();
+            forwardHeap.clear();
+            backwardHeap.clear();
+        }
+    }
+
+    /**
+     * Mutable state of preprocessing.
+     * Arcs are changed only between parallel phases, which only read them.
+     */
+    private static final class Builder {
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private final int count;
+        private int arcCount;
+        private int shortcutCount;
+        private int[] tails = new int[DEFAULT_CAPACITY];
+        private int[] heads = new int[DEFAULT_CAPACITY];
+        private double[] weights = new double[DEFAULT_CAPACITY];
+        private int[] firsts = new int[DEFAULT_CAPACITY];
+        private int[] seconds = new int[DEFAULT_CAPACITY];
+        private int[] edgeIndexes = new int[DEFAULT_CAPACITY];
+
+        // Arc ids by tail and by head. Arcs to contracted vertices are skipped on reading.
+        private final IntList[] outArcs;
+        private final IntList[] inArcs;
+
+        private final int[] ranks;
+        private final boolean[] contracted;
+        // Vertices of the current round, witness searches do not go through them.
+        private final boolean[] contracting;
+        private final int[] priorities;
+        private final int[] contractedNeighbors;
+        private final ThreadLocal<WitnessSearch> witnessSearches;
+
+        private <V, E extends WeightedEdge<V>> Builder(SearchGraph<V, E> graph) {
+            this.count = graph.vertexCount();
+            this.outArcs = new IntList[count];
+            this.inArcs = new IntList[count];
+            for (int id = 0; id < count; id++) {
+                outArcs[id] = new IntList();
+                inArcs[id] = new IntList();
+            }
+            this.ranks = new int[count];
+            this.contracted = new boolean[count];
+            this.contracting = new boolean[count];
+            this.priorities = new int[count];
+            this.contractedNeighbors = new int[count];
+            this.witnessSearches = ThreadLocal.withInitial(() -> new WitnessSearch(count));
+
+            // Outgoing edges of undirected graphs are reached from both ends, so each gives two arcs.
+            for (int id = 0; id < count; id++) {
+                final int degree = graph.outDegree(id);
+                for (int i = 0; i < degree; i++) {
+                    final int next = graph.outgoingId(id, i);
+                    if (next != id) {
+                        addArc(id, next, DijkstraTraversalServiceImpl.checkWeight(graph.outgoingWeight(id, i)), NO_ARC, NO_ARC, i);
+                    }
+                }
+            }
+        }
+
+        private void contract(ForkJoinPool pool) {
+            int[] remaining = IntStream.range(0, count).toArray();
+            pool.submit(() -> IntStream.range(0, count).parallel().forEach(id -> priorities[id] = simulate(id))).join();
+
+            int rank = 0;
+            while (remaining.length > 0) {
+                final int[] candidates = remaining;
+                final int[] round = pool.submit(() -> Arrays.stream(candidates).parallel()
+                        .filter(this::isLocalMinimum)
+                        .toArray()).join();
+                for (int vertex : round) {
+                    contracting[vertex] = true;
+                }
+                final Shortcuts[] shortcuts = pool.submit(() -> Arrays.stream(round).parallel()
+                        .mapToObj(this::findShortcuts)
+                        .toArray(Shortcuts[]::new)).join();
+
+                final IntList changed = new IntList();
+                for (int i = 0; i < round.length; i++) {
+                    final int vertex = round[i];
+                    ranks[vertex] = rank++;
+                    contracted[vertex] = true;
+                    contracting[vertex] = false;
+                    shortcuts[i].apply(this);
+                    collectNeighbors(vertex, changed);
+                }
+                pool.submit(() -> Arrays.stream(changed.toArray()).distinct().parallel()
+                        .forEach(id -> priorities[id] = simulate(id))).join();
+                remaining = Arrays.stream(remaining).filter(id -> !contracted[id]).toArray();
+            }
+        }
+
+        private boolean isLocalMinimum(int vertex) {
+            return isLessThanNeighbors(vertex, outArcs[vertex], heads) && isLessThanNeighbors(vertex, inArcs[vertex], tails);
+        }
+
+        private boolean isLessThanNeighbors(int vertex, IntList arcs, int[] ends) {
+            for (int i = 0; i < arcs.size(); i++) {
+                final int neighbor = ends[arcs.get(i)];
+                if (!contracted[neighbor] && (priorities[neighbor] < priorities[vertex]
+                        || priorities[neighbor] == priorities[vertex] && neighbor < vertex)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void collectNeighbors(int vertex, IntList result) {
+            for (int i = 0; i < outArcs[vertex].size(); i++) {
+                final int neighbor = heads[outArcs[vertex].get(i)];
+                if (!contracted[neighbor]) {
+                    contractedNeighbors[neighbor]++;
+                    result.add(neighbor);
+                }
+            }
+            for (int i = 0; i < inArcs[vertex].size(); i++) {
+                final int neighbor = tails[inArcs[vertex].get(i)];
+                if (!contracted[neighbor]) {
+                    contractedNeighbors[neighbor]++;
+                    result.add(neighbor);
+                }
+            }
+        }
+
+        private int simulate(int vertex) {
+            final Shortcuts shortcuts = findShortcuts(vertex);
+            int removed = 0;
+            for (int i = 0; i < outArcs[vertex].size(); i++) {
+                removed += contracted[heads[outArcs[vertex].get(i)]] ? 0 : 1;
+            }
+            for (int i = 0; i < inArcs[vertex].size(); i++) {
+                removed += contracted[tails[inArcs[vertex].get(i)]] ? 0 : 1;
+            }
+            return shortcuts.size() - removed + contractedNeighbors[vertex];
+        }
+
+        /**
+         * Find shortcuts which are needed to contract vertex.
+         * It only reads arcs, so it could run in parallel for different vertices.
+         */
+        private Shortcuts findShortcuts(int vertex) {
+            final Shortcuts result = new Shortcuts();
+            final WitnessSearch search = witnessSearches.get();
+            final IntList in = inArcs[vertex];
+            final IntList out = outArcs[vertex];
+            for (int i = 0; i < in.size(); i++) {
+                final int inArc = in.get(i);
+                final int from = tails[inArc];
+                if (contracted[from] || contracting[from]) {
+                    continue;
+                }
+                double limit = 0;
+                for (int j = 0; j < out.size(); j++) {
+                    final int to = heads[out.get(j)];
+                    if (to != from && !contracted[to]) {
+                        limit = Math.max(limit, weights[inArc] + weights[out.get(j)]);
+                    }
+                }
+                search.run(this, from, vertex, limit);
+                for (int j = 0; j < out.size(); j++) {
+                    final int outArc = out.get(j);
+                    final int to = heads[outArc];
+                    final double weight = weights[inArc] + weights[outArc];
+                    if (to != from && !contracted[to] && !contracting[to] && search.distance(to) > weight) {
+                        result.add(inArc, outArc, weight);
+                    }
+                }
+                search.reset();
+            }
+            return result;
+        }
+
+        private void addArc(int tail, int head, double weight, int first, int second, int edgeIndex) {
+            // Keep only the lightest arc between vertices. Arcs between not contracted vertices are not parts
+            // of shortcuts, so they could be replaced.
+            final IntList out = outArcs[tail];
+            for (int i = 0; i < out.size(); i++) {
+                final int arc = out.get(i);
+                if (heads[arc] == head) {
+                    if (weight < weights[arc]) {
+                        setArc(arc, tail, head, weight, first, second, edgeIndex);
+                    }
+                    return;
+                }
+            }
+            if (arcCount == tails.length) {
+                final int capacity = arcCount * 2;
+                tails = Arrays.copyOf(tails, capacity);
+                heads = Arrays.copyOf(heads, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                firsts = Arrays.copyOf(firsts, capacity);
+                seconds = Arrays.copyOf(seconds, capacity);
+                edgeIndexes = Arrays.copyOf(edgeIndexes, capacity);
+            }
+            final int arc = arcCount++;
+            setArc(arc, tail, head, weight, first, second, edgeIndex);
+            outArcs[tail].add(arc);
+            inArcs[head].add(arc);
+        }
+
+        private void setArc(int arc, int tail, int head, double weight, int first, int second, int edgeIndex) {
+            tails[arc] = tail;
+            heads[arc] = head;
+            weights[arc] = weight;
+            firsts[arc] = first;
+            seconds[arc] = second;
+            edgeIndexes[arc] = edgeIndex;
+        }
+    }
+
+    /**
+     * Shortcuts of one contracted vertex.
+     */
+    private static final class Shortcuts {
+        private final IntList firsts = new IntList();
+        private final IntList seconds = new IntList();
+        private double[] weights = new double[0];
+
+        private int size() {
+            return firsts.size();
+        }
+
+        private void add(int first, int second, double weight) {
+            if (weights.length == firsts.size()) {
+                weights = Arrays.copyOf(weights, Math.max(1, weights.length * 2));
+            }
+            weights[firsts.size()] = weight;
+            firsts.add(first);
+            seconds.add(second);
+        }
+
+        private void apply(Builder builder) {
+            for (int i = 0; i < size(); i++) {
+                final int first = firsts.get(i);
+                final int second = seconds.get(i);
+                builder.addArc(builder.tails[first], builder.heads[second], weights[i], first, second, NO_ARC);
+                builder.shortcutCount++;
+            }
+        }
+    }
+
+    /**
+     * Local Dijkstra search which looks for paths around contracted vertex.
+     */
+    private static final class WitnessSearch {
+        private final double[] distances;
+        private final IndexedDoubleHeap heap;
+        private final IntList touched = new IntList();
+
+        private WitnessSearch(int count) {
+            this.distances = new double[count];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            this.heap = new IndexedDoubleHeap(count);
+        }
+
+        private void run(Builder builder, int from, int excluded, double limit) {
+            distances[from] = 0;
+            touched.add(from);
+            heap.push(from, 0);
+            int settled = 0;
+            while (!heap.isEmpty() && heap.peekKey() <= limit && settled < WITNESS_SETTLED_LIMIT) {
+                final int vertex = heap.poll();
+                settled++;
+                final IntList arcs = builder.outArcs[vertex];
+                for (int i = 0; i < arcs.size(); i++) {
+                    final int arc = arcs.get(i);
+                    final int next = builder.heads[arc];
+                    if (next == excluded || builder.contracted[next] || builder.contracting[next]) {
+                        continue;
+                    }
+                    final double distance = distances[vertex] + builder.weights[arc];
+                    if (distance < distances[next]) {
+                        if (distances[next] == Double.POSITIVE_INFINITY) {
+                            touched.add(next);
+                        }
+                        distances[next] = distance;
+                        heap.push(next, distance);
+                    }
+                }
+            }
+        }
+
+        private double distance(int vertex) {
+            return distances[vertex];
+        }
+
+        private void reset() {
+            for (int i = 0; i < touched.size(); i++) {
+                distances[touched.get(i)] = Double.POSITIVE_INFINITY;
+            }
+            touched.clear();
+            heap.clear();
+        }
+    }
+}
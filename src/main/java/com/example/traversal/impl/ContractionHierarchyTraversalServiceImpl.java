@@ -0,0 +1,77 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.WeightedEdge;
+import com.example.traversal.WeightedPath;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.traversal.impl.ContractionHierarchy.MSG_GRAPH_DOES_NOT_MATCH;
+
+/**
+ * Traversal service which finds path with minimal sum of edge weights by contraction hierarchy.
+ * Hierarchy is built once for a static graph, then each query settles only a small part of the graph.
+ * It could be used instead of DijkstraTraversalServiceImpl for the graph the hierarchy was built for.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public class ContractionHierarchyTraversalServiceImpl<V, E extends WeightedEdge<V>> extends AbstractTraversalService<V, E> {
+    public static final String MSG_HIERARCHY_SHOULD_BE_NON_NULL = "Contraction hierarchy should be not null";
+
+    private final ContractionHierarchy<V, E> hierarchy;
+
+    /**
+     * Constructor which builds hierarchy using common fork join pool.
+     *
+     * @param graph static weighted graph. Can't be null.
+     * @throws IllegalArgumentException if graph has edges with negative weight.
+     */
+    public ContractionHierarchyTraversalServiceImpl(Graph<V, E> graph) {
+        this(ContractionHierarchy.build(graph));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param hierarchy prebuilt hierarchy. Can't be null.
+     */
+    public ContractionHierarchyTraversalServiceImpl(ContractionHierarchy<V, E> hierarchy) {
+        this.hierarchy = Objects.requireNonNull(hierarchy, MSG_HIERARCHY_SHOULD_BE_NON_NULL);
+    }
+
+    /**
+     * Returns path with minimal sum of edge weights and the sum.
+     *
+     * @param graph the graph hierarchy was built for. Can't be null.
+     * @param sourceVertex source vertex to find path. Can't be null.
+     * @param targetVertex target vertex to find path. Can't be null.
+     * @return path and its weight. Weight is 0 if source is target,
+     *         Double.POSITIVE_INFINITY if target is not reachable.
+     * @throws NullPointerException if any of the specified vertices or graph is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph
+     *         or hierarchy was built for another graph.
+     */
+    public WeightedPath<E> getWeightedPath(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        checkVertices(graph, sourceVertex, targetVertex);
+        checkGraph(graph);
+        if (sourceVertex.equals(targetVertex)) {
+            return new WeightedPath<>(Collections.emptyList(), 0);
+        }
+        return hierarchy.findPath(sourceVertex, targetVertex);
+    }
+
+    @Override
+    protected List<E> traverse(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        checkGraph(graph);
+        return hierarchy.findPath(sourceVertex, targetVertex).getEdges();
+    }
+
+    private void checkGraph(Graph<V, E> graph) {
+        if (!hierarchy.isBuiltFor(graph)) {
+            throw new IllegalArgumentException(MSG_GRAPH_DOES_NOT_MATCH);
+        }
+    }
+}
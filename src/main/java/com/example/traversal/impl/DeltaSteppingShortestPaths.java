@@ -0,0 +1,337 @@
+package com.example.traversal.impl;
+
+import com.example.graph.IndexedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.ContractionHierarchy.MSG_POOL_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+
+/**
+ * Parallel single source shortest paths by delta-stepping algorithm.
+ * Vertices are kept in buckets of tentative distance of width delta. The first bucket is processed in phases:
+ * all its vertices relax light edges (weight is not greater than delta) in parallel, which could add vertices
+ * back into the bucket, then vertices settled in the bucket relax heavy edges once.
+ * Distances are updated by compare and set of double bits, which have the same order as not negative doubles.
+ * <p>
+ * Delta near the average edge weight is a good start. Small delta gives Dijkstra with little parallelism,
+ * big delta gives Bellman-Ford with many extra relaxations.
+ * Results are arrays by vertex id of indexed graph. Weights of the graph of EdgeColumns are read from the weight
+ * column by edge id. Thread safe, many searches could run at once.
+ */
+public final class DeltaSteppingShortestPaths {
+    public static final String MSG_DELTA_SHOULD_BE_POSITIVE = "Delta should be positive";
+    public static final String MSG_PARENTS_LENGTH_SHOULD_BE_VERTEX_COUNT = "Parents length should be equal to vertex count";
+
+    // Count of frontier vertices relaxed by one task.
+    private static final int TASK_SIZE = 256;
+
+    private final double delta;
+    private final ForkJoinPool pool;
+    private final EdgeColumns<?> columns;
+
+    /**
+     * Constructor which uses common fork join pool.
+     *
+     * @param delta bucket width. Should be positive.
+     */
+    public DeltaSteppingShortestPaths(double delta) {
+        this(delta, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delta bucket width. Should be positive.
+     * @param pool pool which relaxes edges. Can't be null.
+     */
+    public DeltaSteppingShortestPaths(double delta, ForkJoinPool pool) {
+        this(delta, pool, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delta bucket width. Should be positive.
+     * @param pool pool which relaxes edges. Can't be null.
+     * @param columns columns with EdgeColumns.WEIGHT column, weights of their graph are read from the column.
+     *                Null - weights are read from edges.
+     * @throws IllegalArgumentException if delta is not positive or columns have no weight column.
+     */
+    public DeltaSteppingShortestPaths(double delta, ForkJoinPool pool, EdgeColumns<?> columns) {
+        if (!(delta > 0)) {
+            throw new IllegalArgumentException(MSG_DELTA_SHOULD_BE_POSITIVE);
+        }
+        if (columns != null) {
+            columns.getDoubleColumn(EdgeColumns.WEIGHT);
+        }
+        this.delta = delta;
+        this.pool = Objects.requireNonNull(pool, MSG_POOL_SHOULD_BE_NON_NULL);
+        this.columns = columns;
+    }
+
+    /**
+     * Distances from source to all vertices.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distances by vertex id. Double.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids, source is not found
+     *         or search reaches an edge with negative weight.
+     */
+    public <V, E extends WeightedEdge<V>> double[] distances(IndexedGraph<V, E> graph, V sourceVertex) {
+        return distances(graph, sourceVertex, null);
+    }
+
+    /**
+     * Distances from source to all vertices and tree of shortest paths.
+     *
+     * @param graph indexed weighted graph. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param parents array to fill by id of previous vertex of the shortest path, UNKNOWN_ID for source
+     *                and not reachable vertices. Its length should be the vertex count. Null if it is not needed.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distances by vertex id. Double.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids, source is not found,
+     *         parents has wrong length or search reaches an edge with negative weight.
+     */
+    public <V, E extends WeightedEdge<V>> double[] distances(IndexedGraph<V, E> graph, V sourceVertex, int[] parents) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        if (!graph.isIndexed()) {
+            throw new IllegalArgumentException(MSG_GRAPH_IS_NOT_INDEXED);
+        }
+        if (parents != null && parents.length != graph.vertexCount()) {
+            throw new IllegalArgumentException(MSG_PARENTS_LENGTH_SHOULD_BE_VERTEX_COUNT);
+        }
+        final int source = graph.idOf(sourceVertex);
+        if (source == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+        return new Search<>(SearchGraph.of(graph, columns), parents).run(source);
+    }
+
+    /**
+     * State of one search.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private final class Search<V, E extends WeightedEdge<V>> {
+        // View of indexed graph, it has no state, so parallel tasks read it at once.
+        private final SearchGraph<V, E> graph;
+        // Bits of tentative distances.
+        private final AtomicLongArray distances;
+        private final int[] parents;
+        // Stamps of vertices which are already in the frontier being built.
+        private final int[] stamps;
+        private int stamp;
+        private final TreeMap<Long, IntList> buckets = new TreeMap<>();
+        private final ConcurrentLinkedQueue<Updates> updates = new ConcurrentLinkedQueue<>();
+        private volatile boolean negativeWeight;
+
+        private Search(SearchGraph<V, E> graph, int[] parents) {
+            this.graph = graph;
+            final int count = graph.vertexCount();
+            this.distances = new AtomicLongArray(count);
+            for (int id = 0; id < count; id++) {
+                distances.set(id, Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+            }
+            this.parents = parents;
+            if (parents != null) {
+                Arrays.fill(parents, UNKNOWN_ID);
+            }
+            this.stamps = new int[count];
+        }
+
+        private double[] run(int source) {
+            distances.set(source, Double.doubleToRawLongBits(0));
+            final IntList first = new IntList();
+            first.add(source);
+            buckets.put(0L, first);
+            while (!buckets.isEmpty()) {
+                final Map.Entry<Long, IntList> entry = buckets.pollFirstEntry();
+                final long bucket = entry.getKey();
+                IntList pending = entry.getValue();
+                final IntList settled = new IntList();
+                while (pending.size() > 0) {
+                    final int[] frontier = frontier(pending, bucket);
+                    settled.addAll(frontier);
+                    pending = relax(frontier, true, bucket);
+                }
+                // Heavy edges are longer than delta, so they never lead back into the current bucket.
+                relax(frontier(settled, bucket), false, bucket);
+            }
+
+            final double[] result = new double[graph.vertexCount()];
+            for (int id = 0; id < result.length; id++) {
+                result[id] = distance(id);
+            }
+            return result;
+        }
+
+        private double distance(int vertex) {
+            return Double.longBitsToDouble(distances.get(vertex));
+        }
+
+        /**
+         * Vertices of the list which are still in the bucket, without duplicates.
+         */
+        private int[] frontier(IntList vertices, long bucket) {
+            stamp++;
+            final IntList result = new IntList();
+            for (int i = 0; i < vertices.size(); i++) {
+                final int vertex = vertices.get(i);
+                if (stamps[vertex] != stamp && bucketOf(distance(vertex)) == bucket) {
+                    stamps[vertex] = stamp;
+                    result.add(vertex);
+                }
+            }
+            return result.toArray();
+        }
+
+        /**
+         * Relax light or heavy edges of frontier in parallel.
+         * Then put updated vertices into buckets and set parents by the last update of each vertex.
+         *
+         * @return vertices which were put into the current bucket.
+         */
+        private IntList relax(int[] frontier, boolean light, long bucket) {
+            pool.invoke(new Relaxation(frontier, 0, frontier.length, light));
+            if (negativeWeight) {
+                throw new IllegalArgumentException(MSG_NEGATIVE_WEIGHT);
+            }
+
+            final IntList current = new IntList();
+            for (Updates chunk = updates.poll(); chunk != null; chunk = updates.poll()) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    final int vertex = chunk.vertices.get(i);
+                    final double distance = chunk.distances[i];
+                    // Distances only decrease, so only one update of the vertex has the final distance of the phase.
+                    if (distance(vertex) != distance) {
+                        continue;
+                    }
+                    if (parents != null) {
+                        parents[vertex] = chunk.parents.get(i);
+                    }
+                    final long target = bucketOf(distance);
+                    if (target == bucket) {
+                        current.add(vertex);
+                    } else {
+                        buckets.computeIfAbsent(target, key -> new IntList()).add(vertex);
+                    }
+                }
+            }
+            return current;
+        }
+
+        private long bucketOf(double distance) {
+            return (long) (distance / delta);
+        }
+
+        /**
+         * Set distance if it is less than the current one.
+         *
+         * @return true - distance was updated.
+         */
+        private boolean lower(int vertex, double distance) {
+            final long bits = Double.doubleToRawLongBits(distance);
+            while (true) {
+                final long current = distances.get(vertex);
+                if (bits >= current) {
+                    return false;
+                }
+                if (distances.compareAndSet(vertex, current, bits)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Relaxation of frontier range. Big ranges are split in halves.
+         */
+        private final class Relaxation extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int[] frontier;
+            private final int from;
+            private final int to;
+            private final boolean light;
+
+            private Relaxation(int[] frontier, int from, int to, boolean light) {
+                this.frontier = frontier;
+                this.from = from;
+                this.to = to;
+                this.light = light;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from > TASK_SIZE) {
+                    final int middle = (from + to) >>> 1;
+                    invokeAll(new Relaxation(frontier, from, middle, light), new Relaxation(frontier, middle, to, light));
+                    return;
+                }
+                final Updates result = new Updates();
+                for (int i = from; i < to; i++) {
+                    final int vertex = frontier[i];
+                    final double distance = distance(vertex);
+                    final int degree = graph.outDegree(vertex);
+                    for (int j = 0; j < degree; j++) {
+                        final double weight = graph.outgoingWeight(vertex, j);
+                        if (weight < 0) {
+                            negativeWeight = true;
+                        } else if (weight <= delta == light) {
+                            final int next = graph.outgoingId(vertex, j);
+                            if (lower(next, distance + weight)) {
+                                result.add(next, vertex, distance + weight);
+                            }
+                        }
+                    }
+                }
+                if (result.size() > 0) {
+                    updates.add(result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Successful relaxations of one task.
+     */
+    private static final class Updates {
+        private final IntList vertices = new IntList();
+        private final IntList parents = new IntList();
+        private double[] distances = new double[TASK_SIZE];
+
+        private int size() {
+            return vertices.size();
+        }
+
+        private void add(int vertex, int parent, double distance) {
+            if (vertices.size() == distances.length) {
+                distances = Arrays.copyOf(distances, distances.length * 2);
+            }
+            distances[vertices.size()] = distance;
+            vertices.add(vertex);
+            parents.add(parent);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import com.example.traversal.WeightedPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Traversal service which finds path with minimal sum of edge weights.
+ * Uses Dijkstra algorithm with indexed binary heap of int vertex ids and double distances,
+ * so there are no entry objects or boxed keys. Search stops when the target is settled.
+ * Graphs without vertex ids get ids when vertices are reached, so search state grows with the searched area.
+ * Edge weights should be not negative.
+ * Works with all graph types, including undirected.
+ * With EdgeColumns weights of the graph of columns are read from the weight column by edge id,
+ * edge objects are touched only to build the found path.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public class DijkstraTraversalServiceImpl<V, E extends WeightedEdge<V>> extends AbstractTraversalService<V, E> {
+    public static final String MSG_NEGATIVE_WEIGHT = "Edge weight should be not negative";
+    public static final String MSG_COLUMNS_SHOULD_BE_NON_NULL = "Edge columns should be not null";
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final EdgeColumns<E> columns;
+
+    /**
+     * Constructor. Weights are read from edges.
+     */
+    public DijkstraTraversalServiceImpl() {
+        this.columns = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param columns columns with EdgeColumns.WEIGHT column. Weights of their graph are read from the column,
+     *                weights of other graphs are read from edges. Can't be null.
+     * @throws IllegalArgumentException if columns have no weight column.
+     */
+    public DijkstraTraversalServiceImpl(EdgeColumns<E> columns) {
+        this.columns = Objects.requireNonNull(columns, MSG_COLUMNS_SHOULD_BE_NON_NULL);
+        columns.getDoubleColumn(EdgeColumns.WEIGHT);
+    }
+
+    /**
+     * Returns path with minimal sum of edge weights and the sum.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex to find path. Can't be null.
+     * @param targetVertex target vertex to find path. Can't be null.
+     * @return path and its weight. Weight is 0 if source is target,
+     *         Double.POSITIVE_INFINITY if target is not reachable.
+     * @throws NullPointerException if any of the specified vertices or graph is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph
+     *         or search reaches an edge with negative weight.
+     */
+    public WeightedPath<E> getWeightedPath(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        checkVertices(graph, sourceVertex, targetVertex);
+        if (sourceVertex.equals(targetVertex)) {
+            return new WeightedPath<>(Collections.emptyList(), 0);
+        }
+        return search(graph, sourceVertex, targetVertex);
+    }
+
+    /**
+     * Returns paths with minimal sum of edge weights from source to each of target vertices.
+     * One Dijkstra search answers all targets, it stops when the last target is settled.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertices target vertices. Can't be null.
+     * @return paths and weights by target in order of targets.
+     * @throws NullPointerException if graph, source, targets or any of targets is null.
+     * @throws IllegalArgumentException if provided vertices do not exists in graph
+     *         or search reaches an edge with negative weight.
+     */
+    public Map<V, WeightedPath<E>> getWeightedPaths(final Graph<V, E> graph, final V sourceVertex, final Collection<V> targetVertices) {
+        checkTargets(graph, sourceVertex, targetVertices);
+        final SearchTree tree = createTree(graph, sourceVertex, targetVertices);
+        tree.grow(null);
+
+        final Map<V, WeightedPath<E>> result = new LinkedHashMap<>();
+        for (V targetVertex : targetVertices) {
+            result.put(targetVertex, tree.path(graph, sourceVertex, targetVertex));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<V, List<E>> getPaths(final Graph<V, E> graph, final V sourceVertex, final Collection<V> targetVertices) {
+        final Map<V, List<E>> result = new LinkedHashMap<>();
+        getWeightedPaths(graph, sourceVertex, targetVertices).forEach((target, path) -> result.put(target, path.getEdges()));
+        return result;
+    }
+
+    @Override
+    protected List<E> traverse(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
+        return search(graph, sourceVertex, targetVertex).getEdges();
+    }
+
+    /**
+     * Create lower bound of distance from vertex to target.
+     * Dijkstra does not know anything about the graph, so there is no bound.
+     *
+     * @param graph graph to traverse.
+     * @param tree search tree, estimates are requested by its ids.
+     * @param target target id in the tree.
+     * @return function which gets not negative bound by id or null if bound is always 0.
+     */
+    IntToDoubleFunction createEstimator(Graph<V, E> graph, SearchTree tree, int target) {
+        return null;
+    }
+
+    /**
+     * Distances from source to all vertices.
+     *
+     * @param graph graph view.
+     * @param source source id.
+     * @param backward true - distances from all vertices to source over incoming edges.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return distances by vertex id. Double.POSITIVE_INFINITY for not reachable vertices.
+     * @throws IllegalArgumentException if search reaches an edge with negative weight.
+     */
+    static <V, E extends WeightedEdge<V>> double[] distances(SearchGraph<V, E> graph, int source, boolean backward) {
+        final double[] distances = new double[graph.vertexCount()];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        final IndexedDoubleHeap heap = new IndexedDoubleHeap(graph.vertexCount());
+        distances[source] = 0;
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            final int vertex = heap.poll();
+            final int degree = backward ? graph.inDegree(vertex) : graph.outDegree(vertex);
+            for (int i = 0; i < degree; i++) {
+                final double weight = backward ? graph.incomingWeight(vertex, i) : graph.outgoingWeight(vertex, i);
+                final double distance = distances[vertex] + checkWeight(weight);
+                final int next = backward ? graph.incomingId(vertex, i) : graph.outgoingId(vertex, i);
+                if (distance < distances[next]) {
+                    distances[next] = distance;
+                    heap.push(next, distance);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Check weight of edge.
+     *
+     * @param weight edge weight.
+     * @return the same weight.
+     * @throws IllegalArgumentException if weight is negative.
+     */
+    static double checkWeight(double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException(MSG_NEGATIVE_WEIGHT);
+        }
+        return weight;
+    }
+
+    private WeightedPath<E> search(Graph<V, E> graph, V sourceVertex, V targetVertex) {
+        final SearchTree tree = createTree(graph, sourceVertex, Collections.singletonList(targetVertex));
+        tree.grow(createEstimator(graph, tree, tree.idOf(targetVertex)));
+        return tree.path(graph, sourceVertex, targetVertex);
+    }
+
+    /**
+     * Create search state. Graphs with vertex ids are searched by the ids,
+     * state of other graphs grows with reached vertices, so a short search does not pay for the whole graph.
+     */
+    private SearchTree createTree(Graph<V, E> graph, V sourceVertex, Collection<V> targetVertices) {
+        if (asIndexed(graph) != null || columns != null && columns.isBuiltFor(graph)) {
+            return new IndexedTree(SearchGraph.of(graph, columns), sourceVertex, targetVertices);
+        }
+        return new VertexTree(graph, sourceVertex, targetVertices);
+    }
+
+    /**
+     * Tree of shortest paths from source, which grows until all targets are settled.
+     * Vertices are known by ids of the tree, arrays of the tree grow with ids.
+     */
+    abstract class SearchTree {
+        private final int source;
+        private final IndexedDoubleHeap heap;
+        private double[] distances;
+        private int[] parents;
+        private IntToDoubleFunction estimator;
+
+        private SearchTree(int capacity, int source) {
+            this.source = source;
+            this.heap = new IndexedDoubleHeap(capacity);
+            this.distances = new double[capacity];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            this.parents = new int[capacity];
+        }
+
+        /**
+         * Get id of vertex which was passed as source or target.
+         *
+         * @param vertex vertex.
+         * @return id in the tree.
+         */
+        abstract int idOf(V vertex);
+
+        abstract V vertexOf(int id);
+
+        abstract boolean isTarget(int id);
+
+        abstract int targetCount();
+
+        /**
+         * Reach neighbors of settled vertex, see reach.
+         *
+         * @param id settled id.
+         */
+        abstract void expand(int id);
+
+        /**
+         * Get edge from parent of reached vertex.
+         *
+         * @param parent parent id.
+         * @param id reached id.
+         * @return edge.
+         */
+        abstract E parentEdge(int parent, int id);
+
+        /**
+         * Settle vertices in order of distance.
+         *
+         * @param bound lower bound of distance to the target or null.
+         */
+        void grow(IntToDoubleFunction bound) {
+            estimator = bound;
+            distances[source] = 0;
+            heap.push(source, estimator == null ? 0 : estimator.applyAsDouble(source));
+            int remaining = targetCount();
+            while (!heap.isEmpty() && remaining > 0) {
+                final int vertex = heap.poll();
+                if (isTarget(vertex) && --remaining == 0) {
+                    return;
+                }
+                expand(vertex);
+            }
+        }
+
+        double distance(int id) {
+            return id < distances.length ? distances[id] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Reach vertex over edge of settled parent.
+         *
+         * @param parent settled id.
+         * @param next reached id.
+         * @param weight weight of the edge.
+         * @return true - path over the parent is the shortest known path to next.
+         * @throws IllegalArgumentException if weight is negative.
+         */
+        boolean reach(int parent, int next, double weight) {
+            final double distance = distances[parent] + checkWeight(weight);
+            if (distance >= distance(next)) {
+                return false;
+            }
+            if (next >= distances.length) {
+                final int oldCapacity = distances.length;
+                distances = Arrays.copyOf(distances, Math.max(next + 1, oldCapacity * 2));
+                Arrays.fill(distances, oldCapacity, distances.length, Double.POSITIVE_INFINITY);
+                parents = Arrays.copyOf(parents, distances.length);
+            }
+            distances[next] = distance;
+            parents[next] = parent;
+            heap.push(next, estimator == null ? distance : distance + estimator.applyAsDouble(next));
+            return true;
+        }
+
+        /**
+         * Get path to settled or not reachable target.
+         */
+        private WeightedPath<E> path(Graph<V, E> graph, V sourceVertex, V targetVertex) {
+            final int target = idOf(targetVertex);
+            if (target == source) {
+                return new WeightedPath<>(Collections.emptyList(), 0);
+            }
+            if (distance(target) == Double.POSITIVE_INFINITY) {
+                return WeightedPath.notFound();
+            }
+            final List<E> path = new ArrayList<>();
+            for (int id = target; id != source; id = parents[id]) {
+                path.add(parentEdge(parents[id], id));
+            }
+            Collections.reverse(path);
+            return new WeightedPath<>(graph.isDirected() ? path : orientPath(path, sourceVertex), distances[target]);
+        }
+    }
+
+    /**
+     * Tree over ids of the graph view. Targets are kept in a sorted array.
+     */
+    private final class IndexedTree extends SearchTree {
+        private final SearchGraph<V, E> searchGraph;
+        private final int[] targets;
+        // Index of the edge in outgoing adjacency of the parent.
+        private final int[] edgeIndexes;
+
+        private IndexedTree(SearchGraph<V, E> searchGraph, V sourceVertex, Collection<V> targetVertices) {
+            super(searchGraph.vertexCount(), searchGraph.idOf(sourceVertex));
+            this.searchGraph = searchGraph;
+            final int source = searchGraph.idOf(sourceVertex);
+            this.targets = targetVertices.stream().mapToInt(searchGraph::idOf)
+                    .filter(id -> id != source).sorted().distinct().toArray();
+            this.edgeIndexes = new int[searchGraph.vertexCount()];
+        }
+
+        @Override
+        int idOf(V vertex) {
+            return searchGraph.idOf(vertex);
+        }
+
+        @Override
+        V vertexOf(int id) {
+            return searchGraph.vertexOf(id);
+        }
+
+        @Override
+        boolean isTarget(int id) {
+            return Arrays.binarySearch(targets, id) >= 0;
+        }
+
+        @Override
+        int targetCount() {
+            return targets.length;
+        }
+
+        @Override
+        void expand(int id) {
+            final int degree = searchGraph.outDegree(id);
+            for (int i = 0; i < degree; i++) {
+                final int next = searchGraph.outgoingId(id, i);
+                if (reach(id, next, searchGraph.outgoingWeight(id, i))) {
+                    edgeIndexes[next] = i;
+                }
+            }
+        }
+
+        @Override
+        E parentEdge(int parent, int id) {
+            return searchGraph.outgoingEdge(parent, edgeIndexes[id]);
+        }
+    }
+
+    /**
+     * Tree over ids which are given to vertices when they are reached, source is 0 and targets follow it.
+     * Adjacency is visited by forEachNeighbor, so no view of the whole graph is created.
+     */
+    private final class VertexTree extends SearchTree {
+        private final Graph<V, E> graph;
+        private final Map<V, Integer> ids = new HashMap<>();
+        private final List<V> vertices = new ArrayList<>();
+        private final int targetCount;
+        // Edge which connects the vertex with its parent.
+        private Object[] edges = new Object[DEFAULT_CAPACITY];
+
+        private VertexTree(Graph<V, E> graph, V sourceVertex, Collection<V> targetVertices) {
+            super(DEFAULT_CAPACITY, 0);
+            this.graph = graph;
+            register(sourceVertex);
+            for (V targetVertex : targetVertices) {
+                register(targetVertex);
+            }
+            this.targetCount = vertices.size() - 1;
+        }
+
+        private int register(V vertex) {
+            final int id = vertices.size();
+            final Integer existing = ids.putIfAbsent(vertex, id);
+            if (existing != null) {
+                return existing;
+            }
+            vertices.add(vertex);
+            return id;
+        }
+
+        @Override
+        int idOf(V vertex) {
+            return ids.get(vertex);
+        }
+
+        @Override
+        V vertexOf(int id) {
+            return vertices.get(id);
+        }
+
+        @Override
+        boolean isTarget(int id) {
+            return id > 0 && id <= targetCount;
+        }
+
+        @Override
+        int targetCount() {
+            return targetCount;
+        }
+
+        @Override
+        void expand(int id) {
+            graph.forEachNeighbor(vertices.get(id), (next, edge) -> {
+                final int nextId = register(next);
+                if (reach(id, nextId, edge.getWeight())) {
+                    if (nextId >= edges.length) {
+                        edges = Arrays.copyOf(edges, Math.max(nextId + 1, edges.length * 2));
+                    }
+                    edges[nextId] = edge;
+                }
+            });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        E parentEdge(int parent, int id) {
+            return (E) edges[id];
+        }
+    }
+}
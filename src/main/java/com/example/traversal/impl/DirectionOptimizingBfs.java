@@ -0,0 +1,226 @@
+package com.example.traversal.impl;
+
+import com.example.graph.IndexedGraph;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+import static com.example.traversal.impl.ContractionHierarchy.MSG_POOL_SHOULD_BE_NON_NULL;
+
+/**
+ * Parallel BFS which computes hop distances from source to all vertices.
+ * Frontier and visited vertices are bitsets by vertex id, each task owns a range of 64 bit words.
+ * Small frontiers are expanded top-down: frontier vertices push to not visited targets of outgoing edges.
+ * Big frontiers are expanded bottom-up: not visited vertices pull from incoming edges and stop at the first
+ * source in the frontier, which checks much fewer edges when most of the graph is reached at once.
+ * Direction is switched by edge counts of frontier and not visited vertices (Beamer, Asanovic, Patterson).
+ * Thread safe, many searches could run at once.
+ */
+public final class DirectionOptimizingBfs {
+    public static final int UNREACHABLE = -1;
+
+    // Switch to bottom-up when frontier edges are more than 1/ALPHA of edges of not visited vertices.
+    private static final int ALPHA = 14;
+    // Switch back to top-down when frontier has less than 1/BETA of vertices.
+    private static final int BETA = 24;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_SIZE = 1 << WORD_SHIFT;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor which uses common fork join pool.
+     */
+    public DirectionOptimizingBfs() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pool pool which expands frontiers. Can't be null.
+     */
+    public DirectionOptimizingBfs(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, MSG_POOL_SHOULD_BE_NON_NULL);
+    }
+
+    /**
+     * Count of edges on paths with minimal count of edges from source to all vertices.
+     *
+     * @param graph indexed graph. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @return distances by vertex id. UNREACHABLE for not reachable vertices.
+     * @throws IllegalArgumentException if graph does not keep vertex ids or source is not found.
+     */
+    public <V> int[] distances(IndexedGraph<V, ?> graph, V sourceVertex) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        if (!graph.isIndexed()) {
+            throw new IllegalArgumentException(MSG_GRAPH_IS_NOT_INDEXED);
+        }
+        final int source = graph.idOf(sourceVertex);
+        if (source == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+        return new Search(graph).run(source);
+    }
+
+    /**
+     * State of one search.
+     */
+    private final class Search {
+        private final IndexedGraph<?, ?> graph;
+        private final int count;
+        private final int words;
+        private final int[] distances;
+        private final AtomicLongArray visited;
+        private long[] frontier;
+        private AtomicLongArray next;
+
+        private Search(IndexedGraph<?, ?> graph) {
+            this.graph = graph;
+            this.count = graph.vertexCount();
+            this.words = (count + WORD_SIZE - 1) >>> WORD_SHIFT;
+            this.distances = new int[count];
+            Arrays.fill(distances, UNREACHABLE);
+            this.visited = new AtomicLongArray(words);
+            // Bits after the last vertex are marked as visited, so bottom-up steps skip them.
+            if ((count & (WORD_SIZE - 1)) != 0) {
+                visited.set(words - 1, -1L << (count & (WORD_SIZE - 1)));
+            }
+            this.frontier = new long[words];
+        }
+
+        private int[] run(int source) {
+            visited.set(source >>> WORD_SHIFT, visited.get(source >>> WORD_SHIFT) | 1L << source);
+            frontier[source >>> WORD_SHIFT] = 1L << source;
+            distances[source] = 0;
+            long frontierCount = 1;
+            long frontierEdges = graph.outDegree(source);
+            long unvisitedEdges = pool.submit(() -> IntStream.range(0, count).parallel()
+                    .mapToLong(graph::inDegree)
+                    .sum()).join() - graph.inDegree(source);
+            boolean topDown = true;
+            for (int level = 1; frontierCount > 0; level++) {
+                if (topDown && frontierEdges > unvisitedEdges / ALPHA) {
+                    topDown = false;
+                } else if (!topDown && frontierCount < count / BETA) {
+                    topDown = true;
+                }
+                final int distance = level;
+                final boolean isTopDown = topDown;
+                next = new AtomicLongArray(words);
+                pool.submit(() -> IntStream.range(0, words).parallel().forEach(word -> {
+                    if (isTopDown) {
+                        push(word, distance);
+                    } else {
+                        pull(word, distance);
+                    }
+                })).join();
+
+                final long[] current = new long[words];
+                for (int word = 0; word < words; word++) {
+                    current[word] = next.get(word);
+                }
+                frontier = current;
+                frontierCount = pool.submit(() -> Arrays.stream(current).parallel()
+                        .map(Long::bitCount)
+                        .sum()).join();
+                frontierEdges = sumDegrees(current, true);
+                unvisitedEdges -= sumDegrees(current, false);
+            }
+            return distances;
+        }
+
+        /**
+         * Visit not visited targets of outgoing edges of frontier vertices in the word.
+         */
+        private void push(int word, int distance) {
+            for (long bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                final int vertex = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                final int degree = graph.outDegree(vertex);
+                for (int i = 0; i < degree; i++) {
+                    final int target = graph.outgoingId(vertex, i);
+                    if (claim(target)) {
+                        distances[target] = distance;
+                        setBit(next, target);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Visit not visited vertices of the word which have an incoming edge from the frontier.
+         * Only this task changes the word, so there are no races.
+         */
+        private void pull(int word, int distance) {
+            long found = 0;
+            for (long bits = ~visited.get(word); bits != 0; bits &= bits - 1) {
+                final int vertex = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                final int degree = graph.inDegree(vertex);
+                for (int i = 0; i < degree; i++) {
+                    final int source = graph.incomingId(vertex, i);
+                    if ((frontier[source >>> WORD_SHIFT] & 1L << source) != 0) {
+                        distances[vertex] = distance;
+                        found |= 1L << vertex;
+                        break;
+                    }
+                }
+            }
+            if (found != 0) {
+                visited.set(word, visited.get(word) | found);
+                next.set(word, found);
+            }
+        }
+
+        /**
+         * Set visited bit of vertex.
+         *
+         * @return true - the vertex was not visited before.
+         */
+        private boolean claim(int vertex) {
+            final int word = vertex >>> WORD_SHIFT;
+            final long bit = 1L << vertex;
+            while (true) {
+                final long current = visited.get(word);
+                if ((current & bit) != 0) {
+                    return false;
+                }
+                if (visited.compareAndSet(word, current, current | bit)) {
+                    return true;
+                }
+            }
+        }
+
+        private void setBit(AtomicLongArray bitset, int vertex) {
+            final int word = vertex >>> WORD_SHIFT;
+            final long bit = 1L << vertex;
+            while (true) {
+                final long current = bitset.get(word);
+                if (bitset.compareAndSet(word, current, current | bit)) {
+                    return;
+                }
+            }
+        }
+
+        private long sumDegrees(long[] bitset, boolean outgoing) {
+            return pool.submit(() -> IntStream.range(0, words).parallel().mapToLong(word -> {
+                long sum = 0;
+                for (long bits = bitset[word]; bits != 0; bits &= bits - 1) {
+                    final int vertex = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                    sum += outgoing ? graph.outDegree(vertex) : graph.inDegree(vertex);
+                }
+                return sum;
+            }).sum()).join();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * Lazy traversals of any graph.
+ * Iterators and streams discover vertices only when they are consumed, so limit, findFirst and anyMatch
+ * stop the traversal early and memory is bounded by visited vertices instead of collected results.
+ * Graph should not be changed while it is traversed.
+ */
+public final class GraphTraversals {
+    private GraphTraversals() {
+    }
+
+    /**
+     * Iterate vertices reachable from source in BFS order, source is the first.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return lazy iterator.
+     * @throws IllegalArgumentException if source is not found.
+     */
+    public static <V, E extends Edge<V>> TraversalIterator<V, E> breadthFirstIterator(Graph<V, E> graph, V sourceVertex) {
+        checkSource(graph, sourceVertex);
+        return new TraversalIterator<>(graph, sourceVertex, false);
+    }
+
+    /**
+     * Iterate vertices reachable from source in DFS preorder, source is the first.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return lazy iterator.
+     * @throws IllegalArgumentException if source is not found.
+     */
+    public static <V, E extends Edge<V>> TraversalIterator<V, E> depthFirstIterator(Graph<V, E> graph, V sourceVertex) {
+        checkSource(graph, sourceVertex);
+        return new TraversalIterator<>(graph, sourceVertex, true);
+    }
+
+    /**
+     * Stream of vertices reachable from source.
+     * Sequential stream returns vertices in BFS order. Parallel stream splits the frontier,
+     * so parts of the graph are discovered and consumed by different threads without encounter order.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return lazy stream.
+     * @throws IllegalArgumentException if source is not found.
+     */
+    public static <V, E extends Edge<V>> Stream<V> breadthFirst(Graph<V, E> graph, V sourceVertex) {
+        checkSource(graph, sourceVertex);
+        final Set<V> discovered = ConcurrentHashMap.newKeySet();
+        discovered.add(sourceVertex);
+        final ArrayDeque<V> frontier = new ArrayDeque<>();
+        frontier.add(sourceVertex);
+        return StreamSupport.stream(new BreadthFirstSpliterator<>(graph, discovered, frontier), false);
+    }
+
+    /**
+     * Stream of vertices reachable from source in DFS preorder.
+     * Parallel stream takes batches of discovered vertices, discovery itself is sequential.
+     *
+     * @param graph graph to traverse. Can't be null.
+     * @param sourceVertex source vertex. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return lazy stream.
+     * @throws IllegalArgumentException if source is not found.
+     */
+    public static <V, E extends Edge<V>> Stream<V> depthFirst(Graph<V, E> graph, V sourceVertex) {
+        final Spliterator<V> spliterator = Spliterators.spliteratorUnknownSize(
+                depthFirstIterator(graph, sourceVertex),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+        );
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private static <V, E extends Edge<V>> void checkSource(Graph<V, E> graph, V sourceVertex) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        if (!graph.containsVertex(sourceVertex)) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.traversal.impl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of int ids with double keys.
+ * Heap keeps position of each id, so key of queued id could be decreased in O(log n).
+ * There are no entry objects and keys are not boxed.
+ * Heap grows when id out of capacity is pushed, so searches which do not know count of ids could start small.
+ * Not thread safe.
+ */
+final class IndexedDoubleHeap {
+    private static final int NOT_QUEUED = -1;
+
+    private int[] heap;
+    private double[] keys;
+    // Position of id in heap or NOT_QUEUED.
+    private int[] positions;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity expected range [0, capacity) of ids.
+     */
+    IndexedDoubleHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new double[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, NOT_QUEUED);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int id) {
+        return id < positions.length && positions[id] != NOT_QUEUED;
+    }
+
+    /**
+     * Get key of queued id.
+     *
+     * @param id queued id.
+     * @return key.
+     */
+    double key(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Get min key.
+     *
+     * @return key of the first id.
+     * @throws NoSuchElementException if heap is empty.
+     */
+    double peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Add id or decrease its key.
+     * Key of queued id is not changed if new key is not less.
+     *
+     * @param id not negative id.
+     * @param key new key.
+     */
+    void push(int id, double key) {
+        if (id >= positions.length) {
+            grow(id);
+        }
+        int position = positions[id];
+        if (position == NOT_QUEUED) {
+            position = size++;
+            heap[position] = id;
+            positions[id] = position;
+        } else if (key >= keys[id]) {
+            return;
+        }
+        keys[id] = key;
+        siftUp(position);
+    }
+
+    /**
+     * Remove id with min key.
+     *
+     * @return id.
+     * @throws NoSuchElementException if heap is empty.
+     */
+    int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final int first = heap[0];
+        positions[first] = NOT_QUEUED;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return first;
+    }
+
+    /**
+     * Remove all ids. It costs O(size).
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = NOT_QUEUED;
+        }
+        size = 0;
+    }
+
+    private void grow(int id) {
+        final int oldCapacity = positions.length;
+        final int capacity = Math.max(id + 1, oldCapacity * 2);
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, oldCapacity, capacity, NOT_QUEUED);
+    }
+
+    private void siftUp(int from) {
+        final int id = heap[from];
+        final double key = keys[id];
+        int position = from;
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(id, position);
+    }
+
+    private void siftDown(int from) {
+        final int id = heap[from];
+        final double key = keys[id];
+        int position = from;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(id, position);
+    }
+
+    private void move(int id, int position) {
+        heap[position] = id;
+        positions[id] = position;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.traversal.impl;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of ints without boxing.
+ * Not thread safe.
+ */
+final class IntList {
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private int[] values = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    void addAll(int[] array) {
+        if (size + array.length > values.length) {
+            values = Arrays.copyOf(values, Math.max(size * 2, size + array.length));
+        }
+        System.arraycopy(array, 0, values, size, array.length);
+        size += array.length;
+    }
+
+    int removeLast() {
+        return values[--size];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.Graphs;
+import com.example.traversal.Heuristic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * ALT (A*, landmarks, triangle inequality) heuristic.
+ * Distances between a few landmark vertices and all other vertices are computed once.
+ * By triangle inequality d(v, t) >= d(l, t) - d(l, v) and d(v, t) >= d(v, l) - d(t, l) for each landmark l,
+ * the greatest of these bounds is the estimate.
+ * Landmarks are chosen one by one as the vertex farthest from already chosen landmarks.
+ * Distances are kept in double arrays indexed by vertex id and could be written into file.
+ * The heuristic is bound to an immutable snapshot of the graph which defines these ids,
+ * so later changes of the graph can't shift them: moved vertices keep their estimates
+ * and new vertices get 0. Thread safe after creation.
+ *
+ * @param <V> vertex type.
+ */
+public final class LandmarkHeuristic<V> implements Heuristic<V> {
+    public static final String MSG_LANDMARK_COUNT_SHOULD_BE_POSITIVE = "Landmark count should be positive";
+    public static final String MSG_UNSUPPORTED_FORMAT = "Unsupported landmarks file format";
+    public static final String MSG_GRAPH_DOES_NOT_MATCH = "Landmarks were built for another graph";
+
+    private static final int MAGIC = 0x4C4D524B;
+    private static final int VERSION = 1;
+
+    private final IndexedGraph<V, ?> graph;
+    private final boolean directed;
+    private final int vertexCount;
+    private final int[] landmarks;
+    // Distances from landmarks to vertices by [landmark index * vertex count + vertex id].
+    private final double[] fromLandmarks;
+    // Distances from vertices to landmarks. The same array as fromLandmarks for undirected graphs.
+    private final double[] toLandmarks;
+
+    private LandmarkHeuristic(IndexedGraph<V, ?> graph, int[] landmarks, double[] fromLandmarks, double[] toLandmarks) {
+        this.graph = graph;
+        this.directed = graph.isDirected();
+        this.vertexCount = graph.vertexCount();
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    /**
+     * Choose landmarks and compute distances.
+     * It runs one Dijkstra search per landmark, two for directed graphs.
+     * Mutable graph is copied into CsrGraph, see Graphs.freeze, and estimates map vertices by ids of the copy.
+     *
+     * @param graph weighted graph. Can't be null.
+     * @param landmarkCount count of landmarks. It is reduced to count of vertices.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return heuristic.
+     * @throws IllegalArgumentException if landmark count is not positive or graph has edges with negative weight.
+     */
+    public static <V, E extends WeightedEdge<V>> LandmarkHeuristic<V> build(Graph<V, E> graph, int landmarkCount) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException(MSG_LANDMARK_COUNT_SHOULD_BE_POSITIVE);
+        }
+        final IndexedGraph<V, E> indexedGraph = Graphs.freeze(graph);
+        final SearchGraph<V, E> searchGraph = SearchGraph.of(indexedGraph);
+        final int count = indexedGraph.vertexCount();
+        final int[] landmarks = new int[Math.min(landmarkCount, count)];
+        final double[] fromLandmarks = new double[landmarks.length * count];
+        final double[] toLandmarks = graph.isDirected() ? new double[fromLandmarks.length] : fromLandmarks;
+        if (count == 0) {
+            return new LandmarkHeuristic<>(indexedGraph, landmarks, fromLandmarks, toLandmarks);
+        }
+
+        // Distance from each vertex to the closest chosen landmark.
+        final double[] closest = new double[count];
+        int landmark = farthest(DijkstraTraversalServiceImpl.distances(searchGraph, 0, false));
+        for (int i = 0; i < landmarks.length; i++) {
+            landmarks[i] = landmark;
+            final double[] distances = DijkstraTraversalServiceImpl.distances(searchGraph, landmark, false);
+            System.arraycopy(distances, 0, fromLandmarks, i * count, count);
+            if (graph.isDirected()) {
+                System.arraycopy(DijkstraTraversalServiceImpl.distances(searchGraph, landmark, true), 0, toLandmarks, i * count, count);
+            }
+            for (int id = 0; id < count; id++) {
+                closest[id] = i == 0 ? distances[id] : Math.min(closest[id], distances[id]);
+            }
+            // Vertices which are not reachable from landmarks are the farthest, so other components get landmarks too.
+            landmark = argMax(closest);
+        }
+        return new LandmarkHeuristic<>(indexedGraph, landmarks, fromLandmarks, toLandmarks);
+    }
+
+    /**
+     * Read landmarks which were written by write method.
+     *
+     * @param file file to read.
+     * @param graph the same graph with the same vertex ids the landmarks were built for. Can't be null.
+     *              Mutable graph is copied into CsrGraph with the same ids, see Graphs.freeze.
+     * @param <V> vertex type.
+     * @return heuristic.
+     * @throws IOException if file can't be read or has unsupported format.
+     * @throws IllegalArgumentException if graph does not keep vertex ids or its size or direction differs.
+     */
+    public static <V> LandmarkHeuristic<V> read(Path file, IndexedGraph<V, ?> graph) throws IOException {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(MSG_UNSUPPORTED_FORMAT);
+            }
+            final boolean directed = in.readBoolean();
+            final int count = in.readInt();
+            if (!graph.isIndexed() || graph.isDirected() != directed || graph.vertexCount() != count) {
+                throw new IllegalArgumentException(MSG_GRAPH_DOES_NOT_MATCH);
+            }
+            final int[] landmarks = new int[in.readInt()];
+            for (int i = 0; i < landmarks.length; i++) {
+                landmarks[i] = in.readInt();
+            }
+            final double[] fromLandmarks = readDoubles(in, landmarks.length * count);
+            final double[] toLandmarks = directed ? readDoubles(in, fromLandmarks.length) : fromLandmarks;
+            return new LandmarkHeuristic<>(Graphs.freeze(graph), landmarks, fromLandmarks, toLandmarks);
+        }
+    }
+
+    /**
+     * Write landmarks into file.
+     *
+     * @param file file to write. Existing file is replaced.
+     * @throws IOException if file can't be written.
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeBoolean(directed);
+            out.writeInt(vertexCount);
+            out.writeInt(landmarks.length);
+            for (int landmark : landmarks) {
+                out.writeInt(landmark);
+            }
+            for (double distance : fromLandmarks) {
+                out.writeDouble(distance);
+            }
+            if (directed) {
+                for (double distance : toLandmarks) {
+                    out.writeDouble(distance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get landmark vertices.
+     *
+     * @return unmodifiable list of landmarks in order of choice.
+     */
+    public List<V> getLandmarks() {
+        final List<V> result = new ArrayList<>(landmarks.length);
+        for (int landmark : landmarks) {
+            result.add(graph.vertexOf(landmark));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public double estimate(V vertex, V target) {
+        final int vertexId = graph.idOf(vertex);
+        final int targetId = graph.idOf(target);
+        return vertexId == UNKNOWN_ID || targetId == UNKNOWN_ID ? 0 : estimate(vertexId, targetId);
+    }
+
+    /**
+     * Estimate distance by vertex ids of the snapshot the landmarks were built for.
+     *
+     * @param vertex vertex id.
+     * @param target target id.
+     * @return lower bound of distance.
+     */
+    double estimate(int vertex, int target) {
+        double bound = 0;
+        for (int base = 0; base < fromLandmarks.length; base += vertexCount) {
+            final double fromToVertex = fromLandmarks[base + vertex];
+            final double fromToTarget = fromLandmarks[base + target];
+            if (fromToVertex != Double.POSITIVE_INFINITY && fromToTarget != Double.POSITIVE_INFINITY) {
+                bound = Math.max(bound, fromToTarget - fromToVertex);
+            }
+            final double vertexTo = toLandmarks[base + vertex];
+            final double targetTo = toLandmarks[base + target];
+            if (vertexTo != Double.POSITIVE_INFINITY && targetTo != Double.POSITIVE_INFINITY) {
+                bound = Math.max(bound, vertexTo - targetTo);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Check if vertex ids of the graph are the ids of landmark tables.
+     * Only the immutable snapshot passes, a mutable graph could have changed its ids after the build.
+     *
+     * @param other graph.
+     * @return true - graph is the snapshot the heuristic was built or read for.
+     */
+    boolean isBuiltFor(Graph<?, ?> other) {
+        return graph == other;
+    }
+
+    private static int farthest(double[] distances) {
+        int result = 0;
+        for (int id = 0; id < distances.length; id++) {
+            if (distances[id] != Double.POSITIVE_INFINITY && distances[id] > distances[result]) {
+                result = id;
+            }
+        }
+        return result;
+    }
+
+    private static int argMax(double[] values) {
+        int result = 0;
+        for (int id = 1; id < values.length; id++) {
+            if (values[id] > values[result]) {
+                result = id;
+            }
+        }
+        return result;
+    }
+
+    private static double[] readDoubles(DataInputStream in, int count) throws IOException {
+        final double[] result = new double[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = in.readDouble();
+        }
+        return result;
+    }
+}
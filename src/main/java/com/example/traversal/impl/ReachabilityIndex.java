@@ -0,0 +1,398 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.impl.Graphs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.AbstractTraversalService.MSG_GRAPH_SHOULD_BE_NON_NULL;
+
+/**
+ * Index which answers if there is a path from one vertex to another without a search.
+ * Strongly connected components are contracted into a DAG, all vertices of a component reach each other.
+ * Components get 2-hop labels: component reaches another one if its out label and in label
+ * of the other one have a common component. Labels are built by pruned BFS from each component in order of
+ * degree (Yano, Akiba, Iwata, Yoshida), so hubs cover most of the pairs and labels stay short.
+ * Components are numbered in reverse topological order, which rejects half of not reachable pairs at once.
+ * Labels are sorted int arrays, so a query is one merge of two short arrays.
+ * Index is built over an immutable snapshot of the graph and resolves vertices through it,
+ * so later changes of the graph do not break the index: it answers for the graph as it was when built.
+ * Thread safe after creation.
+ *
+ * @param <V> vertex type.
+ */
+public final class ReachabilityIndex<V> {
+    private final Graph<V, ?> source;
+    private final IndexedGraph<V, ?> graph;
+    private final int componentCount;
+    // Component by vertex id.
+    private final int[] components;
+    // Labels of component c are [offsets[c], offsets[c + 1]) sorted by rank of hub component.
+    private final int[] outOffsets;
+    private final int[] outLabels;
+    private final int[] inOffsets;
+    private final int[] inLabels;
+
+    private ReachabilityIndex(Graph<V, ?> source, IndexedGraph<V, ?> graph, Condensation condensation, Labels labels) {
+        this.source = source;
+        this.graph = graph;
+        this.componentCount = condensation.count;
+        this.components = condensation.components;
+        this.outOffsets = labels.outOffsets;
+        this.outLabels = labels.outLabels;
+        this.inOffsets = labels.inOffsets;
+        this.inLabels = labels.inLabels;
+    }
+
+    /**
+     * Build index.
+     * Mutable graph is copied into CsrGraph, see Graphs.freeze.
+     *
+     * @param graph graph. Can't be null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return index.
+     */
+    public static <V, E extends Edge<V>> ReachabilityIndex<V> build(Graph<V, E> graph) {
+        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
+        final IndexedGraph<V, E> indexedGraph = Graphs.freeze(graph);
+        final Condensation condensation = new Condensation(indexedGraph);
+        return new ReachabilityIndex<>(graph, indexedGraph, condensation, new Labels(condensation));
+    }
+
+    /**
+     * Check if there is a path from source to target.
+     *
+     * @param sourceVertex source vertex. Can't be null.
+     * @param targetVertex target vertex. Can't be null.
+     * @return true - target is reachable from source. Each vertex is reachable from itself.
+     * @throws NullPointerException if any of vertices is null.
+     * @throws IllegalArgumentException if vertices were not in the graph when index was built.
+     */
+    public boolean canReach(V sourceVertex, V targetVertex) {
+        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
+        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
+        final int sourceId = graph.idOf(sourceVertex);
+        if (sourceId == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
+        }
+        final int targetId = graph.idOf(targetVertex);
+        if (targetId == UNKNOWN_ID) {
+            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
+        }
+        final int from = components[sourceId];
+        final int to = components[targetId];
+        if (from == to) {
+            return true;
+        }
+        // Edges of the DAG lead from greater to smaller components.
+        if (from < to) {
+            return false;
+        }
+        return intersects(outLabels, outOffsets[from], outOffsets[from + 1], inLabels, inOffsets[to], inOffsets[to + 1]);
+    }
+
+    /**
+     * Get count of strongly connected components.
+     *
+     * @return count of components.
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Get total size of labels, it is the size of index besides component per vertex.
+     *
+     * @return count of label entries.
+     */
+    public long getLabelCount() {
+        return (long) outLabels.length + inLabels.length;
+    }
+
+    /**
+     * Get immutable graph which defines vertex ids of the index.
+     *
+     * @return snapshot of the graph the index was built for.
+     */
+    public IndexedGraph<V, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Check if index was built for the graph.
+     *
+     * @param other graph.
+     * @return true - index was built for this graph object or it is the snapshot of getGraph.
+     */
+    public boolean isBuiltFor(Graph<?, ?> other) {
+        return source == other || graph == other;
+    }
+
+    private static boolean intersects(int[] first, int firstStart, int firstEnd, int[] second, int secondStart, int secondEnd) {
+        int i = firstStart;
+        int j = secondStart;
+        while (i < firstEnd && j < secondEnd) {
+            if (first[i] == second[j]) {
+                return true;
+            }
+            if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strongly connected components by iterative Tarjan algorithm and DAG of components.
+     */
+    private static final class Condensation {
+        private final int[] components;
+        private int count;
+        // Edges of DAG of components without duplicates, incoming edges are the reverse DAG.
+        private int[] outOffsets;
+        private int[] outIds;
+        private int[] inOffsets;
+        private int[] inIds;
+
+        private Condensation(IndexedGraph<?, ?> graph) {
+            final int vertexCount = graph.vertexCount();
+            this.components = new int[vertexCount];
+            findComponents(graph);
+            buildDag(graph);
+        }
+
+        private void findComponents(IndexedGraph<?, ?> graph) {
+            final int vertexCount = graph.vertexCount();
+            final int[] order = new int[vertexCount];
+            Arrays.fill(order, UNKNOWN_ID);
+            final int[] low = new int[vertexCount];
+            final int[] edgeIndexes = new int[vertexCount];
+            final boolean[] onStack = new boolean[vertexCount];
+            final int[] stack = new int[vertexCount];
+            final int[] path = new int[vertexCount];
+            int visited = 0;
+            int stackSize = 0;
+            for (int root = 0; root < vertexCount; root++) {
+                if (order[root] != UNKNOWN_ID) {
+                    continue;
+                }
+                int pathSize = 0;
+                path[pathSize++] = root;
+                order[root] = visited;
+                low[root] = visited++;
+                stack[stackSize++] = root;
+                onStack[root] = true;
+                while (pathSize > 0) {
+                    final int vertex = path[pathSize - 1];
+                    if (edgeIndexes[vertex] < graph.outDegree(vertex)) {
+                        final int next = graph.outgoingId(vertex, edgeIndexes[vertex]++);
+                        if (order[next] == UNKNOWN_ID) {
+                            path[pathSize++] = next;
+                            order[next] = visited;
+                            low[next] = visited++;
+                            stack[stackSize++] = next;
+                            onStack[next] = true;
+                        } else if (onStack[next]) {
+                            low[vertex] = Math.min(low[vertex], order[next]);
+                        }
+                        continue;
+                    }
+
+                    pathSize--;
+                    if (pathSize > 0) {
+                        final int parent = path[pathSize - 1];
+                        low[parent] = Math.min(low[parent], low[vertex]);
+                    }
+                    if (low[vertex] == order[vertex]) {
+                        int member;
+                        do {
+                            member = stack[--stackSize];
+                            onStack[member] = false;
+                            components[member] = count;
+                        } while (member != vertex);
+                        count++;
+                    }
+                }
+            }
+        }
+
+        private void buildDag(IndexedGraph<?, ?> graph) {
+            final int vertexCount = graph.vertexCount();
+            // Vertices grouped by component.
+            final int[] memberOffsets = new int[count + 1];
+            for (int id = 0; id < vertexCount; id++) {
+                memberOffsets[components[id] + 1]++;
+            }
+            for (int i = 0; i < count; i++) {
+                memberOffsets[i + 1] += memberOffsets[i];
+            }
+            final int[] members = new int[vertexCount];
+            final int[] positions = Arrays.copyOf(memberOffsets, count);
+            for (int id = 0; id < vertexCount; id++) {
+                members[positions[components[id]]++] = id;
+            }
+
+            // Component which added the last edge to the component, to skip parallel edges.
+            final int[] lastSource = new int[count];
+            Arrays.fill(lastSource, UNKNOWN_ID);
+            final IntList targets = new IntList();
+            outOffsets = new int[count + 1];
+            for (int component = 0; component < count; component++) {
+                for (int i = memberOffsets[component]; i < memberOffsets[component + 1]; i++) {
+                    final int vertex = members[i];
+                    final int degree = graph.outDegree(vertex);
+                    for (int j = 0; j < degree; j++) {
+                        final int next = components[graph.outgoingId(vertex, j)];
+                        if (next != component && lastSource[next] != component) {
+                            lastSource[next] = component;
+                            targets.add(next);
+                        }
+                    }
+                }
+                outOffsets[component + 1] = targets.size();
+            }
+            outIds = targets.toArray();
+
+            inOffsets = new int[count + 1];
+            for (int target : outIds) {
+                inOffsets[target + 1]++;
+            }
+            for (int i = 0; i < count; i++) {
+                inOffsets[i + 1] += inOffsets[i];
+            }
+            inIds = new int[outIds.length];
+            final int[] inPositions = Arrays.copyOf(inOffsets, count);
+            for (int component = 0; component < count; component++) {
+                for (int i = outOffsets[component]; i < outOffsets[component + 1]; i++) {
+                    inIds[inPositions[outIds[i]]++] = component;
+                }
+            }
+        }
+    }
+
+    /**
+     * 2-hop labels of DAG by pruned BFS.
+     * Forward BFS from hub adds it to in labels of reached components, backward BFS adds it to out labels.
+     * BFS does not go further from a component, which is already covered by labels of previous hubs.
+     */
+    private static final class Labels {
+        private final int[] outOffsets;
+        private final int[] outLabels;
+        private final int[] inOffsets;
+        private final int[] inLabels;
+
+        private Labels(Condensation dag) {
+            final int count = dag.count;
+            final IntList[] out = new IntList[count];
+            final IntList[] in = new IntList[count];
+            for (int i = 0; i < count; i++) {
+                out[i] = new IntList();
+                in[i] = new IntList();
+            }
+            final int[] order = hubOrder(dag);
+            final int[] marks = new int[count];
+            final int[] queue = new int[count];
+            int mark = 0;
+            for (int rank = 0; rank < count; rank++) {
+                final int hub = order[rank];
+                mark++;
+                int tail = 0;
+                queue[tail++] = hub;
+                marks[hub] = mark;
+                for (int head = 0; head < tail; head++) {
+                    final int component = queue[head];
+                    if (intersects(out[hub], in[component])) {
+                        continue;
+                    }
+                    in[component].add(rank);
+                    for (int i = dag.outOffsets[component]; i < dag.outOffsets[component + 1]; i++) {
+                        final int next = dag.outIds[i];
+                        if (marks[next] != mark) {
+                            marks[next] = mark;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+
+                mark++;
+                tail = 0;
+                queue[tail++] = hub;
+                marks[hub] = mark;
+                for (int head = 0; head < tail; head++) {
+                    final int component = queue[head];
+                    if (intersects(out[component], in[hub])) {
+                        continue;
+                    }
+                    out[component].add(rank);
+                    for (int i = dag.inOffsets[component]; i < dag.inOffsets[component + 1]; i++) {
+                        final int next = dag.inIds[i];
+                        if (marks[next] != mark) {
+                            marks[next] = mark;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+            this.outOffsets = new int[count + 1];
+            this.outLabels = compact(out, outOffsets);
+            this.inOffsets = new int[count + 1];
+            this.inLabels = compact(in, inOffsets);
+        }
+
+        /**
+         * Components by decreasing product of degrees, hubs are on many paths.
+         */
+        private static int[] hubOrder(Condensation dag) {
+            final int count = dag.count;
+            final long[] keys = new long[count];
+            for (int component = 0; component < count; component++) {
+                final long outDegree = dag.outOffsets[component + 1] - dag.outOffsets[component];
+                final long inDegree = dag.inOffsets[component + 1] - dag.inOffsets[component];
+                final long score = Math.min((outDegree + 1) * (inDegree + 1), Integer.MAX_VALUE);
+                keys[component] = score << Integer.SIZE | component;
+            }
+            Arrays.sort(keys);
+            final int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = (int) keys[count - 1 - i];
+            }
+            return order;
+        }
+
+        private static boolean intersects(IntList first, IntList second) {
+            int i = 0;
+            int j = 0;
+            while (i < first.size() && j < second.size()) {
+                if (first.get(i) == second.get(j)) {
+                    return true;
+                }
+                if (first.get(i) < second.get(j)) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return false;
+        }
+
+        private static int[] compact(IntList[] lists, int[] offsets) {
+            final IntList result = new IntList();
+            for (int i = 0; i < lists.length; i++) {
+                result.addAll(lists[i].toArray());
+                offsets[i + 1] = result.size();
+            }
+            return result.toArray();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.EdgeIndexedGraph;
+import com.example.graph.Graph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static com.example.graph.impl.EdgeColumns.MSG_COLUMN_IS_TOO_SHORT;
+
+/**
+ * View of graph by int vertex ids, so searches could keep their state in primitive arrays.
+ * Indexed graphs are used directly. Other graphs get ids of all vertices when the view is created,
+ * and adjacency of a vertex is copied into arrays by forEachNeighbor when it is accessed first time.
+ * Edge weights are read from edge objects, or from the weight column by edge id for the graph of EdgeColumns.
+ * Not thread safe.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+abstract class SearchGraph<V, E extends Edge<V>> {
+
+    /**
+     * Create view of graph.
+     *
+     * @param graph graph to view.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return view by vertex ids.
+     */
+    static <V, E extends Edge<V>> SearchGraph<V, E> of(Graph<V, E> graph) {
+        final IndexedGraph<V, E> indexedGraph = AbstractTraversalService.asIndexed(graph);
+        return indexedGraph != null ? new Indexed<>(indexedGraph) : new Mapped<>(graph);
+    }
+
+    /**
+     * Create view of graph which reads edge weights from the weight column if columns were created for the graph.
+     *
+     * @param graph graph to view.
+     * @param columns columns with EdgeColumns.WEIGHT column or null.
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     * @return view by vertex ids.
+     * @throws IllegalArgumentException if weight column does not cover all edge ids of the graph.
+     */
+    static <V, E extends Edge<V>> SearchGraph<V, E> of(Graph<V, E> graph, EdgeColumns<?> columns) {
+        if (columns != null && columns.isBuiltFor(graph)) {
+            return new Columnar<>((EdgeIndexedGraph<V, E>) graph, columns.getDoubleColumn(EdgeColumns.WEIGHT));
+        }
+        return of(graph);
+    }
+
+    abstract int vertexCount();
+
+    /**
+     * Get vertex id.
+     *
+     * @param vertex vertex of the graph.
+     * @return vertex id.
+     */
+    abstract int idOf(V vertex);
+
+    abstract V vertexOf(int id);
+
+    abstract int outDegree(int id);
+
+    abstract int outgoingId(int id, int index);
+
+    abstract E outgoingEdge(int id, int index);
+
+    abstract int inDegree(int id);
+
+    abstract int incomingId(int id, int index);
+
+    abstract E incomingEdge(int id, int index);
+
+    /**
+     * Get weight of outgoing edge. Edges should be weighted.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return weight.
+     */
+    double outgoingWeight(int id, int index) {
+        return ((WeightedEdge<?>) outgoingEdge(id, index)).getWeight();
+    }
+
+    /**
+     * Get weight of incoming edge. Edges should be weighted.
+     *
+     * @param id vertex id.
+     * @param index edge index.
+     * @return weight.
+     */
+    double incomingWeight(int id, int index) {
+        return ((WeightedEdge<?>) incomingEdge(id, index)).getWeight();
+    }
+
+    /**
+     * View of indexed graph.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private static class Indexed<V, E extends Edge<V>> extends SearchGraph<V, E> {
+        private final IndexedGraph<V, E> graph;
+
+        Indexed(IndexedGraph<V, E> graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        int vertexCount() {
+            return graph.vertexCount();
+        }
+
+        @Override
+        int idOf(V vertex) {
+            return graph.idOf(vertex);
+        }
+
+        @Override
+        V vertexOf(int id) {
+            return graph.vertexOf(id);
+        }
+
+        @Override
+        int outDegree(int id) {
+            return graph.outDegree(id);
+        }
+
+        @Override
+        int outgoingId(int id, int index) {
+            return graph.outgoingId(id, index);
+        }
+
+        @Override
+        E outgoingEdge(int id, int index) {
+            return graph.outgoingEdge(id, index);
+        }
+
+        @Override
+        int inDegree(int id) {
+            return graph.inDegree(id);
+        }
+
+        @Override
+        int incomingId(int id, int index) {
+            return graph.incomingId(id, index);
+        }
+
+        @Override
+        E incomingEdge(int id, int index) {
+            return graph.incomingEdge(id, index);
+        }
+    }
+
+    /**
+     * View of edge indexed graph which reads weights from the column by edge id, edge objects are not touched.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private static final class Columnar<V, E extends Edge<V>> extends Indexed<V, E> {
+        private final EdgeIndexedGraph<V, E> graph;
+        private final EdgeColumns.DoubleColumn weights;
+
+        private Columnar(EdgeIndexedGraph<V, E> graph, EdgeColumns.DoubleColumn weights) {
+            super(graph);
+            if (weights.size() < graph.edgeCount()) {
+                throw new IllegalArgumentException(MSG_COLUMN_IS_TOO_SHORT);
+            }
+            this.graph = graph;
+            this.weights = weights;
+        }
+
+        @Override
+        double outgoingWeight(int id, int index) {
+            return weights.get(graph.outgoingEdgeId(id, index));
+        }
+
+        @Override
+        double incomingWeight(int id, int index) {
+            return weights.get(graph.incomingEdgeId(id, index));
+        }
+    }
+
+    /**
+     * View of graph without vertex ids.
+     *
+     * @param <V> vertex type.
+     * @param <E> edge type.
+     */
+    private static final class Mapped<V, E extends Edge<V>> extends SearchGraph<V, E> {
+        private static final int DEFAULT_BUFFER_SIZE = 16;
+        private final Graph<V, E> graph;
+        private final Map<V, Integer> ids;
+        private final Object[] vertices;
+        // Adjacency copied on first access. The same arrays are used for both directions of undirected graphs.
+        private final Object[][] outgoingEdges;
+        private final int[][] outgoingIds;
+        private final Object[][] incomingEdges;
+        private final int[][] incomingIds;
+        // Neighbors are collected into reusable buffers by forEachNeighbor and then copied in exact size.
+        private final BiConsumer<V, E> collector = this::collect;
+        private int[] idBuffer = new int[DEFAULT_BUFFER_SIZE];
+        private Object[] edgeBuffer = new Object[DEFAULT_BUFFER_SIZE];
+        private int bufferSize;
+
+        private Mapped(Graph<V, E> graph) {
+            this.graph = graph;
+            final Set<V> all = graph.getVertices();
+            this.ids = new HashMap<>();
+            this.vertices = new Object[all.size()];
+            for (V vertex : all) {
+                vertices[ids.size()] = vertex;
+                ids.put(vertex, ids.size());
+            }
+            this.outgoingEdges = new Object[vertices.length][];
+            this.outgoingIds = new int[vertices.length][];
+            this.incomingEdges = graph.isDirected() ? new Object[vertices.length][] : outgoingEdges;
+            this.incomingIds = graph.isDirected() ? new int[vertices.length][] : outgoingIds;
+        }
+
+        @Override
+        int vertexCount() {
+            return vertices.length;
+        }
+
+        @Override
+        int idOf(V vertex) {
+            return ids.get(vertex);
+        }
+
+        @Override
+        V vertexOf(int id) {
+            return (V) vertices[id];
+        }
+
+        @Override
+        int outDegree(int id) {
+            return outgoing(id).length;
+        }
+
+        @Override
+        int outgoingId(int id, int index) {
+            return outgoing(id)[index];
+        }
+
+        @Override
+        E outgoingEdge(int id, int index) {
+            outgoing(id);
+            return (E) outgoingEdges[id][index];
+        }
+
+        @Override
+        int inDegree(int id) {
+            return incoming(id).length;
+        }
+
+        @Override
+        int incomingId(int id, int index) {
+            return incoming(id)[index];
+        }
+
+        @Override
+        E incomingEdge(int id, int index) {
+            incoming(id);
+            return (E) incomingEdges[id][index];
+        }
+
+        private int[] outgoing(int id) {
+            if (outgoingIds[id] == null) {
+                graph.forEachNeighbor(vertexOf(id), collector);
+                outgoingEdges[id] = Arrays.copyOf(edgeBuffer, bufferSize);
+                outgoingIds[id] = takeIds();
+            }
+            return outgoingIds[id];
+        }
+
+        private int[] incoming(int id) {
+            if (incomingIds[id] == null) {
+                graph.forEachIncomingNeighbor(vertexOf(id), collector);
+                incomingEdges[id] = Arrays.copyOf(edgeBuffer, bufferSize);
+                incomingIds[id] = takeIds();
+            }
+            return incomingIds[id];
+        }
+
+        private void collect(V neighbor, E edge) {
+            if (bufferSize == idBuffer.length) {
+                idBuffer = Arrays.copyOf(idBuffer, bufferSize * 2);
+                edgeBuffer = Arrays.copyOf(edgeBuffer, bufferSize * 2);
+            }
+            idBuffer[bufferSize] = ids.get(neighbor);
+            edgeBuffer[bufferSize++] = edge;
+        }
+
+        private int[] takeIds() {
+            final int[] result = Arrays.copyOf(idBuffer, bufferSize);
+            // Edges should not be kept alive by the buffer.
+            Arrays.fill(edgeBuffer, 0, bufferSize, null);
+            bufferSize = 0;
+            return result;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.example.traversal.impl;
 
 import com.example.graph.Edge;
 import com.example.graph.Graph;
-import com.example.traversal.TraversalService;
+import com.example.graph.impl.UndirectedEdgeSet;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,11 +13,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
-import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
-import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
-import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
-
 /**
  * Simple implementation of traversal service.
  * Uses DFS (depth first search) traversal algorithm to find a path between vertices.
@@ -27,35 +22,7 @@ import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
  * @param <V> vertex type.
  * @param <E> edge type.
  */
-public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements TraversalService<V, E> {
-    public static final String MSG_GRAPH_SHOULD_BE_NON_NULL = "Graph should be not null";
-
-    @Override
-    public List<E> getPath(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
-        Objects.requireNonNull(graph, MSG_GRAPH_SHOULD_BE_NON_NULL);
-        Objects.requireNonNull(sourceVertex, MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL);
-        Objects.requireNonNull(targetVertex, MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL);
-
-        // Check vertices existence.
-        if (!graph.containsVertex(sourceVertex)) {
-            throw new IllegalArgumentException(MSG_UNKNOWN_SOURCE_VERTEX);
-        }
-
-        if (!graph.containsVertex(targetVertex)) {
-            throw new IllegalArgumentException(MSG_UNKNOWN_TARGET_VERTEX);
-        }
-
-        if (sourceVertex.equals(targetVertex)) {
-            return Collections.emptyList();
-        }
-
-        // Before traversing check nodes without connections.
-        if (graph.getOutgoingEdges(sourceVertex).isEmpty() || graph.getIncomingEdges(targetVertex).isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return traverse(graph, sourceVertex, targetVertex);
-    }
+public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> extends AbstractTraversalService<V, E> {
 
     /**
      * Simple traverse function to get path from source to target.
@@ -68,22 +35,27 @@ public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements Trav
      * @param targetVertex target vertes to find path. Can't be null;
      * @return list of edges between source and target. Returns empty list if nodes are not connected.
      */
+    @Override
     protected List<E> traverse(final Graph<V, E> graph, final V sourceVertex, final V targetVertex) {
         // Path from start.
         final Deque<E> currentPathFromSource = new LinkedList<>();
 
-        // Set of visited edges.
-        final Set<E> visitedEdges = new HashSet<>();
+        // Vertices of the current path. They are skipped, so path never goes through the same vertex twice.
+        final Deque<V> currentVerticesFromSource = new LinkedList<>();
+        final Set<V> verticesOnPath = new HashSet<>();
+        verticesOnPath.add(sourceVertex);
+
+        // Set of visited edges. For undirected graphs it ignores direction, so opposite edges are not created.
+        final Set<E> visitedEdges = graph.isDirected() ? new HashSet<>() : new UndirectedEdgeSet<>();
 
         // Queue of edges to visit.
-        final Deque<EdgeLevelInfo<E>> queue = new LinkedList<>();
+        final Deque<EdgeLevelInfo<V, E>> queue = new LinkedList<>();
 
         // Add to queue outgoing edges from start node.
-        getOutgoingPaths(graph, sourceVertex).stream()
-                .forEach(e -> queue.addFirst(new EdgeLevelInfo(1, e)));
+        graph.forEachNeighbor(sourceVertex, (next, e) -> queue.addFirst(new EdgeLevelInfo<>(1, e, next)));
 
         // Current edge info.
-        EdgeLevelInfo<E> currentEdgeInfo = null;
+        EdgeLevelInfo<V, E> currentEdgeInfo = null;
         int level = 1;
         boolean pathFound = false;
         while (!queue.isEmpty()) {
@@ -95,28 +67,32 @@ public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements Trav
                 int count = level - currentEdgeInfo.getLevel();
                 for (int i = 0; i < count; i++) {
                     currentPathFromSource.removeLast();
+                    verticesOnPath.remove(currentVerticesFromSource.removeLast());
                 }
             }
             level = currentEdgeInfo.getLevel();
 
-            // Skip visited edges.
-            if (!isEdgeVisited(graph.isDirected(), visitedEdges, currentEdgeInfo.getEdge())) {
+            // Skip visited edges and edges back to the current path.
+            final V vertex = currentEdgeInfo.getVertex();
+            if (!isEdgeVisited(graph.isDirected(), visitedEdges, currentEdgeInfo.getEdge())
+                    && !verticesOnPath.contains(vertex)) {
                 // Check target vertex.
-                if (currentEdgeInfo.getEdge().getTarget().equals(targetVertex)) {
+                if (vertex.equals(targetVertex)) {
                     // Remember path.
                     currentPathFromSource.addLast(currentEdgeInfo.getEdge());
                     // Stop processing and return result.
                     pathFound = true;
                     break;
                 } else {
-                    // Get all neighbors.
-                    final Set<E> neighbors = getOutgoingPaths(graph, currentEdgeInfo.getEdge().getTarget());
-                    if (!neighbors.isEmpty()) {
+                    // Add edges to all neighbors into the queue.
+                    final int nexLevel = currentEdgeInfo.getLevel() + 1;
+                    final int queueSize = queue.size();
+                    graph.forEachNeighbor(vertex, (next, e) -> queue.addFirst(new EdgeLevelInfo<>(nexLevel, e, next)));
+                    if (queue.size() > queueSize) {
                         // Remember path.
                         currentPathFromSource.addLast(currentEdgeInfo.getEdge());
-                        // Add edges into the queue.
-                        int nexLevel = currentEdgeInfo.getLevel() + 1;
-                        neighbors.forEach(e -> queue.addFirst(new EdgeLevelInfo<>(nexLevel, e)));
+                        currentVerticesFromSource.addLast(vertex);
+                        verticesOnPath.add(vertex);
                     }
                     // Mark edge as visited.
                     visitedEdges.add(currentEdgeInfo.getEdge());
@@ -124,71 +100,47 @@ public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements Trav
             }
         }
 
-        return pathFound ? new ArrayList<>(currentPathFromSource) : Collections.emptyList();
+        if (!pathFound) {
+            return Collections.emptyList();
+        }
+        return graph.isDirected()
+                ? new ArrayList<>(currentPathFromSource)
+                : orientPath(currentPathFromSource, sourceVertex);
     }
 
     /**
      * Checks if edge was visited.
      *
      * @param isDirected true - graph is directed, false - graph is undirected.
-     * @param seen - set of visited edges.
+     * @param seen - set of visited edges. For undirected graphs it should ignore edge direction.
      * @param edge edge to check.
      * @return treu - edge was already visited;
      *         false - edge wasn't visited.
      */
     protected boolean isEdgeVisited(boolean isDirected, Set<E> seen, E edge) {
-        final boolean directSearchResult = seen.contains(edge);
-        if (directSearchResult) {
-            return true;
-        }
-
-        if (!isDirected) {
-            return seen.contains(edge.getOpposite());
-        }
-        return false;
-    }
-
-    /**
-     * Get vertex outgoing path.
-     * For undirected graphs converts path in to have correct source/target values.
-     *
-     * @param graph graph to traverse.
-     * @param vertex vertex to get outgoing vertices.
-     * @return set of outgoing vertices. Can't be null.
-     */
-    protected Set<E> getOutgoingPaths(Graph<V, E> graph, V vertex) {
-        final Set<E> edges = graph.getOutgoingEdges(vertex);
-        if (graph.isDirected()) {
-            return edges;
-        }
-        // Transform edges for undirected graph.
-        final Set<E> processedEdges = new HashSet<>();
-        edges.forEach(e -> {
-            if (vertex.equals(e.getSource())) {
-                processedEdges.add(e);
-            } else {
-                processedEdges.add((E) e.getOpposite());
-            }
-        });
-        return processedEdges;
+        return seen.contains(edge);
     }
 
     /**
      * Inner class for storing info about path level.
      *
+     * @param <V> vertex class.
      * @param <E> edge class.
      */
-    private final class EdgeLevelInfo<E> {
+    private static final class EdgeLevelInfo<V, E> {
         // It is used because of checkstyle [MagicNumber] error.
         private static final int CONSTANT_FOR_HASH_CODE = 31;
 
         private final int level;
         private final E edge;
+        // Vertex the edge leads to.
+        private final V vertex;
 
-        private EdgeLevelInfo(int level, E edge) {
+        private EdgeLevelInfo(int level, E edge, V vertex) {
             Objects.requireNonNull(edge, "Edge should not be null");
             this.level = level;
             this.edge = edge;
+            this.vertex = vertex;
         }
 
         public int getLevel() {
@@ -199,6 +151,10 @@ public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements Trav
             return edge;
         }
 
+        public V getVertex() {
+            return vertex;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -208,7 +164,7 @@ public class SimpleDFSTraversalServiceImpl<V, E extends Edge<V>> implements Trav
                 return false;
             }
 
-            EdgeLevelInfo<?> pair = (EdgeLevelInfo<?>) o;
+            EdgeLevelInfo<?, ?> pair = (EdgeLevelInfo<?, ?>) o;
 
             if (level != pair.level) {
                 return false;
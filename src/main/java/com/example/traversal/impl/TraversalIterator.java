@@ -0,0 +1,103 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Edge;
+import com.example.graph.Graph;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lazy iterator over vertices reachable from source in BFS or DFS order.
+ * Vertices are discovered only when they are requested, so the caller could stop at any time
+ * and only visited vertices and pending queue are kept in memory.
+ * Edge which leads to the last returned vertex is available by getEdge.
+ * Graph should not be changed while it is iterated.
+ *
+ * @param <V> vertex type.
+ * @param <E> edge type.
+ */
+public final class TraversalIterator<V, E extends Edge<V>> implements Iterator<V> {
+    // Edge of the source vertex in the pending deque, which does not accept nulls.
+    private static final Object NO_EDGE = new Object();
+
+    private final Graph<V, E> graph;
+    private final boolean depthFirst;
+    private final Set<V> visited = new HashSet<>();
+    // Pairs of vertex and the edge it is reached by.
+    private final Deque<Object> pending = new ArrayDeque<>();
+    private V nextVertex;
+    private E nextEdge;
+    private E edge;
+
+    /**
+     * Constructor.
+     *
+     * @param graph graph to traverse.
+     * @param sourceVertex the first vertex.
+     * @param depthFirst true - DFS order, false - BFS order.
+     */
+    TraversalIterator(Graph<V, E> graph, V sourceVertex, boolean depthFirst) {
+        this.graph = graph;
+        this.depthFirst = depthFirst;
+        push(sourceVertex, NO_EDGE);
+        if (!depthFirst) {
+            visited.add(sourceVertex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextVertex == null && !pending.isEmpty()) {
+            final V vertex = (V) pending.pollFirst();
+            final Object reachedBy = pending.pollFirst();
+            // BFS marks vertices when they are discovered, DFS when they are reached, so DFS could pop a vertex twice.
+            if (depthFirst && !visited.add(vertex)) {
+                continue;
+            }
+            nextVertex = vertex;
+            nextEdge = reachedBy == NO_EDGE ? null : (E) reachedBy;
+        }
+        return nextVertex != null;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final V vertex = nextVertex;
+        edge = nextEdge;
+        nextVertex = null;
+        nextEdge = null;
+        graph.forEachNeighbor(vertex, (neighbor, e) -> {
+            if (depthFirst ? !visited.contains(neighbor) : visited.add(neighbor)) {
+                push(neighbor, e);
+            }
+        });
+        return vertex;
+    }
+
+    /**
+     * Get edge which leads to the last returned vertex.
+     * Undirected edges are returned as they are stored.
+     *
+     * @return edge or null if the last vertex is the source or next was not called.
+     */
+    public E getEdge() {
+        return edge;
+    }
+
+    private void push(V vertex, Object reachedBy) {
+        if (depthFirst) {
+            pending.addFirst(reachedBy);
+            pending.addFirst(vertex);
+        } else {
+            pending.addLast(vertex);
+            pending.addLast(reachedBy);
+        }
+    }
+}
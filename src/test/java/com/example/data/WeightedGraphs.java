@@ -0,0 +1,129 @@
+package com.example.data;
+
+import com.example.graph.AbstractDirectedGraph;
+import com.example.graph.AbstractGraph;
+import com.example.graph.AbstractUndirectedGraph;
+import com.example.graph.EdgeIndexedGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted graphs for tests.
+ * Vertex type is Integer.
+ * For Edge type is used DefaultWeightedEdge class.
+ */
+public class WeightedGraphs {
+    private static final int MAX_WEIGHT = 10;
+
+    /**
+     * Create empty graph. Edges added by addEdge(V, V) have default weight.
+     */
+    public static AbstractGraph<Integer, DefaultWeightedEdge<Integer>> create(boolean directed) {
+        return create(directed, false);
+    }
+
+    /**
+     * Create empty graph, indexed graph keeps dense vertex ids. Edges added by addEdge(V, V) have default weight.
+     */
+    public static AbstractGraph<Integer, DefaultWeightedEdge<Integer>> create(boolean directed, boolean indexed) {
+        if (directed) {
+            return new AbstractDirectedGraph<Integer, DefaultWeightedEdge<Integer>>(indexed) {
+                @Override
+                protected DefaultWeightedEdge<Integer> createEdge(Integer sourceVertex, Integer targetVertex) {
+                    return new DefaultWeightedEdge<>(sourceVertex, targetVertex);
+                }
+            };
+        }
+        return new AbstractUndirectedGraph<Integer, DefaultWeightedEdge<Integer>>(indexed) {
+            @Override
+            protected DefaultWeightedEdge<Integer> createEdge(Integer sourceVertex, Integer targetVertex) {
+                return new DefaultWeightedEdge<>(sourceVertex, targetVertex);
+            }
+        };
+    }
+
+    /**
+     * Create graph with vertices 0..vertexCount-1 and random edges with integer weights in [0, 10).
+     */
+    public static AbstractGraph<Integer, DefaultWeightedEdge<Integer>> random(long seed, int vertexCount, int edgeCount, boolean directed) {
+        return random(seed, vertexCount, edgeCount, directed, false);
+    }
+
+    /**
+     * Create random graph, indexed graph keeps dense vertex ids.
+     */
+    public static AbstractGraph<Integer, DefaultWeightedEdge<Integer>> random(
+            long seed, int vertexCount, int edgeCount, boolean directed, boolean indexed
+    ) {
+        final Random random = new Random(seed);
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = create(directed, indexed);
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            final DefaultWeightedEdge<Integer> edge = new DefaultWeightedEdge<>(
+                    random.nextInt(vertexCount),
+                    random.nextInt(vertexCount),
+                    random.nextInt(MAX_WEIGHT)
+            );
+            if (!edge.getSource().equals(edge.getTarget()) && !graph.containsEdge(edge)) {
+                graph.addEdge(edge);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Create random directed and undirected graphs, one graph per direction and edge count.
+     * Edge count is the seed of its graph, so graphs are the same in each run.
+     */
+    public static List<AbstractGraph<Integer, DefaultWeightedEdge<Integer>>> randomGraphs(int vertexCount, int... edgeCounts) {
+        final List<AbstractGraph<Integer, DefaultWeightedEdge<Integer>>> graphs = new ArrayList<>();
+        for (boolean directed : new boolean[]{true, false}) {
+            for (int edgeCount : edgeCounts) {
+                graphs.add(random(edgeCount, vertexCount, edgeCount, directed));
+            }
+        }
+        return graphs;
+    }
+
+    /**
+     * Create weight column with doubled weights of edges, so distances by the column are doubled distances by edges.
+     */
+    public static EdgeColumns<DefaultWeightedEdge<Integer>> doubledWeights(EdgeIndexedGraph<Integer, DefaultWeightedEdge<Integer>> graph) {
+        final EdgeColumns<DefaultWeightedEdge<Integer>> columns = new EdgeColumns<>(graph);
+        columns.addDoubleColumn(EdgeColumns.WEIGHT, edge -> 2 * edge.getWeight());
+        return columns;
+    }
+
+    /**
+     * Distances between all vertices of random graph by Floyd-Warshall algorithm.
+     */
+    public static double[][] distances(AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph) {
+        final int count = graph.getVertices().size();
+        final double[][] distances = new double[count][count];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < count; j++) {
+                distances[i][j] = i == j ? 0 : Double.POSITIVE_INFINITY;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            for (DefaultWeightedEdge<Integer> edge : graph.getOutgoingEdges(i)) {
+                final int j = edge.getSource() == i ? edge.getTarget() : edge.getSource();
+                distances[i][j] = Math.min(distances[i][j], edge.getWeight());
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            for (int i = 0; i < count; i++) {
+                for (int j = 0; j < count; j++) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i][k] + distances[k][j]);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.graph.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test CompactEdgeSet and compact edge containers.
+ */
+public class CompactEdgeSetTest {
+
+    @Test
+    public void growAndShrinkTest() {
+        final int count = CompactEdgeSet.MAX_ARRAY_SIZE * 2;
+        final CompactEdgeSet<DefaultEdge<Integer>> set = new CompactEdgeSet<>();
+        final Set<DefaultEdge<Integer>> expected = new HashSet<>();
+        assertTrue(set.isEmpty(), "Set should be empty");
+
+        // Pass all storage kinds: field, array, hash set.
+        for (int i = 0; i < count; i++) {
+            final DefaultEdge<Integer> edge = new DefaultEdge<>(0, i + 1);
+            assertTrue(set.add(edge), "Edge should be added");
+            assertFalse(set.add(new DefaultEdge<>(0, i + 1)), "Duplicate should not be added");
+            expected.add(edge);
+            assertEquals(expected, set);
+        }
+
+        // And back.
+        final List<DefaultEdge<Integer>> edges = new ArrayList<>(expected);
+        Collections.shuffle(edges);
+        for (DefaultEdge<Integer> edge : edges) {
+            assertTrue(set.remove(edge), "Edge should be removed");
+            assertFalse(set.remove(edge), "Edge should be already removed");
+            expected.remove(edge);
+            assertEquals(expected, set);
+            assertEquals(expected.size(), set.size());
+        }
+        assertTrue(set.isEmpty(), "Set should be empty");
+    }
+
+    @Test
+    public void containersTest() {
+        final CompactDirectedEdgeContainer<DefaultEdge<String>> directed = new CompactDirectedEdgeContainer<>();
+        directed.addOutgoingEdge(new DefaultEdge<>("A", "B"));
+        directed.addIncomingEdge(new DefaultEdge<>("C", "A"));
+        assertEquals(Collections.singleton(new DefaultEdge<>("A", "B")), directed.getOutgoingEdges());
+        assertEquals(Collections.singleton(new DefaultEdge<>("C", "A")), directed.getIncomingEdges());
+
+        final CompactUndirectedEdgeContainer<DefaultEdge<String>> undirected = new CompactUndirectedEdgeContainer<>();
+        undirected.addOutgoingEdge(new DefaultEdge<>("A", "B"));
+        undirected.addIncomingEdge(new DefaultEdge<>("C", "A"));
+        assertEquals(2, undirected.getOutgoingEdges().size());
+        assertEquals(undirected.getOutgoingEdges(), undirected.getIncomingEdges());
+    }
+}
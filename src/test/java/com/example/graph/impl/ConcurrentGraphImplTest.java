@@ -0,0 +1,143 @@
+package com.example.graph.impl;
+
+import com.example.graph.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test concurrent edge additions and removals on ConcurrentDirectedGraphImpl and ConcurrentUndirectedGraphImpl.
+ */
+public class ConcurrentGraphImplTest {
+    private static final int THREADS = 8;
+    private static final int VERTICES = 200;
+
+    @Test
+    public void concurrentDirectedGraphTest() throws Exception {
+        final ConcurrentDirectedGraphImpl<Integer> graph = new ConcurrentDirectedGraphImpl<>();
+        assertTrue(graph.isDirected(), "Graph should be directed");
+        assertFalse(graph.isIndexed(), "Graph should not be indexed");
+
+        // Every thread tries to add all edges i -> i + 1 and i + 1 -> i.
+        final int added = addEdgesConcurrently(graph);
+        assertEquals(2 * (VERTICES - 1), added, "Each edge should be added only once");
+        for (int i = 0; i < VERTICES - 1; i++) {
+            assertTrue(graph.containsEdge(new DefaultEdge<>(i, i + 1)), "Graph should contain edge");
+            assertTrue(graph.containsEdge(new DefaultEdge<>(i + 1, i)), "Graph should contain edge");
+        }
+        assertEquals(2, graph.getOutgoingEdges(1).size());
+        assertEquals(2, graph.getIncomingEdges(1).size());
+    }
+
+    @Test
+    public void concurrentUndirectedGraphTest() throws Exception {
+        final ConcurrentUndirectedGraphImpl<Integer> graph = new ConcurrentUndirectedGraphImpl<>();
+        assertFalse(graph.isDirected(), "Graph should be undirected");
+
+        // Edges i -> i + 1 and i + 1 -> i are the same edge of undirected graph.
+        final int added = addEdgesConcurrently(graph);
+        assertEquals(VERTICES - 1, added, "Each edge should be added only once");
+        assertEquals(2, graph.getOutgoingEdges(1).size());
+        assertEquals(1, graph.getOutgoingEdges(0).size());
+        for (int i = 0; i < VERTICES - 1; i++) {
+            assertTrue(graph.containsEdge(new DefaultEdge<>(i, i + 1)), "Graph should contain edge");
+            assertTrue(graph.containsEdge(new DefaultEdge<>(i + 1, i)), "Graph should contain opposite edge");
+        }
+        assertFalse(graph.containsEdge(new DefaultEdge<>(0, 2)), "Graph should not contain edge");
+
+        // Edge could be removed in either direction.
+        assertTrue(graph.removeEdge(new DefaultEdge<>(1, 0)), "Edge should be removed");
+        assertFalse(graph.containsEdge(new DefaultEdge<>(0, 1)), "Graph should not contain edge");
+        assertTrue(graph.getOutgoingEdges(0).isEmpty(), "Edge should be removed from both ends");
+        assertEquals(1, graph.getOutgoingEdges(1).size());
+    }
+
+    @Test
+    public void concurrentRemoveTest() throws Exception {
+        final ConcurrentDirectedGraphImpl<Integer> graph = new ConcurrentDirectedGraphImpl<>();
+        addEdgesConcurrently(graph);
+
+        // Remove every second vertex while other threads remove edges.
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Callable<Boolean>> tasks = new ArrayList<>();
+            tasks.add(() -> {
+                for (int i = 0; i < VERTICES; i += 2) {
+                    graph.removeVertex(i);
+                }
+                return true;
+            });
+            for (int t = 1; t < THREADS; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < VERTICES - 1; i++) {
+                        graph.removeEdge(new DefaultEdge<>(i + 1, i));
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        assertEquals(VERTICES / 2, graph.getVertices().size());
+        for (int i = 1; i < VERTICES; i += 2) {
+            assertTrue(graph.getOutgoingEdges(i).isEmpty(), "All edges should be removed");
+            assertTrue(graph.getIncomingEdges(i).isEmpty(), "All edges should be removed");
+        }
+    }
+
+    private static int addEdgesConcurrently(Graph<Integer, DefaultEdge<Integer>> graph) throws Exception {
+        for (int i = 0; i < VERTICES; i++) {
+            graph.addVertex(i);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int shift = t;
+                tasks.add(() -> {
+                    int count = 0;
+                    for (int k = 0; k < VERTICES - 1; k++) {
+                        final int i = (k + shift) % (VERTICES - 1);
+                        count += tryAddEdge(graph, i, i + 1);
+                        count += tryAddEdge(graph, i + 1, i);
+                    }
+                    return count;
+                });
+            }
+
+            int added = 0;
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                added += future.get();
+            }
+            return added;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static int tryAddEdge(Graph<Integer, DefaultEdge<Integer>> graph, int source, int target) {
+        try {
+            graph.addEdge(source, target);
+            return 1;
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.graph.impl;
+
+import com.example.data.DirectedStringGraphs;
+import com.example.data.UndirectedStringGraphs;
+import com.example.graph.IndexedGraph;
+import com.example.graph.NeighborCursor;
+import com.example.traversal.impl.SimpleDFSTraversalServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.example.graph.impl.CsrGraph.MSG_GRAPH_IS_IMMUTABLE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test CSR snapshots of directed and undirected graphs.
+ */
+public class CsrGraphTest {
+
+    @Test
+    public void directedSnapshotTest() {
+        final SimpleDirectedGraphImpl<String> source = DirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS;
+        final IndexedGraph<String, DefaultEdge<String>> graph = Graphs.freeze(source);
+
+        assertTrue(graph.isDirected(), "Snapshot should be directed");
+        assertEquals(source.getVertices(), graph.getVertices());
+        for (String vertex : source.getVertices()) {
+            assertEquals(source.getOutgoingEdges(vertex), graph.getOutgoingEdges(vertex));
+            assertEquals(source.getIncomingEdges(vertex), graph.getIncomingEdges(vertex));
+        }
+        assertTrue(graph.containsEdge(new DefaultEdge<>("B", "O")), "Snapshot should contain edge");
+        assertFalse(graph.containsEdge(new DefaultEdge<>("O", "B")), "Snapshot should not contain edge");
+    }
+
+    @Test
+    public void undirectedSnapshotTest() {
+        final SimpleUndirectedGraphImpl<Integer> source = UndirectedStringGraphs.LOOP;
+        final IndexedGraph<Integer, DefaultEdge<Integer>> graph = CsrGraph.of(source);
+
+        assertFalse(graph.isDirected(), "Snapshot should be undirected");
+        for (Integer vertex : source.getVertices()) {
+            assertEquals(source.getOutgoingEdges(vertex), graph.getOutgoingEdges(vertex));
+            assertEquals(graph.getOutgoingEdges(vertex), graph.getIncomingEdges(vertex));
+        }
+        assertTrue(graph.containsEdge(new DefaultEdge<>(1, 5)), "Snapshot should contain edge");
+        assertTrue(graph.containsEdge(new DefaultEdge<>(5, 1)), "Snapshot should contain opposite edge");
+        assertFalse(graph.containsEdge(new DefaultEdge<>(1, 3)), "Snapshot should not contain edge");
+    }
+
+    @Test
+    public void snapshotKeepsIdsOfIndexedGraphTest() {
+        final SimpleDirectedGraphImpl<String> source = new SimpleDirectedGraphImpl<>(true);
+        Arrays.asList("C", "B", "A").forEach(source::addVertex);
+        source.addEdge("C", "A");
+        source.addEdge("C", "B");
+        source.addEdge("B", "A");
+
+        final CsrGraph<String, DefaultEdge<String>> graph = CsrGraph.of(source);
+        assertSame(graph, Graphs.freeze(graph));
+        for (int id = 0; id < source.vertexCount(); id++) {
+            assertEquals(source.vertexOf(id), graph.vertexOf(id));
+            assertArrayEquals(sorted(source.outgoingIds(id)), sorted(graph.outgoingIds(id)));
+            assertArrayEquals(sorted(source.incomingIds(id)), sorted(graph.incomingIds(id)));
+        }
+        assertArrayEquals(new int[]{0, 1}, sorted(graph.incomingIds(2)));
+    }
+
+    @Test
+    public void snapshotIsImmutableTest() {
+        final CsrGraph<String, DefaultEdge<String>> graph = CsrGraph.of(DirectedStringGraphs.LOOP);
+        final UnsupportedOperationException thrown = assertThrows(
+                UnsupportedOperationException.class,
+                () -> graph.addVertex("Z"),
+                "Expected UnsupportedOperationException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_IS_IMMUTABLE, thrown.getLocalizedMessage());
+        assertThrows(UnsupportedOperationException.class, () -> graph.addEdge("A", "C"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getOutgoingEdges("A").clear());
+    }
+
+    @Test
+    public void traverseSnapshotTest() {
+        final SimpleDFSTraversalServiceImpl<String, DefaultEdge<String>> service = new SimpleDFSTraversalServiceImpl<>();
+        final CsrGraph<String, DefaultEdge<String>> graph = CsrGraph.of(DirectedStringGraphs.LOOP);
+        assertEquals(
+                Arrays.asList(new DefaultEdge<>("C", "D"), new DefaultEdge<>("D", "E"), new DefaultEdge<>("E", "A")),
+                service.getPath(graph, "C", "A")
+        );
+    }
+
+    @Test
+    public void manyVerticesTest() {
+        final SimpleDirectedGraphImpl<Integer> source = new SimpleDirectedGraphImpl<>();
+        final int count = 10000;
+        for (int vertex = 0; vertex < count; vertex++) {
+            source.addVertex(vertex * count);
+        }
+        for (int vertex = 1; vertex < count; vertex++) {
+            source.addEdge(0, vertex * count);
+        }
+        final CsrGraph<Integer, DefaultEdge<Integer>> graph = CsrGraph.of(source);
+        assertEquals(source.getVertices(), graph.getVertices());
+        for (int id = 0; id < count; id++) {
+            assertEquals(id, graph.idOf(graph.vertexOf(id)));
+        }
+        assertEquals(IndexedGraph.UNKNOWN_ID, graph.idOf(1));
+        assertFalse(graph.containsVertex(1), "Vertex should not be in the graph");
+        assertEquals(source.getIncomingEdges(count), graph.getIncomingEdges(count));
+        assertTrue(graph.containsEdge(new DefaultEdge<>(0, count)), "Edge should be in the graph");
+    }
+
+    private static int[] sorted(int[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    @Test
+    public void cursorTest() {
+        final CsrGraph<String, DefaultEdge<String>> graph = CsrGraph.of(DirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS);
+        final NeighborCursor<String, DefaultEdge<String>> cursor = graph.cursor();
+        assertFalse(cursor.next(), "Cursor should be empty before positioning");
+        for (int id = 0; id < graph.vertexCount(); id++) {
+            cursor.outgoing(id);
+            int count = 0;
+            while (cursor.next()) {
+                assertEquals(count++, cursor.index());
+                assertEquals(graph.vertexOf(id), cursor.edge().getSource());
+                assertEquals(cursor.vertex(), cursor.edge().getTarget());
+            }
+            assertEquals(graph.outDegree(id), count);
+
+            cursor.incoming(id);
+            count = 0;
+            while (cursor.next()) {
+                assertEquals(graph.vertexOf(cursor.id()), cursor.edge().getSource());
+                count++;
+            }
+            assertEquals(graph.inDegree(id), count);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.graph.impl;
+
+import com.example.graph.AbstractDirectedGraph;
+import com.example.graph.WeightedEdge;
+import com.example.usage.model.Color;
+import com.example.usage.model.ColoredEdge;
+import com.example.usage.model.ColoredFigure;
+import com.example.usage.model.CustomColoredGraphImpl;
+import com.example.usage.model.Shape;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.example.graph.impl.EdgeColumns.MSG_COLUMN_ALREADY_EXISTS;
+import static com.example.graph.impl.EdgeColumns.MSG_UNKNOWN_COLUMN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test edge ids of CsrGraph and EdgeColumns.
+ */
+public class EdgeColumnsTest {
+
+    @Test
+    public void weightColumnTest() {
+        final AbstractDirectedGraph<String, WeightedTestEdge> graph = new AbstractDirectedGraph<String, WeightedTestEdge>() {
+            @Override
+            protected WeightedTestEdge createEdge(String sourceVertex, String targetVertex) {
+                return new WeightedTestEdge(sourceVertex, targetVertex, 1.0d);
+            }
+        };
+        graph.addVertices(Arrays.asList("A", "B", "C"));
+        graph.addEdge(new WeightedTestEdge("A", "B", 2.5d));
+        graph.addEdge(new WeightedTestEdge("B", "C", 4.0d));
+        graph.addEdge("C", "A");
+
+        final CsrGraph<String, WeightedTestEdge> csr = CsrGraph.of(graph);
+        final EdgeColumns.DoubleColumn weights = EdgeColumns.withWeights(csr).getDoubleColumn(EdgeColumns.WEIGHT);
+        assertEquals(3, csr.edgeCount());
+        assertEquals(3, weights.size());
+        for (int id = 0; id < csr.vertexCount(); id++) {
+            for (int index = 0; index < csr.outDegree(id); index++) {
+                final int edgeId = csr.outgoingEdgeId(id, index);
+                assertEquals(csr.outgoingEdge(id, index), csr.edgeOf(edgeId));
+                assertEquals(csr.outgoingEdge(id, index).getWeight(), weights.get(edgeId));
+            }
+            for (int index = 0; index < csr.inDegree(id); index++) {
+                assertEquals(csr.incomingEdge(id, index), csr.edgeOf(csr.incomingEdgeId(id, index)));
+            }
+        }
+
+        weights.set(0, 7.0d);
+        assertEquals(7.0d, weights.get(0));
+    }
+
+    @Test
+    public void customAttributesTest() {
+        final CustomColoredGraphImpl graph = new CustomColoredGraphImpl();
+        final ColoredFigure circle = new ColoredFigure(1L, Color.RED, Shape.CIRCLE);
+        final ColoredFigure square = new ColoredFigure(2L, Color.RED, Shape.SQUARE);
+        final ColoredFigure triangle = new ColoredFigure(3L, Color.BLUE, Shape.TRIANGLE);
+        graph.addVertices(Arrays.asList(circle, square, triangle));
+        graph.addEdge(new ColoredEdge<>(circle, square, 10L, Color.RED));
+        graph.addEdge(new ColoredEdge<>(square, triangle, 20L, Color.BLUE));
+        graph.addEdge(new ColoredEdge<>(triangle, circle, 30L, Color.RED));
+
+        final CsrGraph<ColoredFigure, ColoredEdge<ColoredFigure>> csr = CsrGraph.of(graph);
+        // Undirected edge has one id for both ends.
+        assertEquals(3, csr.edgeCount());
+        final Set<Integer> edgeIds = new HashSet<>();
+        for (int id = 0; id < csr.vertexCount(); id++) {
+            for (int index = 0; index < csr.outDegree(id); index++) {
+                edgeIds.add(csr.outgoingEdgeId(id, index));
+                assertEquals(csr.outgoingEdge(id, index), csr.edgeOf(csr.outgoingEdgeId(id, index)));
+            }
+        }
+        assertEquals(3, edgeIds.size());
+
+        final EdgeColumns<ColoredEdge<ColoredFigure>> columns = new EdgeColumns<>(csr);
+        final EdgeColumns.LongColumn lengths = columns.addLongColumn("length", ColoredEdge::getLength);
+        final EdgeColumns.DictionaryColumn<Color> colors = columns.addDictionaryColumn("color", ColoredEdge::getColor);
+        assertEquals(3, colors.getDictionarySize(), "Dictionary should contain null, RED and BLUE");
+        for (int edgeId = 0; edgeId < csr.edgeCount(); edgeId++) {
+            assertEquals(csr.edgeOf(edgeId).getLength(), lengths.get(edgeId));
+            assertEquals(csr.edgeOf(edgeId).getColor(), colors.get(edgeId));
+        }
+        colors.set(0, null);
+        assertNull(colors.get(0));
+        assertEquals(0, colors.getCode(0));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> columns.addLongColumn("length", ColoredEdge::getLength),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_COLUMN_ALREADY_EXISTS, thrown.getLocalizedMessage());
+        final IllegalArgumentException thrownUnknown = assertThrows(
+                IllegalArgumentException.class,
+                () -> columns.getDoubleColumn("length"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_COLUMN, thrownUnknown.getLocalizedMessage());
+    }
+
+    /**
+     * Weighted edge for tests.
+     */
+    private static final class WeightedTestEdge extends DefaultEdge<String> implements WeightedEdge<String> {
+        private final double weight;
+
+        private WeightedTestEdge(String source, String target, double weight) {
+            super(source, target);
+            this.weight = weight;
+        }
+
+        @Override
+        public double getWeight() {
+            return weight;
+        }
+    }
+}
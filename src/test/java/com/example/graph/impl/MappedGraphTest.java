@@ -0,0 +1,116 @@
+package com.example.graph.impl;
+
+import com.example.data.DirectedStringGraphs;
+import com.example.data.UndirectedStringGraphs;
+import com.example.graph.IndexedGraph;
+import com.example.graph.VertexCodec;
+import com.example.traversal.impl.SimpleDFSTraversalServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.example.graph.impl.MappedGraph.MSG_UNSUPPORTED_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test writing graphs into files and opening them as MappedGraph.
+ */
+public class MappedGraphTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void directedGraphTest() throws IOException {
+        final SimpleDirectedGraphImpl<String> source = DirectedStringGraphs.GRAPH_WITH_THREE_DIFFERENT_PATHS;
+        final Path file = directory.resolve("directed.graph");
+        MappedGraph.write(source, file, VertexCodec.strings());
+
+        final MappedGraph<String> graph = MappedGraph.open(file, VertexCodec.strings());
+        assertTrue(graph.isDirected(), "Graph should be directed");
+        assertEquals(source.getVertices(), graph.getVertices());
+        for (String vertex : source.getVertices()) {
+            assertEquals(source.getOutgoingEdges(vertex), graph.getOutgoingEdges(vertex));
+            assertEquals(source.getIncomingEdges(vertex), graph.getIncomingEdges(vertex));
+        }
+        assertTrue(graph.containsEdge(new DefaultEdge<>("H", "I")), "Graph should contain edge");
+        assertFalse(graph.containsEdge(new DefaultEdge<>("I", "H")), "Graph should not contain edge");
+        assertEquals(
+                Arrays.asList(new DefaultEdge<>("G", "H"), new DefaultEdge<>("H", "I"), new DefaultEdge<>("I", "E")),
+                new SimpleDFSTraversalServiceImpl<String, DefaultEdge<String>>().getPath(graph, "G", "E")
+        );
+    }
+
+    @Test
+    public void undirectedGraphTest() throws IOException {
+        final SimpleUndirectedGraphImpl<Integer> source = UndirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS;
+        final Path file = directory.resolve("undirected.graph");
+        MappedGraph.write(source, file, VertexCodec.integers());
+
+        final MappedGraph<Integer> graph = MappedGraph.open(file, VertexCodec.integers());
+        assertFalse(graph.isDirected(), "Graph should be undirected");
+        assertEquals(source.getVertices(), graph.getVertices());
+        for (Integer vertex : source.getVertices()) {
+            assertEquals(source.getOutgoingEdges(vertex).size(), graph.outDegree(graph.idOf(vertex)));
+            for (DefaultEdge<Integer> edge : source.getOutgoingEdges(vertex)) {
+                assertTrue(graph.containsEdge(edge), "Graph should contain edge");
+                assertTrue(graph.containsEdge(edge.getOpposite()), "Graph should contain opposite edge");
+            }
+        }
+    }
+
+    @Test
+    public void keepIdsOfIndexedGraphTest() throws IOException {
+        final SimpleDirectedGraphImpl<Long> source = new SimpleDirectedGraphImpl<>(true);
+        Arrays.asList(30L, 20L, 10L).forEach(source::addVertex);
+        source.addEdge(30L, 10L);
+        final Path file = directory.resolve("indexed.graph");
+        MappedGraph.write(source, file, VertexCodec.longs());
+
+        final MappedGraph<Long> graph = MappedGraph.open(file, VertexCodec.longs());
+        assertEquals(Long.valueOf(30L), graph.vertexOf(0));
+        assertEquals(Long.valueOf(10L), graph.vertexOf(2));
+        assertEquals(2, graph.outgoingId(0, 0));
+        assertEquals(0, graph.incomingId(2, 0));
+        assertEquals(0, graph.outDegree(1));
+    }
+
+    @Test
+    public void vertexLookupTest() throws IOException {
+        final SimpleDirectedGraphImpl<String> source = new SimpleDirectedGraphImpl<>(true);
+        final int count = 10000;
+        for (int i = 0; i < count; i++) {
+            source.addVertex("V" + i);
+        }
+        final Path file = directory.resolve("lookup.graph");
+        MappedGraph.write(source, file, VertexCodec.strings());
+
+        final MappedGraph<String> graph = MappedGraph.open(file, VertexCodec.strings());
+        for (int i = 0; i < count; i++) {
+            assertEquals(source.idOf("V" + i), graph.idOf("V" + i));
+        }
+        assertEquals(IndexedGraph.UNKNOWN_ID, graph.idOf("V" + count));
+        assertFalse(graph.containsVertex(""), "Graph should not contain vertex");
+        assertTrue(graph.getVertices().contains("V1"), "Vertices should contain vertex");
+        assertEquals(source.getVertices(), graph.getVertices());
+    }
+
+    @Test
+    public void openUnknownFormatTest() throws IOException {
+        final Path file = directory.resolve("unknown.graph");
+        Files.write(file, new byte[128]);
+        final IOException thrown = assertThrows(
+                IOException.class,
+                () -> MappedGraph.open(file, VertexCodec.strings()),
+                "Expected IOException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNSUPPORTED_FORMAT, thrown.getLocalizedMessage());
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.graph.impl;
+
+import com.example.graph.IndexedGraph;
+import com.example.traversal.impl.SimpleDFSTraversalServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.impl.AbstractMultigraph.MSG_EDGE_ID_DOES_NOT_MATCH;
+import static com.example.graph.impl.CsrGraph.MSG_UNKNOWN_EDGE_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test base graph operations on DirectedMultigraphImpl and UndirectedMultigraphImpl.
+ */
+public class MultigraphImplTest {
+
+    @Test
+    public void parallelEdgesTest() {
+        final DirectedMultigraphImpl<String> graph = new DirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B", "C"));
+        final int first = graph.addEdgeWithId("A", "B");
+        final int second = graph.addEdgeWithId("A", "B");
+        graph.addEdge("B", "C");
+
+        assertEquals(0, first);
+        assertEquals(1, second);
+        assertEquals(3, graph.size());
+        assertEquals(2, graph.outDegree(graph.idOf("A")));
+        assertEquals(2, graph.inDegree(graph.idOf("B")));
+        assertEquals(
+                new HashSet<>(Arrays.asList(new MultiEdge<>("A", "B", 0), new MultiEdge<>("A", "B", 1))),
+                graph.getOutgoingEdges("A")
+        );
+        assertTrue(graph.containsEdge(new MultiEdge<>("A", "B", 1)), "Graph should contain parallel edge");
+        assertFalse(graph.containsEdge(new MultiEdge<>("B", "A", 1)), "Graph should not contain opposite edge");
+        assertEquals(second, graph.edgeIdOf(new MultiEdge<>("A", "B", 1)));
+        assertEquals(new MultiEdge<>("A", "B", 1), graph.edgeOf(second));
+
+        final List<MultiEdge<String>> path = new SimpleDFSTraversalServiceImpl<String, MultiEdge<String>>().getPath(graph, "A", "C");
+        assertEquals(2, path.size());
+        assertEquals("C", path.get(1).getTarget());
+    }
+
+    @Test
+    public void undirectedGraphTest() {
+        final UndirectedMultigraphImpl<Integer> graph = new UndirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList(1, 2, 3));
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 1);
+        graph.addEdge(3, 1);
+
+        assertFalse(graph.isDirected(), "Graph should be undirected");
+        assertEquals(3, graph.outDegree(graph.idOf(1)));
+        assertTrue(graph.containsEdge(new MultiEdge<>(1, 2, 1)), "Graph should contain opposite edge");
+        assertTrue(graph.getOutgoingEdges(2).contains(new MultiEdge<>(2, 1, 0)), "Edge should be outgoing");
+        assertEquals(graph.idOf(1), graph.outgoingId(graph.idOf(3), 0));
+
+        final IndexedGraph<Integer, MultiEdge<Integer>> frozen = Graphs.freeze(graph);
+        assertEquals(2, frozen.outDegree(frozen.idOf(2)));
+    }
+
+    @Test
+    public void removeTest() {
+        final DirectedMultigraphImpl<String> graph = new DirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B", "C", "D"));
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "B");
+        final int edgeId = graph.addEdgeWithId("B", "C");
+        graph.addEdge("C", "D");
+
+        assertTrue(graph.removeEdge(new MultiEdge<>("A", "B", 0)), "Edge should be removed");
+        assertEquals(1, graph.outDegree(graph.idOf("A")));
+        assertFalse(graph.containsEdgeId(0), "Edge id should be unused");
+        assertEquals(edgeId, graph.edgeIdOf(new MultiEdge<>("B", "C", edgeId)));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.edgeOf(0),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_EDGE_ID, thrown.getLocalizedMessage());
+
+        // The last vertex D takes id of A.
+        assertTrue(graph.removeVertex("A"), "Vertex should be removed");
+        assertFalse(graph.removeVertex("A"), "Vertex should be already removed");
+        assertEquals(3, graph.vertexCount());
+        assertEquals(2, graph.size());
+        assertEquals(graph.idOf("D"), graph.outgoingId(graph.idOf("C"), 0));
+        assertEquals(graph.idOf("C"), graph.incomingId(graph.idOf("D"), 0));
+        assertEquals(new MultiEdge<>("B", "C", edgeId), graph.edgeOf(edgeId));
+
+        assertTrue(graph.removeEdge(edgeId), "Edge should be removed by id");
+        assertFalse(graph.removeEdge(edgeId), "Edge should be already removed");
+        assertEquals(4, graph.edgeCount());
+    }
+
+    @Test
+    public void addEdgesTest() {
+        final DirectedMultigraphImpl<String> graph = new DirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B"));
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new MultiEdge<>("A", "B", 0), new MultiEdge<>("A", "C", 1))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+        assertEquals(0, graph.edgeCount());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge("A", "A"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_LOOPS_NOT_SUPPORTED, thrown.getLocalizedMessage());
+
+        graph.addEdges(Arrays.asList(new MultiEdge<>("A", "B", 0), new MultiEdge<>("B", "A", 1)));
+        assertEquals(2, graph.size());
+    }
+
+    @Test
+    public void edgeIdTest() {
+        final DirectedMultigraphImpl<String> graph = new DirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B"));
+        graph.addEdge("A", "B");
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge(new MultiEdge<>("A", "B", 0)),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_ID_DOES_NOT_MATCH, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new MultiEdge<>("A", "B", 1), new MultiEdge<>("B", "A", 1))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_ID_DOES_NOT_MATCH, thrown.getLocalizedMessage());
+        assertEquals(1, graph.size());
+
+        assertEquals(1, graph.addEdgeWithId(new MultiEdge<>("A", "B", 1)));
+        assertEquals(1, graph.edgeOf(1).getId());
+        assertEquals(2, new HashSet<>(graph.getOutgoingEdges("A")).size());
+        assertTrue(graph.removeEdge(new MultiEdge<>("A", "B", 0)), "Edge should be removed by id");
+        assertTrue(graph.containsEdge(new MultiEdge<>("A", "B", 1)), "Parallel edge should stay");
+    }
+
+    @Test
+    public void edgeColumnsTest() {
+        final DirectedMultigraphImpl<String> graph = new DirectedMultigraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B"));
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "A");
+        graph.removeEdge(1);
+
+        final EdgeColumns<MultiEdge<String>> columns = new EdgeColumns<>(graph);
+        final EdgeColumns.LongColumn ids = columns.addLongColumn("id", MultiEdge::getId);
+        assertEquals(3, ids.size());
+        assertEquals(2, ids.get(2));
+        assertEquals(0, ids.get(1));
+    }
+}
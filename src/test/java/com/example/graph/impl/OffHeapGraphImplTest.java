@@ -0,0 +1,179 @@
+package com.example.graph.impl;
+
+import com.example.traversal.impl.SimpleDFSTraversalServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_UNIQUE;
+import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.impl.AbstractOffHeapGraph.MSG_CHUNK_SIZE_IS_INVALID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test base graph operations on OffHeapDirectedGraphImpl and OffHeapUndirectedGraphImpl.
+ */
+public class OffHeapGraphImplTest {
+    // Small chunks to check moving of adjacency blocks between chunks.
+    private static final int CHUNK_SIZE = 64;
+
+    @Test
+    public void directedGraphTest() {
+        final OffHeapDirectedGraphImpl<String> graph = new OffHeapDirectedGraphImpl<>(CHUNK_SIZE);
+        Arrays.asList("A", "B", "C", "D").forEach(graph::addVertex);
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge(new DefaultEdge<>("C", "D"));
+
+        assertTrue(graph.isDirected(), "Graph should be directed");
+        assertTrue(graph.containsEdge(new DefaultEdge<>("A", "B")), "Graph should contain edge");
+        assertFalse(graph.containsEdge(new DefaultEdge<>("B", "A")), "Graph should not contain opposite edge");
+        assertEquals(
+                new HashSet<>(Arrays.asList(new DefaultEdge<>("A", "B"), new DefaultEdge<>("A", "C"))),
+                graph.getOutgoingEdges("A")
+        );
+        assertEquals(Collections.singleton(new DefaultEdge<>("A", "C")), graph.getIncomingEdges("C"));
+        assertTrue(graph.getOutgoingEdges("C").contains(new DefaultEdge<>("C", "D")), "Edge should be outgoing");
+        assertFalse(graph.getIncomingEdges("C").contains(new DefaultEdge<>("C", "D")), "Edge should not be incoming");
+
+        final List<DefaultEdge<String>> path = new SimpleDFSTraversalServiceImpl<String, DefaultEdge<String>>().getPath(graph, "A", "D");
+        assertEquals(Arrays.asList(new DefaultEdge<>("A", "C"), new DefaultEdge<>("C", "D")), path);
+    }
+
+    @Test
+    public void undirectedGraphTest() {
+        final OffHeapUndirectedGraphImpl<Integer> graph = new OffHeapUndirectedGraphImpl<>(CHUNK_SIZE);
+        Arrays.asList(1, 2, 3).forEach(graph::addVertex);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 1);
+
+        assertFalse(graph.isDirected(), "Graph should be undirected");
+        assertTrue(graph.containsEdge(new DefaultEdge<>(2, 1)), "Graph should contain opposite edge");
+        assertEquals(2, graph.outDegree(graph.idOf(1)));
+        assertEquals(graph.getOutgoingEdges(3), Collections.singleton(new DefaultEdge<>(3, 1)));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge(1, 3),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void largeAdjacencyTest() {
+        final OffHeapDirectedGraphImpl<Integer> graph = new OffHeapDirectedGraphImpl<>(CHUNK_SIZE);
+        final int count = 1000;
+        for (int i = 0; i < count; i++) {
+            graph.addVertex(i);
+        }
+        // Interleave vertices to move blocks while other lists grow.
+        for (int i = 1; i < count; i++) {
+            graph.addEdge(0, i);
+            graph.addEdge(i, i % 2 == 0 ? 1 : 2);
+        }
+
+        assertEquals(count - 1, graph.outDegree(0));
+        final Set<Integer> targets = new HashSet<>();
+        for (int i = 0; i < graph.outDegree(0); i++) {
+            targets.add(graph.vertexOf(graph.outgoingId(0, i)));
+        }
+        assertEquals(count - 1, targets.size());
+        assertFalse(targets.contains(0), "Source should not be a target");
+        assertTrue(graph.containsEdge(new DefaultEdge<>(998, 1)), "Graph should contain edge");
+        assertTrue(graph.containsEdge(new DefaultEdge<>(999, 2)), "Graph should contain edge");
+        // Odd vertices and vertex 0 lead to vertex 2.
+        assertEquals(count / 2 + 1, graph.inDegree(graph.idOf(2)));
+    }
+
+    @Test
+    public void addEdgeChecksTest() {
+        final OffHeapDirectedGraphImpl<String> graph = new OffHeapDirectedGraphImpl<>();
+        graph.addVertex("A");
+        final IllegalArgumentException thrownOnTarget = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge("A", "B"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrownOnTarget.getLocalizedMessage());
+
+        final IllegalArgumentException thrownOnLoop = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge("A", "A"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_LOOPS_NOT_SUPPORTED, thrownOnLoop.getLocalizedMessage());
+    }
+
+    @Test
+    public void addEdgesTest() {
+        final OffHeapDirectedGraphImpl<Integer> graph = new OffHeapDirectedGraphImpl<>(CHUNK_SIZE);
+        final int count = 1000;
+        final List<DefaultEdge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            graph.addVertex(i);
+            if (i > 0) {
+                edges.add(new DefaultEdge<>(0, i));
+                edges.add(new DefaultEdge<>(i, 0));
+            }
+        }
+        graph.addEdge(1, 2);
+        graph.addEdges(edges);
+
+        assertEquals(count - 1, graph.outDegree(0));
+        assertEquals(count - 1, graph.inDegree(0));
+        assertEquals(2, graph.outDegree(graph.idOf(1)));
+        assertTrue(graph.containsEdge(new DefaultEdge<>(999, 0)), "Graph should contain edge");
+
+        // Duplicate of present edge in the middle of the batch is rejected before graph is changed.
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new DefaultEdge<>(2, 1), new DefaultEdge<>(1, 2), new DefaultEdge<>(2, 3))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+        assertFalse(graph.containsEdge(new DefaultEdge<>(2, 1)), "Graph should not contain edge");
+        assertEquals(1, graph.outDegree(graph.idOf(2)));
+    }
+
+    @Test
+    public void addUndirectedEdgesTest() {
+        final OffHeapUndirectedGraphImpl<Integer> graph = new OffHeapUndirectedGraphImpl<>(CHUNK_SIZE);
+        Arrays.asList(1, 2, 3, 4).forEach(graph::addVertex);
+        graph.addEdge(1, 2);
+        graph.addEdges(Arrays.asList(new DefaultEdge<>(3, 1), new DefaultEdge<>(4, 2)));
+        assertEquals(2, graph.outDegree(graph.idOf(1)));
+        assertTrue(graph.containsEdge(new DefaultEdge<>(2, 4)), "Graph should contain opposite edge");
+
+        // Opposite of present edge and opposite edge inside of the batch are duplicates.
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdges(Collections.singletonList(new DefaultEdge<>(2, 1))));
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new DefaultEdge<>(3, 4), new DefaultEdge<>(4, 3))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+        assertFalse(graph.containsEdge(new DefaultEdge<>(3, 4)), "Graph should not contain edge");
+    }
+
+    @Test
+    public void invalidChunkSizeTest() {
+        for (int chunkSize : new int[]{0, -CHUNK_SIZE, CHUNK_SIZE + Integer.BYTES}) {
+            final IllegalArgumentException thrown = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new OffHeapDirectedGraphImpl<Integer>(chunkSize),
+                    "Expected IllegalArgumentException to throw, but it didn't"
+            );
+            assertEquals(MSG_CHUNK_SIZE_IS_INVALID, thrown.getLocalizedMessage());
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.example.graph.impl;
 
+import com.example.graph.IndexedGraph;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_UNIQUE;
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
 import static com.example.graph.AbstractGraph.MSG_LOOPS_NOT_SUPPORTED;
 import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NULL;
 import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
 import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
 import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
 import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -194,4 +199,146 @@ public class SimpleDirectedGraphImplTest {
         assertEquals(Collections.singleton(edge), graph.getOutgoingEdges("A"), "New edge should be registered as outgoing");
         assertEquals(Collections.singleton(edge), graph.getIncomingEdges("B"), "New edge should be registered as incoming");
     }
+
+    @Test
+    public void indexedGraphTest() {
+        final SimpleDirectedGraphImpl<String> graph = new SimpleDirectedGraphImpl<String>(true);
+        assertTrue(graph.isIndexed(), "Graph should be indexed");
+
+        Arrays.asList("A", "B", "C").forEach(graph::addVertex);
+        graph.addVertex("A");
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("C", "B");
+
+        assertEquals(3, graph.vertexCount());
+        assertEquals(0, graph.idOf("A"));
+        assertEquals(1, graph.idOf("B"));
+        assertEquals(2, graph.idOf("C"));
+        assertEquals(IndexedGraph.UNKNOWN_ID, graph.idOf("D"));
+        assertEquals("C", graph.vertexOf(2));
+
+        assertArrayEquals(new int[]{1, 2}, graph.outgoingIds(0));
+        assertArrayEquals(new int[0], graph.outgoingIds(1));
+        assertArrayEquals(new int[]{0, 2}, graph.incomingIds(1));
+        assertEquals(new DefaultEdge<>("C", "B"), graph.outgoingEdge(2, 0));
+        assertEquals(new DefaultEdge<>("A", "C"), graph.incomingEdge(2, 0));
+    }
+
+    @Test
+    public void notIndexedGraphTest() {
+        final SimpleDirectedGraphImpl<String> graph = new SimpleDirectedGraphImpl<String>();
+        graph.addVertex("A");
+        assertFalse(graph.isIndexed(), "Graph should not be indexed");
+        final UnsupportedOperationException thrown = assertThrows(
+                UnsupportedOperationException.class,
+                () -> graph.idOf("A"),
+                "Expected UnsupportedOperationException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_IS_NOT_INDEXED, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void addEdgesTest() {
+        final SimpleDirectedGraphImpl<String> graph = new SimpleDirectedGraphImpl<String>(true);
+        graph.addVertices(Arrays.asList("A", "B", "C", "A"));
+        graph.addEdges(Arrays.asList(
+                new DefaultEdge<>("A", "B"), new DefaultEdge<>("C", "B"), new DefaultEdge<>("A", "C")));
+        graph.addEdges(Stream.of(new DefaultEdge<>("B", "A")));
+
+        assertEquals(3, graph.vertexCount());
+        assertEquals(2, graph.idOf("C"));
+        assertTrue(graph.containsEdge(new DefaultEdge<>("A", "C")), "Graph should contain edge");
+        assertEquals(2, graph.getOutgoingEdges("A").size());
+        assertEquals(2, graph.getIncomingEdges("B").size());
+        assertArrayEquals(new int[]{1, 2}, graph.outgoingIds(0));
+        assertArrayEquals(new int[]{0}, graph.outgoingIds(1));
+
+        // Batch with unknown vertex is rejected before graph is changed.
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new DefaultEdge<>("C", "A"), new DefaultEdge<>("C", "D"))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+        assertFalse(graph.containsEdge(new DefaultEdge<>("C", "A")), "Graph should not contain edge");
+
+        final IllegalArgumentException thrownUnique = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Collections.singletonList(new DefaultEdge<>("A", "B"))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrownUnique.getLocalizedMessage());
+
+        // Duplicate in the middle of the batch is rejected before graph is changed.
+        final IllegalArgumentException thrownBatch = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(
+                        new DefaultEdge<>("C", "A"), new DefaultEdge<>("B", "C"), new DefaultEdge<>("C", "A"))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrownBatch.getLocalizedMessage());
+        assertFalse(graph.containsEdge(new DefaultEdge<>("C", "A")), "Graph should not contain edge");
+        assertEquals(1, graph.getOutgoingEdges("C").size());
+        assertArrayEquals(new int[]{1}, graph.outgoingIds(2));
+
+        // Edges of rejected batch are not left in the graph as duplicates.
+        graph.addEdges(Arrays.asList(new DefaultEdge<>("C", "A"), new DefaultEdge<>("B", "C")));
+        assertTrue(graph.containsEdge(new DefaultEdge<>("B", "C")), "Graph should contain edge");
+        assertEquals(2, graph.getOutgoingEdges("C").size());
+    }
+
+    @Test
+    public void addEdgesHookTest() {
+        final List<String> sources = new ArrayList<>();
+        final SimpleDirectedGraphImpl<String> graph = new SimpleDirectedGraphImpl<String>(true) {
+            @Override
+            protected void createLinksFromVertex(String sourceVertex, List<DefaultEdge<String>> edges) {
+                sources.add(sourceVertex);
+                super.createLinksFromVertex(sourceVertex, edges);
+            }
+        };
+        graph.addVertices(Arrays.asList("A", "B", "C"));
+        graph.addEdges(Arrays.asList(new DefaultEdge<>("A", "B"), new DefaultEdge<>("C", "A"), new DefaultEdge<>("A", "C")));
+
+        // Edges are inserted once per source vertex.
+        assertEquals(Arrays.asList("A", "C"), sources);
+        assertEquals(2, graph.getOutgoingEdges("A").size());
+        assertArrayEquals(new int[]{1, 2}, graph.outgoingIds(0));
+        assertArrayEquals(new int[]{0}, graph.incomingIds(2));
+    }
+
+    @Test
+    public void removeTest() {
+        final SimpleDirectedGraphImpl<String> graph = new SimpleDirectedGraphImpl<String>(true);
+        graph.addVertices(Arrays.asList("A", "B", "C", "D"));
+        graph.addEdges(Arrays.asList(
+                new DefaultEdge<>("A", "B"), new DefaultEdge<>("B", "C"), new DefaultEdge<>("D", "A"), new DefaultEdge<>("C", "D")));
+
+        assertTrue(graph.removeEdge(new DefaultEdge<>("B", "C")), "Edge should be removed");
+        assertFalse(graph.removeEdge(new DefaultEdge<>("B", "C")), "Edge should be already removed");
+        assertFalse(graph.containsEdge(new DefaultEdge<>("B", "C")), "Graph should not contain edge");
+        assertTrue(graph.getOutgoingEdges("B").isEmpty(), "Outgoing edge should be removed");
+        assertTrue(graph.getIncomingEdges("C").isEmpty(), "Incoming edge should be removed");
+        assertEquals(0, graph.outDegree(graph.idOf("B")));
+
+        // Vertex D with the last id takes id of A.
+        assertTrue(graph.removeVertex("A"), "Vertex should be removed");
+        assertFalse(graph.removeVertex("A"), "Vertex should be already removed");
+        assertFalse(graph.containsVertex("A"), "Graph should not contain vertex");
+        assertFalse(graph.containsEdge(new DefaultEdge<>("D", "A")), "Graph should not contain edge");
+        assertTrue(graph.getIncomingEdges("B").isEmpty(), "Edge of removed vertex should be removed");
+        assertTrue(graph.getOutgoingEdges("D").isEmpty(), "Edge of removed vertex should be removed");
+        assertEquals(3, graph.vertexCount());
+        assertEquals(0, graph.idOf("D"));
+        assertEquals("D", graph.vertexOf(0));
+        assertEquals(IndexedGraph.UNKNOWN_ID, graph.idOf("A"));
+        assertArrayEquals(new int[]{0}, graph.outgoingIds(graph.idOf("C")));
+        assertArrayEquals(new int[]{graph.idOf("C")}, graph.incomingIds(0));
+
+        assertTrue(graph.removeEdges(Arrays.asList(new DefaultEdge<>("C", "D"), new DefaultEdge<>("A", "B"))));
+        assertTrue(graph.getOutgoingEdges("C").isEmpty(), "Outgoing edge should be removed");
+        graph.addEdge("C", "D");
+        assertTrue(graph.containsEdge(new DefaultEdge<>("C", "D")), "Edge should be added again");
+    }
 }
@@ -2,6 +2,7 @@ package com.example.graph.impl;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -11,7 +12,9 @@ import static com.example.graph.AbstractGraph.MSG_SOURCE_VERTEX_SHOULD_BE_NON_NU
 import static com.example.graph.AbstractGraph.MSG_TARGET_VERTEX_SHOULD_BE_NON_NULL;
 import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
 import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
 import static com.example.graph.AbstractGraph.MSG_VERTEX_SHOULD_BE_NON_NULL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -155,4 +158,90 @@ public class SimpleUndirectedGraphImplTest {
         );
         assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrownSecond.getLocalizedMessage());
     }
+
+    @Test
+    public void indexedGraphTest() {
+        final SimpleUndirectedGraphImpl<Integer> graph = new SimpleUndirectedGraphImpl<Integer>(true);
+        Arrays.asList(1, 2, 3).forEach(graph::addVertex);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 1);
+
+        assertEquals(3, graph.vertexCount());
+        assertEquals(2, graph.idOf(3));
+        assertArrayEquals(new int[]{1, 2}, graph.outgoingIds(0));
+        assertArrayEquals(new int[]{0}, graph.outgoingIds(2));
+        assertArrayEquals(graph.outgoingIds(2), graph.incomingIds(2));
+        assertEquals(new DefaultEdge<>(3, 1), graph.outgoingEdge(0, 1));
+    }
+
+    @Test
+    public void addEdgesTest() {
+        final SimpleUndirectedGraphImpl<Integer> graph = new SimpleUndirectedGraphImpl<Integer>();
+        graph.addVertices(Arrays.asList(1, 2, 3));
+        graph.addEdges(Arrays.asList(new DefaultEdge<>(1, 2), new DefaultEdge<>(3, 1)));
+
+        assertTrue(graph.containsEdge(new DefaultEdge<>(2, 1)), "Graph should contain opposite edge");
+        assertEquals(2, graph.getOutgoingEdges(1).size());
+
+        // Opposite edge inside of the batch is a duplicate.
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new DefaultEdge<>(2, 3), new DefaultEdge<>(3, 2))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+        assertFalse(graph.containsEdge(new DefaultEdge<>(2, 3)), "Graph should not contain edge");
+    }
+
+    @Test
+    public void removeTest() {
+        final SimpleUndirectedGraphImpl<Integer> graph = new SimpleUndirectedGraphImpl<Integer>(true);
+        graph.addVertices(Arrays.asList(1, 2, 3));
+        graph.addEdges(Arrays.asList(new DefaultEdge<>(1, 2), new DefaultEdge<>(3, 1), new DefaultEdge<>(2, 3)));
+
+        // Edge could be removed in opposite direction.
+        assertTrue(graph.removeEdge(new DefaultEdge<>(2, 1)), "Edge should be removed");
+        assertFalse(graph.containsEdge(new DefaultEdge<>(1, 2)), "Graph should not contain edge");
+        assertEquals(1, graph.getOutgoingEdges(1).size());
+        assertEquals(1, graph.getOutgoingEdges(2).size());
+        assertArrayEquals(new int[]{2}, graph.outgoingIds(0));
+
+        assertTrue(graph.removeVertex(3), "Vertex should be removed");
+        assertTrue(graph.getOutgoingEdges(1).isEmpty(), "Edge of removed vertex should be removed");
+        assertTrue(graph.getOutgoingEdges(2).isEmpty(), "Edge of removed vertex should be removed");
+        assertEquals(2, graph.vertexCount());
+        assertArrayEquals(new int[0], graph.outgoingIds(1));
+    }
+
+    @Test
+    public void forEachNeighborTest() {
+        for (boolean indexed : new boolean[]{false, true}) {
+            final SimpleUndirectedGraphImpl<Integer> graph = new SimpleUndirectedGraphImpl<>(indexed);
+            graph.addVertices(Arrays.asList(1, 2, 3));
+            graph.addEdge(1, 2);
+            graph.addEdge(3, 1);
+
+            final List<Integer> neighbors = new ArrayList<>();
+            final List<DefaultEdge<Integer>> edges = new ArrayList<>();
+            graph.forEachNeighbor(1, (neighbor, edge) -> {
+                neighbors.add(neighbor);
+                edges.add(edge);
+            });
+            neighbors.sort(Integer::compareTo);
+            assertEquals(Arrays.asList(2, 3), neighbors);
+            // Edges are passed as stored, without opposite copies.
+            assertTrue(edges.contains(new DefaultEdge<>(3, 1)), "Edge should be passed as stored");
+
+            final List<Integer> incoming = new ArrayList<>();
+            graph.forEachIncomingNeighbor(2, (neighbor, edge) -> incoming.add(neighbor));
+            assertEquals(Arrays.asList(1), incoming);
+
+            final IllegalArgumentException thrown = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> graph.forEachNeighbor(4, (neighbor, edge) -> { }),
+                    "Expected IllegalArgumentException to throw, but it didn't"
+            );
+            assertEquals(MSG_UNKNOWN_VERTEX, thrown.getLocalizedMessage());
+        }
+    }
 }
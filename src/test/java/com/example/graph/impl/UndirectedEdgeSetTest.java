@@ -0,0 +1,55 @@
+package com.example.graph.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test UndirectedEdgeSet.
+ */
+public class UndirectedEdgeSetTest {
+
+    @Test
+    public void oppositeEdgeIsTheSameTest() {
+        final UndirectedEdgeSet<DefaultEdge<String>> set = new UndirectedEdgeSet<>();
+        final DefaultEdge<String> edge = new DefaultEdge<>("A", "B");
+        assertTrue(set.add(edge), "Edge should be added");
+        assertFalse(set.add(new DefaultEdge<>("B", "A")), "Opposite edge should not be added");
+        assertEquals(1, set.size());
+        assertTrue(set.contains(new DefaultEdge<>("B", "A")), "Set should contain opposite edge");
+        assertSame(edge, set.find(new DefaultEdge<>("B", "A")), "Edge should be stored as added");
+        assertNull(set.find(new DefaultEdge<>("A", "C")));
+        assertFalse(set.contains("A"), "Set should not contain other objects");
+    }
+
+    @Test
+    public void addAndRemoveManyEdgesTest() {
+        final int count = 1000;
+        final UndirectedEdgeSet<DefaultEdge<Integer>> set = new UndirectedEdgeSet<>();
+        final Set<DefaultEdge<Integer>> expected = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            final DefaultEdge<Integer> edge = new DefaultEdge<>(i, i % 7);
+            set.add(edge);
+            expected.add(edge);
+        }
+        assertEquals(expected, set);
+
+        // Remove every second edge using opposite direction.
+        for (int i = 0; i < count; i += 2) {
+            assertTrue(set.remove(new DefaultEdge<>(i % 7, i)), "Edge should be removed");
+            expected.remove(new DefaultEdge<>(i, i % 7));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 1, set.contains(new DefaultEdge<>(i, i % 7)));
+        }
+        assertEquals(expected, new HashSet<>(set));
+    }
+}
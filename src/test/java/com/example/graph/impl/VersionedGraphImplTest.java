@@ -0,0 +1,202 @@
+package com.example.graph.impl;
+
+import com.example.traversal.impl.SimpleDFSTraversalServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.graph.AbstractGraph.MSG_EDGE_SHOULD_BE_UNIQUE;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test snapshots of VersionedDirectedGraphImpl and VersionedUndirectedGraphImpl.
+ */
+public class VersionedGraphImplTest {
+
+    @Test
+    public void snapshotIsolationTest() {
+        final VersionedDirectedGraphImpl<String> graph = new VersionedDirectedGraphImpl<>();
+        Arrays.asList("A", "B", "C").forEach(graph::addVertex);
+        graph.addEdge("A", "B");
+        final GraphSnapshot<String, DefaultEdge<String>> first = graph.snapshot();
+
+        graph.addVertex("D");
+        graph.addEdge("A", "C");
+        graph.addEdge("C", "D");
+        final GraphSnapshot<String, DefaultEdge<String>> second = graph.snapshot();
+
+        assertEquals(4, first.getEpoch());
+        assertEquals(7, second.getEpoch());
+        assertEquals(new HashSet<>(Arrays.asList("A", "B", "C")), first.getVertices());
+        assertFalse(first.containsVertex("D"), "Old snapshot should not contain new vertex");
+        assertFalse(first.containsEdge(new DefaultEdge<>("A", "C")), "Old snapshot should not contain new edge");
+        assertEquals(Collections.singleton(new DefaultEdge<>("A", "B")), first.getOutgoingEdges("A"));
+        assertEquals(2, second.getOutgoingEdges("A").size());
+        assertEquals(Collections.singleton(new DefaultEdge<>("C", "D")), second.getIncomingEdges("D"));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> first.getOutgoingEdges("D"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void undirectedGraphTest() {
+        final VersionedUndirectedGraphImpl<Integer> graph = new VersionedUndirectedGraphImpl<>();
+        Arrays.asList(1, 2, 3).forEach(graph::addVertex);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 2);
+
+        assertTrue(graph.containsEdge(new DefaultEdge<>(2, 1)), "Graph should contain opposite edge");
+        assertEquals(2, graph.getOutgoingEdges(2).size());
+        assertEquals(graph.getOutgoingEdges(2), graph.getIncomingEdges(2));
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdge(2, 3),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void traverseSnapshotWhileWritingTest() throws InterruptedException {
+        final int count = 2000;
+        final VersionedDirectedGraphImpl<Integer> graph = new VersionedDirectedGraphImpl<>();
+        for (int i = 0; i < count; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < count / 2; i++) {
+            graph.addEdge(i, i + 1);
+        }
+        final GraphSnapshot<Integer, DefaultEdge<Integer>> snapshot = graph.snapshot();
+
+        // Writer continues the chain while reader traverses the snapshot.
+        final AtomicBoolean failed = new AtomicBoolean();
+        final Thread writer = new Thread(() -> {
+            try {
+                for (int i = count / 2; i < count - 1; i++) {
+                    graph.addEdge(i, i + 1);
+                }
+            } catch (RuntimeException e) {
+                failed.set(true);
+            }
+        });
+        writer.start();
+        final SimpleDFSTraversalServiceImpl<Integer, DefaultEdge<Integer>> service = new SimpleDFSTraversalServiceImpl<>();
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertEquals(count / 2, service.getPath(snapshot, 0, count / 2).size());
+            assertTrue(service.getPath(snapshot, 0, count - 1).isEmpty(), "Snapshot path should not change");
+        }
+        writer.join();
+
+        assertFalse(failed.get(), "Writer should not fail");
+        final List<DefaultEdge<Integer>> path = service.getPath(graph.snapshot(), 0, count - 1);
+        assertEquals(count - 1, path.size());
+    }
+
+    @Test
+    public void addEdgeWhileRemovingVertexTest() throws InterruptedException {
+        final int rounds = 2000;
+        final VersionedUndirectedGraphImpl<Integer> graph = new VersionedUndirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList(0, 1, 2));
+
+        // Remover takes vertex 1 away and puts it back, adder connects it, ends are checked under the writer lock.
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread remover = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                graph.removeVertex(1);
+                graph.addVertex(1);
+            }
+        });
+        final Thread adder = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                try {
+                    if (i % 2 == 0) {
+                        graph.addEdge(0, 1);
+                    } else {
+                        graph.addEdges(Collections.singletonList(new DefaultEdge<>(2, 1)));
+                    }
+                } catch (IllegalArgumentException e) {
+                    if (!MSG_UNKNOWN_TARGET_VERTEX.equals(e.getMessage()) && !MSG_EDGE_SHOULD_BE_UNIQUE.equals(e.getMessage())) {
+                        failure.set(e);
+                    }
+                } catch (RuntimeException e) {
+                    failure.set(e);
+                }
+            }
+        });
+        remover.start();
+        adder.start();
+        remover.join();
+        adder.join();
+
+        assertNull(failure.get(), "Adder should get only IllegalArgumentException");
+    }
+
+    @Test
+    public void addEdgesTest() {
+        final VersionedDirectedGraphImpl<String> graph = new VersionedDirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B", "C", "B"));
+        graph.addEdges(Arrays.asList(new DefaultEdge<>("A", "B"), new DefaultEdge<>("B", "C")));
+        assertEquals(2, graph.getEpoch(), "Each batch should be published as one epoch");
+        assertEquals(3, graph.vertexCount());
+
+        // Failed batch is not applied at all.
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> graph.addEdges(Arrays.asList(new DefaultEdge<>("C", "A"), new DefaultEdge<>("A", "B"))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_EDGE_SHOULD_BE_UNIQUE, thrown.getLocalizedMessage());
+        assertEquals(2, graph.getEpoch());
+        assertFalse(graph.containsEdge(new DefaultEdge<>("C", "A")), "Graph should not contain edge");
+        graph.addEdge("C", "A");
+        assertEquals(Collections.singleton(new DefaultEdge<>("C", "A")), graph.getOutgoingEdges("C"));
+    }
+
+    @Test
+    public void removeTest() {
+        final VersionedUndirectedGraphImpl<String> graph = new VersionedUndirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList("A", "B", "C", "D"));
+        graph.addEdges(Arrays.asList(
+                new DefaultEdge<>("A", "B"), new DefaultEdge<>("B", "C"), new DefaultEdge<>("D", "A"), new DefaultEdge<>("D", "C")));
+        final GraphSnapshot<String, DefaultEdge<String>> before = graph.snapshot();
+
+        assertTrue(graph.removeEdge(new DefaultEdge<>("C", "B")), "Edge should be removed");
+        assertFalse(graph.removeEdge(new DefaultEdge<>("C", "B")), "Edge should be already removed");
+        assertTrue(graph.removeVertex("A"), "Vertex should be removed");
+
+        // Old snapshot is not changed.
+        assertEquals(4, before.vertexCount());
+        assertTrue(before.containsEdge(new DefaultEdge<>("B", "C")), "Old snapshot should contain edge");
+        assertEquals(2, before.getOutgoingEdges("A").size());
+        assertEquals(3, before.idOf("D"));
+
+        assertFalse(graph.containsVertex("A"), "Graph should not contain vertex");
+        assertEquals(3, graph.vertexCount());
+        assertEquals(0, graph.idOf("D"));
+        assertEquals(Collections.singleton(new DefaultEdge<>("D", "C")), graph.getOutgoingEdges("D"));
+        assertEquals(0, graph.outgoingId(graph.idOf("C"), 0));
+        assertTrue(graph.getOutgoingEdges("B").isEmpty(), "Edge of removed vertex should be removed");
+
+        graph.addVertex("E");
+        graph.addEdge("E", "D");
+        assertEquals(3, graph.idOf("E"));
+        assertEquals(2, graph.getOutgoingEdges("D").size());
+        assertTrue(graph.removeEdges(Arrays.asList(new DefaultEdge<>("C", "D"), new DefaultEdge<>("D", "E"))));
+        assertTrue(graph.getOutgoingEdges("D").isEmpty(), "Edges should be removed");
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.traversal.WeightedPath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.example.traversal.impl.LandmarkHeuristic.MSG_GRAPH_DOES_NOT_MATCH;
+import static com.example.traversal.impl.LandmarkHeuristic.MSG_LANDMARK_COUNT_SHOULD_BE_POSITIVE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AStarTraversalServiceImpl and LandmarkHeuristic tests on weighted graphs.
+ */
+public class AStarTraversalServiceImplTest {
+    private static final int VERTEX_COUNT = 60;
+    private static final int EDGE_COUNT = 200;
+    private static final int LANDMARK_COUNT = 4;
+    private static final int GRID_SIZE = 10;
+    private static final double DELTA = 1e-9;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void gridWithDistanceHeuristicTest() {
+        // Vertex id is row * GRID_SIZE + column, edges have weight 1.
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(false);
+        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
+            graph.addVertex(i);
+        }
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                final int id = row * GRID_SIZE + column;
+                if (column + 1 < GRID_SIZE) {
+                    graph.addEdge(new DefaultWeightedEdge<>(id, id + 1, 1));
+                }
+                if (row + 1 < GRID_SIZE) {
+                    graph.addEdge(new DefaultWeightedEdge<>(id, id + GRID_SIZE, 1));
+                }
+            }
+        }
+
+        final AStarTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service = new AStarTraversalServiceImpl<>(
+                (vertex, target) -> Math.abs(vertex / GRID_SIZE - target / GRID_SIZE) + Math.abs(vertex % GRID_SIZE - target % GRID_SIZE)
+        );
+        // Search state of the mutable graph grows with reached vertices, the frozen graph is searched by ids.
+        for (Graph<Integer, DefaultWeightedEdge<Integer>> searched : Arrays.asList(graph, CsrGraph.of(graph))) {
+            final WeightedPath<DefaultWeightedEdge<Integer>> path = service.getWeightedPath(searched, 0, GRID_SIZE * GRID_SIZE - 1);
+            assertEquals(2 * (GRID_SIZE - 1), path.getWeight(), DELTA);
+            assertEquals(2 * (GRID_SIZE - 1), path.getEdges().size());
+            assertEquals(Integer.valueOf(GRID_SIZE * GRID_SIZE - 1), path.getEdges().get(path.getEdges().size() - 1).getTarget());
+        }
+    }
+
+    @Test
+    public void landmarksTest() {
+        for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+            final double[][] distances = WeightedGraphs.distances(graph);
+            final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+            final LandmarkHeuristic<Integer> landmarks = LandmarkHeuristic.build(frozen, LANDMARK_COUNT);
+            assertEquals(LANDMARK_COUNT, landmarks.getLandmarks().size());
+
+            final AStarTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service = new AStarTraversalServiceImpl<>(landmarks);
+            for (int source = 0; source < VERTEX_COUNT; source++) {
+                for (int target = 0; target < VERTEX_COUNT; target++) {
+                    assertTrue(landmarks.estimate(source, target) <= distances[source][target] + DELTA, "Estimate should be admissible");
+                    assertEquals(distances[source][target], service.getWeightedPath(frozen, source, target).getWeight(), DELTA);
+                    assertEquals(distances[source][target], service.getWeightedPath(graph, source, target).getWeight(), DELTA);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void changedGraphTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(2, VERTEX_COUNT, EDGE_COUNT, true, true);
+        final LandmarkHeuristic<Integer> landmarks = LandmarkHeuristic.build(graph, LANDMARK_COUNT);
+        assertFalse(landmarks.isBuiltFor(graph), "Ids of mutable graph should not be used");
+        // Removal moves the last vertex into the hole in the indexed graph, so live ids would point to other vertices.
+        for (int vertex = 1; vertex < VERTEX_COUNT; vertex += 3) {
+            graph.removeVertex(vertex);
+        }
+        graph.addVertex(VERTEX_COUNT);
+        graph.addEdge(new DefaultWeightedEdge<>(0, VERTEX_COUNT, 1));
+        assertEquals(0, landmarks.estimate(Integer.valueOf(0), Integer.valueOf(VERTEX_COUNT)), DELTA);
+
+        final DijkstraTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> dijkstra = new DijkstraTraversalServiceImpl<>();
+        final AStarTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service = new AStarTraversalServiceImpl<>(landmarks);
+        for (Integer source : graph.getVertices()) {
+            for (Integer target : graph.getVertices()) {
+                assertEquals(dijkstra.getWeightedPath(graph, source, target).getWeight(), service.getWeightedPath(graph, source, target).getWeight(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void writeAndReadTest() throws IOException {
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph = CsrGraph.of(WeightedGraphs.random(3, VERTEX_COUNT, EDGE_COUNT, true));
+        final LandmarkHeuristic<Integer> landmarks = LandmarkHeuristic.build(graph, LANDMARK_COUNT);
+        final Path file = tempDir.resolve("landmarks.bin");
+        landmarks.write(file);
+
+        final LandmarkHeuristic<Integer> read = LandmarkHeuristic.read(file, graph);
+        assertEquals(landmarks.getLandmarks(), read.getLandmarks());
+        for (int source = 0; source < VERTEX_COUNT; source++) {
+            for (int target = 0; target < VERTEX_COUNT; target++) {
+                assertEquals(landmarks.estimate(source, target), read.estimate(source, target), DELTA);
+            }
+        }
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> LandmarkHeuristic.read(file, CsrGraph.of(WeightedGraphs.random(3, VERTEX_COUNT, EDGE_COUNT, false))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_DOES_NOT_MATCH, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void landmarkCountTest() {
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> LandmarkHeuristic.build(WeightedGraphs.create(true), 0),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_LANDMARK_COUNT_SHOULD_BE_POSITIVE, thrown.getLocalizedMessage());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.traversal.impl.AllPairsShortestPaths.MSG_ROWS_OUT_OF_RANGE;
+import static com.example.traversal.impl.AllPairsShortestPaths.MSG_TILE_SIZE_SHOULD_BE_POSITIVE;
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AllPairsShortestPaths tests on random directed and undirected weighted graphs.
+ */
+public class AllPairsShortestPathsTest {
+    private static final int VERTEX_COUNT = 150;
+    private static final int EDGE_COUNT = 600;
+    private static final int DENSE_EDGE_COUNT = 6000;
+    private static final int POOL_SIZE = 4;
+    // Not a divisor of vertex count, so the last tiles are partial.
+    private static final int TILE_SIZE = 16;
+    private static final int FIRST_ROW = 37;
+    private static final int ROW_COUNT = 20;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void randomGraphTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            final AllPairsShortestPaths paths = new AllPairsShortestPaths(pool, TILE_SIZE);
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT, DENSE_EDGE_COUNT)) {
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                final float[] expected = expected(frozen, WeightedGraphs.distances(graph));
+                assertArrayEquals(expected, paths.floydWarshall(frozen));
+                assertArrayEquals(expected, paths.dijkstra(frozen));
+                assertArrayEquals(expected, paths.distances(frozen));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void weightColumnTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                final EdgeColumns<DefaultWeightedEdge<Integer>> columns = WeightedGraphs.doubledWeights(frozen);
+                final AllPairsShortestPaths paths = new AllPairsShortestPaths(pool, TILE_SIZE, columns);
+                final float[] expected = expected(frozen, WeightedGraphs.distances(graph));
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] *= 2;
+                }
+                assertArrayEquals(expected, paths.floydWarshall(frozen));
+                assertArrayEquals(expected, paths.dijkstra(frozen));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void hopCountsTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph = CsrGraph.of(WeightedGraphs.random(2, VERTEX_COUNT, EDGE_COUNT, directed));
+            final int[] hopCounts = new AllPairsShortestPaths().hopCounts(graph);
+            final DirectionOptimizingBfs bfs = new DirectionOptimizingBfs();
+            for (int source = 0; source < VERTEX_COUNT; source++) {
+                assertArrayEquals(
+                        bfs.distances(graph, graph.vertexOf(source)),
+                        Arrays.copyOfRange(hopCounts, source * VERTEX_COUNT, (source + 1) * VERTEX_COUNT)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void writeTest() throws IOException {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(4, VERTEX_COUNT, EDGE_COUNT, true);
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+        final float[] expected = expected(frozen, WeightedGraphs.distances(graph));
+        final Path file = tempDir.resolve("distances.bin");
+        new AllPairsShortestPaths(ForkJoinPool.commonPool(), TILE_SIZE).write(frozen, file);
+
+        assertArrayEquals(expected, AllPairsShortestPaths.readRows(file, 0, VERTEX_COUNT));
+        assertArrayEquals(
+                Arrays.copyOfRange(expected, FIRST_ROW * VERTEX_COUNT, (FIRST_ROW + ROW_COUNT) * VERTEX_COUNT),
+                AllPairsShortestPaths.readRows(file, FIRST_ROW, ROW_COUNT)
+        );
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> AllPairsShortestPaths.readRows(file, VERTEX_COUNT - 1, 2),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_ROWS_OUT_OF_RANGE, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void wrongArgumentsTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, -1));
+        final AllPairsShortestPaths paths = new AllPairsShortestPaths();
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> new AllPairsShortestPaths(ForkJoinPool.commonPool(), 0),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_TILE_SIZE_SHOULD_BE_POSITIVE, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.distances(graph),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_IS_NOT_INDEXED, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.floydWarshall(CsrGraph.of(graph)),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_NEGATIVE_WEIGHT, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.dijkstra(CsrGraph.of(graph)),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_NEGATIVE_WEIGHT, thrown.getLocalizedMessage());
+    }
+
+    /**
+     * Expected matrix by vertex ids of frozen graph.
+     */
+    private static float[] expected(CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph, double[][] distances) {
+        final float[] result = new float[VERTEX_COUNT * VERTEX_COUNT];
+        for (int source = 0; source < VERTEX_COUNT; source++) {
+            for (int target = 0; target < VERTEX_COUNT; target++) {
+                result[source * VERTEX_COUNT + target] = (float) distances[graph.vertexOf(source)][graph.vertexOf(target)];
+            }
+        }
+        return result;
+    }
+}
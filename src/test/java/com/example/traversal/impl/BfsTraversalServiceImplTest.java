@@ -0,0 +1,162 @@
+package com.example.traversal.impl;
+
+import com.example.data.DirectedStringGraphs;
+import com.example.data.UndirectedStringGraphs;
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultEdge;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.traversal.impl.SimpleDFSTraversalServiceImplTest.parseIntegerNodes;
+import static com.example.traversal.impl.SimpleDFSTraversalServiceImplTest.parseStringNodes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BfsTraversalServiceImpl tests on directed and undirected graphs.
+ * Each graph is checked as is and as indexed CsrGraph.
+ */
+public class BfsTraversalServiceImplTest {
+
+    private BfsTraversalServiceImpl<String, DefaultEdge<String>> serviceForTestingStringDirectedGraph = new BfsTraversalServiceImpl<>();
+    private BfsTraversalServiceImpl<Integer, DefaultEdge<Integer>> serviceForTestingIntegerUndirectedGraph = new BfsTraversalServiceImpl<>();
+
+    @ParameterizedTest
+    @MethodSource("dataProviderDirectedGraphs")
+    public void directedGraphGetPathTest(final String caseName,
+                                         final Graph<String, DefaultEdge<String>> graph,
+                                         final String source,
+                                         final String target,
+                                         final List<List<DefaultEdge<String>>> shortestPaths) {
+        checkPath(shortestPaths, serviceForTestingStringDirectedGraph.getPath(graph, source, target));
+        checkPath(shortestPaths, serviceForTestingStringDirectedGraph.getPath(CsrGraph.of(graph), source, target));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dataProviderUndirectedGraphs")
+    public void undirectedGraphGetPathTest(final String caseName,
+                                           final Graph<Integer, DefaultEdge<Integer>> graph,
+                                           final Integer source,
+                                           final Integer target,
+                                           final List<List<DefaultEdge<Integer>>> shortestPaths) {
+        checkPath(shortestPaths, serviceForTestingIntegerUndirectedGraph.getPath(graph, source, target));
+        checkPath(shortestPaths, serviceForTestingIntegerUndirectedGraph.getPath(CsrGraph.of(graph), source, target));
+    }
+
+    @Test
+    public void getPathUnknownNodesTest() {
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> serviceForTestingStringDirectedGraph.getPath(DirectedStringGraphs.ONE_VERTEX, "B", "A"),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_SOURCE_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    static <V> void checkPath(List<List<DefaultEdge<V>>> shortestPaths, List<DefaultEdge<V>> path) {
+        if (shortestPaths.isEmpty()) {
+            assertTrue(path.isEmpty(), "Empty result expected, but found: " + path);
+        } else {
+            assertTrue(shortestPaths.contains(path), "Not found one of shortest paths: " + path);
+        }
+    }
+
+    /**
+     * Data provider for String directed graph testing.
+     */
+    static Stream<Arguments> dataProviderDirectedGraphs() {
+        return Stream.of(
+                Arguments.of("1", DirectedStringGraphs.ONE_VERTEX, "A", "A", Collections.emptyList()),
+                Arguments.of("2", DirectedStringGraphs.TWO_VERTEX_NOT_CONNECTED, "A", "B", Collections.emptyList()),
+                Arguments.of(
+                        "3",
+                        DirectedStringGraphs.LOOP,
+                        "C",
+                        "A",
+                        Collections.singletonList(parseStringNodes("C-D;D-E;E-A"))
+                ),
+                Arguments.of(
+                        "4",
+                        DirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS,
+                        "A",
+                        "F",
+                        Arrays.asList(
+                                parseStringNodes("A-B;B-D;D-E;E-F"),
+                                parseStringNodes("A-B;B-O;O-E;E-F"),
+                                parseStringNodes("A-B;B-C;C-E;E-F")
+                        )
+                ),
+                Arguments.of("5", DirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS, "A", "Single", Collections.emptyList()),
+                Arguments.of(
+                        "6",
+                        DirectedStringGraphs.GRAPH_WITH_THREE_DIFFERENT_PATHS,
+                        "A",
+                        "F",
+                        Collections.singletonList(parseStringNodes("A-B;B-E;E-F"))
+                ),
+                Arguments.of(
+                        "7",
+                        DirectedStringGraphs.NOT_CONNECTED,
+                        "F",
+                        "D",
+                        Collections.singletonList(parseStringNodes("F-E;E-D"))
+                ),
+                Arguments.of("8", DirectedStringGraphs.NOT_CONNECTED, "A", "C", Collections.emptyList())
+        );
+    }
+
+    /**
+     * Data provider for Integer undirected graph testing.
+     */
+    static Stream<Arguments> dataProviderUndirectedGraphs() {
+        return Stream.of(
+                Arguments.of("1", UndirectedStringGraphs.TWO_VERTEX_NOT_CONNECTED, 1, 2, Collections.emptyList()),
+                Arguments.of(
+                        "2",
+                        UndirectedStringGraphs.TWO_VERTEX_CONNECTED,
+                        2,
+                        1,
+                        Collections.singletonList(parseIntegerNodes("2-1"))
+                ),
+                Arguments.of(
+                        "3",
+                        UndirectedStringGraphs.LOOP,
+                        1,
+                        5,
+                        Collections.singletonList(parseIntegerNodes("1-5"))
+                ),
+                Arguments.of(
+                        "4",
+                        UndirectedStringGraphs.LOOP,
+                        3,
+                        1,
+                        Collections.singletonList(parseIntegerNodes("3-2;2-1"))
+                ),
+                Arguments.of(
+                        "5",
+                        UndirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS,
+                        1,
+                        8,
+                        Collections.singletonList(parseIntegerNodes("1-2;2-3;3-7;7-8"))
+                ),
+                Arguments.of("6", UndirectedStringGraphs.GRAPH_WITH_THREE_SAME_PATHS, 1, 6, Collections.emptyList()),
+                Arguments.of(
+                        "7",
+                        UndirectedStringGraphs.NOT_CONNECTED,
+                        1,
+                        3,
+                        Collections.singletonList(parseIntegerNodes("1-3"))
+                )
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.traversal.impl;
+
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultEdge;
+import com.example.graph.impl.SimpleDirectedGraphImpl;
+import com.example.graph.impl.SimpleUndirectedGraphImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.traversal.impl.BfsTraversalServiceImplTest.checkPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * BidirectionalTraversalServiceImpl tests on directed and undirected graphs.
+ * Paths should have the same length as paths of BfsTraversalServiceImpl.
+ */
+public class BidirectionalTraversalServiceImplTest {
+    private static final int VERTEX_COUNT = 200;
+    private static final int EDGE_COUNT = 400;
+
+    private BidirectionalTraversalServiceImpl<String, DefaultEdge<String>> serviceForTestingStringDirectedGraph = new BidirectionalTraversalServiceImpl<>();
+    private BidirectionalTraversalServiceImpl<Integer, DefaultEdge<Integer>> serviceForTestingIntegerUndirectedGraph = new BidirectionalTraversalServiceImpl<>();
+
+    @ParameterizedTest
+    @MethodSource("com.example.traversal.impl.BfsTraversalServiceImplTest#dataProviderDirectedGraphs")
+    public void directedGraphGetPathTest(final String caseName,
+                                         final Graph<String, DefaultEdge<String>> graph,
+                                         final String source,
+                                         final String target,
+                                         final List<List<DefaultEdge<String>>> shortestPaths) {
+        checkPath(shortestPaths, serviceForTestingStringDirectedGraph.getPath(graph, source, target));
+        checkPath(shortestPaths, serviceForTestingStringDirectedGraph.getPath(CsrGraph.of(graph), source, target));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.example.traversal.impl.BfsTraversalServiceImplTest#dataProviderUndirectedGraphs")
+    public void undirectedGraphGetPathTest(final String caseName,
+                                           final Graph<Integer, DefaultEdge<Integer>> graph,
+                                           final Integer source,
+                                           final Integer target,
+                                           final List<List<DefaultEdge<Integer>>> shortestPaths) {
+        checkPath(shortestPaths, serviceForTestingIntegerUndirectedGraph.getPath(graph, source, target));
+        checkPath(shortestPaths, serviceForTestingIntegerUndirectedGraph.getPath(CsrGraph.of(graph), source, target));
+    }
+
+    @Test
+    public void randomGraphTest() {
+        final Random random = new Random(1);
+        final SimpleDirectedGraphImpl<Integer> directed = new SimpleDirectedGraphImpl<>();
+        final SimpleUndirectedGraphImpl<Integer> undirected = new SimpleUndirectedGraphImpl<>();
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            directed.addVertex(i);
+            undirected.addVertex(i);
+        }
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            final DefaultEdge<Integer> edge = new DefaultEdge<>(random.nextInt(VERTEX_COUNT), random.nextInt(VERTEX_COUNT));
+            if (!edge.getSource().equals(edge.getTarget()) && !undirected.containsEdge(edge)) {
+                directed.addEdge(edge);
+                undirected.addEdge(edge);
+            }
+        }
+
+        final BfsTraversalServiceImpl<Integer, DefaultEdge<Integer>> bfs = new BfsTraversalServiceImpl<>();
+        // Graphs without ids are searched by vertices and their snapshots by ids.
+        final List<Graph<Integer, DefaultEdge<Integer>>> graphs =
+                Arrays.asList(directed, undirected, CsrGraph.of(directed), CsrGraph.of(undirected));
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            final int source = random.nextInt(VERTEX_COUNT);
+            final int target = random.nextInt(VERTEX_COUNT);
+            for (Graph<Integer, DefaultEdge<Integer>> graph : graphs) {
+                final List<DefaultEdge<Integer>> path = serviceForTestingIntegerUndirectedGraph.getPath(graph, source, target);
+                assertEquals(bfs.getPath(graph, source, target).size(), path.size());
+                Integer vertex = source;
+                for (DefaultEdge<Integer> edge : path) {
+                    assertEquals(vertex, edge.getSource());
+                    vertex = edge.getTarget();
+                }
+                assertEquals(path.isEmpty() ? Integer.valueOf(source) : Integer.valueOf(target), vertex);
+            }
+        }
+    }
+}
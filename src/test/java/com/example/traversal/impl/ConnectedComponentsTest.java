@@ -0,0 +1,147 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.SimpleDirectedGraphImpl;
+import com.example.graph.impl.SimpleUndirectedGraphImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_VERTEX;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConnectedComponents tests on random directed and undirected graphs.
+ */
+public class ConnectedComponentsTest {
+    private static final int VERTEX_COUNT = 2000;
+    private static final int[] EDGE_COUNTS = {500, 1000, 2000, 4000};
+    private static final int POOL_SIZE = 4;
+
+    @Test
+    public void randomGraphTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNTS)) {
+                final ConnectedComponents<Integer> components = ConnectedComponents.build(graph, pool);
+                final int[] expected = expected(graph);
+                final int[] sizes = new int[components.getCount()];
+                for (int vertex = 0; vertex < VERTEX_COUNT; vertex++) {
+                    final int component = components.componentOf(vertex);
+                    sizes[component]++;
+                    // With the same count of components it means the same partition.
+                    assertEquals(components.componentOf(expected[vertex]), component);
+                }
+                assertEquals((int) Arrays.stream(expected).distinct().count(), components.getCount());
+                assertArrayEquals(sizes, components.getSizes());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void indexedGraphTest() {
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph = CsrGraph.of(WeightedGraphs.random(1, VERTEX_COUNT, VERTEX_COUNT, false));
+        final ConnectedComponents<Integer> components = ConnectedComponents.build(graph);
+        assertTrue(components.isBuiltFor(graph), "Components should be found for the graph");
+        final int[] byId = components.getComponents();
+        for (int id = 0; id < VERTEX_COUNT; id++) {
+            assertEquals(components.componentOf(graph.vertexOf(id)), byId[id]);
+        }
+    }
+
+    @Test
+    public void changedGraphTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(1, VERTEX_COUNT, VERTEX_COUNT, false, true);
+        final int[] expected = expected(graph);
+        final ConnectedComponents<Integer> components = ConnectedComponents.build(graph);
+        // Removal moves the last vertex into the hole in the indexed graph, so live ids would point to other vertices.
+        for (int vertex = 0; vertex < VERTEX_COUNT; vertex += 2) {
+            graph.removeVertex(vertex);
+        }
+        graph.addVertex(VERTEX_COUNT);
+
+        assertTrue(components.isBuiltFor(graph), "Components should be found for the graph");
+        for (int vertex = 0; vertex < VERTEX_COUNT; vertex++) {
+            assertEquals(components.componentOf(expected[vertex]), components.componentOf(vertex));
+        }
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> components.componentOf(VERTEX_COUNT),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void weaklyConnectedTest() {
+        final SimpleDirectedGraphImpl<Integer> graph = new SimpleDirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList(1, 2, 3, 4, 5));
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 2);
+        graph.addEdge(5, 4);
+
+        final ConnectedComponents<Integer> components = ConnectedComponents.build(graph);
+        assertEquals(2, components.getCount());
+        assertTrue(components.isConnected(1, 3), "Edge directions should be ignored");
+        assertFalse(components.isConnected(1, 4), "Components should not be connected");
+
+        final SimpleUndirectedGraphImpl<Integer> undirected = new SimpleUndirectedGraphImpl<>();
+        undirected.addVertices(Arrays.asList(1, 2, 3));
+        undirected.addEdge(2, 1);
+        assertArrayEquals(new int[]{2, 1}, ConnectedComponents.build(undirected).getSizes());
+    }
+
+    @Test
+    public void unknownVertexTest() {
+        final SimpleDirectedGraphImpl<Integer> graph = new SimpleDirectedGraphImpl<>();
+        graph.addVertex(1);
+        final ConnectedComponents<Integer> components = ConnectedComponents.build(graph);
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> components.componentOf(2),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    /**
+     * The smallest vertex of component of each vertex by sequential union-find, edge directions are ignored.
+     */
+    private static int[] expected(AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph) {
+        final int[] parents = new int[VERTEX_COUNT];
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            parents[i] = i;
+        }
+        for (int vertex = 0; vertex < VERTEX_COUNT; vertex++) {
+            for (DefaultWeightedEdge<Integer> edge : graph.getOutgoingEdges(vertex)) {
+                final int first = root(parents, edge.getSource());
+                final int second = root(parents, edge.getTarget());
+                parents[Math.max(first, second)] = Math.min(first, second);
+            }
+        }
+        final int[] result = new int[VERTEX_COUNT];
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            result[i] = root(parents, i);
+        }
+        return result;
+    }
+
+    private static int root(int[] parents, int vertex) {
+        int result = vertex;
+        while (parents[result] != result) {
+            result = parents[result];
+        }
+        return result;
+    }
+}
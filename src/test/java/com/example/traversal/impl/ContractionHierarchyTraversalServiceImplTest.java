@@ -0,0 +1,200 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import com.example.traversal.WeightedPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.traversal.impl.ContractionHierarchy.MSG_GRAPH_DOES_NOT_MATCH;
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ContractionHierarchyTraversalServiceImpl tests on directed and undirected weighted graphs.
+ */
+public class ContractionHierarchyTraversalServiceImplTest {
+    private static final int VERTEX_COUNT = 80;
+    private static final int EDGE_COUNT = 240;
+    private static final int GRID_SIZE = 12;
+    private static final int POOL_SIZE = 4;
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void lighterLongerPathTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2, 3, 4));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, 1));
+        graph.addEdge(new DefaultWeightedEdge<>(2, 3, 1.5));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 3, 5));
+        final ContractionHierarchyTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service =
+                new ContractionHierarchyTraversalServiceImpl<>(graph);
+
+        final WeightedPath<DefaultWeightedEdge<Integer>> path = service.getWeightedPath(graph, 1, 3);
+        assertEquals(Arrays.asList(new DefaultWeightedEdge<>(1, 2), new DefaultWeightedEdge<>(2, 3)), path.getEdges());
+        assertEquals(2.5, path.getWeight(), DELTA);
+        assertEquals(path.getEdges(), service.getPath(graph, 1, 3));
+
+        assertEquals(0, service.getWeightedPath(graph, 1, 1).getWeight(), DELTA);
+        assertFalse(service.getWeightedPath(graph, 3, 1).isFound(), "Path should not be found");
+        assertEquals(Collections.emptyList(), service.getPath(graph, 1, 4));
+    }
+
+    @Test
+    public void randomGraphTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+                final double[][] distances = WeightedGraphs.distances(graph);
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                checkAllPaths(graph, ContractionHierarchy.build(graph, pool), distances);
+                checkAllPaths(frozen, ContractionHierarchy.build(frozen, pool), distances);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void weightColumnTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+                final double[][] distances = WeightedGraphs.distances(graph);
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                final EdgeColumns<DefaultWeightedEdge<Integer>> columns = WeightedGraphs.doubledWeights(frozen);
+                final ContractionHierarchy<Integer, DefaultWeightedEdge<Integer>> hierarchy = ContractionHierarchy.build(frozen, pool, columns);
+                for (int source = 0; source < VERTEX_COUNT; source++) {
+                    for (int target = 0; target < VERTEX_COUNT; target++) {
+                        final WeightedPath<DefaultWeightedEdge<Integer>> path = hierarchy.findPath(source, target);
+                        assertEquals(2 * distances[source][target], path.getWeight(), DELTA);
+                        // Edges of the path keep their own weights.
+                        double weight = 0;
+                        for (DefaultWeightedEdge<Integer> edge : path.getEdges()) {
+                            weight += edge.getWeight();
+                        }
+                        if (path.isFound()) {
+                            assertEquals(distances[source][target], weight, DELTA);
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void gridTest() {
+        // Grid has many equal paths, so witness searches and shortcuts of one round meet often.
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(false);
+        for (int i = 0; i < GRID_SIZE * GRID_SIZE; i++) {
+            graph.addVertex(i);
+        }
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                final int vertex = row * GRID_SIZE + column;
+                if (column + 1 < GRID_SIZE) {
+                    graph.addEdge(new DefaultWeightedEdge<>(vertex, vertex + 1, 1));
+                }
+                if (row + 1 < GRID_SIZE) {
+                    graph.addEdge(new DefaultWeightedEdge<>(vertex, vertex + GRID_SIZE, 1));
+                }
+            }
+        }
+        final ContractionHierarchy<Integer, DefaultWeightedEdge<Integer>> hierarchy = ContractionHierarchy.build(graph);
+        assertTrue(hierarchy.getShortcutCount() > 0, "Grid should need shortcuts");
+        checkAllPaths(graph, hierarchy, WeightedGraphs.distances(graph));
+    }
+
+    @Test
+    public void anotherGraphTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(1, VERTEX_COUNT, EDGE_COUNT, true);
+        final ContractionHierarchyTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service =
+                new ContractionHierarchyTraversalServiceImpl<>(graph);
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getPath(CsrGraph.of(graph), 0, 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_DOES_NOT_MATCH, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void changedGraphTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(2, VERTEX_COUNT, EDGE_COUNT, true, true);
+        final double[][] distances = WeightedGraphs.distances(graph);
+        final ContractionHierarchyTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service =
+                new ContractionHierarchyTraversalServiceImpl<>(graph);
+        // Removal moves the last vertex into the hole in the indexed graph, so live ids would point to other vertices.
+        for (int vertex = 1; vertex < VERTEX_COUNT; vertex += 3) {
+            graph.removeVertex(vertex);
+        }
+        graph.addVertex(VERTEX_COUNT);
+
+        for (int source = 0; source < VERTEX_COUNT; source += 3) {
+            for (int target = 0; target < VERTEX_COUNT; target += 3) {
+                assertEquals(distances[source][target], service.getWeightedPath(graph, source, target).getWeight(), DELTA);
+            }
+        }
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getWeightedPath(graph, 0, VERTEX_COUNT),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void negativeWeightTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, -1));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> ContractionHierarchy.build(graph),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_NEGATIVE_WEIGHT, thrown.getLocalizedMessage());
+    }
+
+    private static void checkAllPaths(
+            Graph<Integer, DefaultWeightedEdge<Integer>> graph,
+            ContractionHierarchy<Integer, DefaultWeightedEdge<Integer>> hierarchy,
+            double[][] distances
+    ) {
+        final ContractionHierarchyTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service =
+                new ContractionHierarchyTraversalServiceImpl<>(hierarchy);
+        for (int source = 0; source < distances.length; source++) {
+            for (int target = 0; target < distances.length; target++) {
+                final WeightedPath<DefaultWeightedEdge<Integer>> path = service.getWeightedPath(graph, source, target);
+                assertEquals(distances[source][target], path.getWeight(), DELTA);
+                double weight = 0;
+                Integer vertex = source;
+                for (DefaultWeightedEdge<Integer> edge : path.getEdges()) {
+                    assertEquals(vertex, edge.getSource());
+                    assertTrue(graph.containsEdge(edge), "Path should contain graph edges");
+                    weight += edge.getWeight();
+                    vertex = edge.getTarget();
+                }
+                if (path.isFound()) {
+                    assertEquals(distances[source][target], weight, DELTA);
+                    assertEquals(Integer.valueOf(target), vertex);
+                }
+            }
+        }
+    }
+}
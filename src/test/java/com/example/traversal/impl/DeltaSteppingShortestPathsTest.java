@@ -0,0 +1,147 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.graph.IndexedGraph.UNKNOWN_ID;
+import static com.example.traversal.impl.DeltaSteppingShortestPaths.MSG_DELTA_SHOULD_BE_POSITIVE;
+import static com.example.traversal.impl.DeltaSteppingShortestPaths.MSG_PARENTS_LENGTH_SHOULD_BE_VERTEX_COUNT;
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DeltaSteppingShortestPaths tests on directed and undirected weighted graphs.
+ */
+public class DeltaSteppingShortestPathsTest {
+    private static final int VERTEX_COUNT = 300;
+    private static final int EDGE_COUNT = 1500;
+    private static final int POOL_SIZE = 4;
+    private static final double[] DELTAS = {0.5, 3, 100};
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void randomGraphTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (boolean directed : new boolean[]{true, false}) {
+                final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(3, VERTEX_COUNT, EDGE_COUNT, directed);
+                final double[][] expected = WeightedGraphs.distances(graph);
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                for (double delta : DELTAS) {
+                    final DeltaSteppingShortestPaths paths = new DeltaSteppingShortestPaths(delta, pool);
+                    for (int source = 0; source < VERTEX_COUNT; source += 7) {
+                        final int[] parents = new int[VERTEX_COUNT];
+                        final double[] distances = paths.distances(frozen, source, parents);
+                        for (int id = 0; id < VERTEX_COUNT; id++) {
+                            assertEquals(expected[source][frozen.vertexOf(id)], distances[id], DELTA);
+                        }
+                        checkParents(frozen, frozen.idOf(source), distances, parents);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void weightColumnTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+                final double[][] expected = WeightedGraphs.distances(graph);
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+                final EdgeColumns<DefaultWeightedEdge<Integer>> columns = WeightedGraphs.doubledWeights(frozen);
+                final DeltaSteppingShortestPaths paths = new DeltaSteppingShortestPaths(DELTAS[1], pool, columns);
+                for (int source = 0; source < VERTEX_COUNT; source += 7) {
+                    final double[] distances = paths.distances(frozen, source);
+                    for (int id = 0; id < VERTEX_COUNT; id++) {
+                        assertEquals(2 * expected[source][frozen.vertexOf(id)], distances[id], DELTA);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void notReachableTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2, 3));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, 0));
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+
+        final double[] distances = new DeltaSteppingShortestPaths(1).distances(frozen, 2);
+        assertEquals(Double.POSITIVE_INFINITY, distances[frozen.idOf(1)]);
+        assertEquals(0, distances[frozen.idOf(2)], DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, distances[frozen.idOf(3)]);
+    }
+
+    @Test
+    public void wrongArgumentsTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, -1));
+        final DeltaSteppingShortestPaths paths = new DeltaSteppingShortestPaths(1);
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DeltaSteppingShortestPaths(0),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_DELTA_SHOULD_BE_POSITIVE, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.distances(graph, 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_IS_NOT_INDEXED, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.distances(CsrGraph.of(graph), 1, new int[1]),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_PARENTS_LENGTH_SHOULD_BE_VERTEX_COUNT, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> paths.distances(CsrGraph.of(graph), 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_NEGATIVE_WEIGHT, thrown.getLocalizedMessage());
+    }
+
+    private static void checkParents(CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph, int source, double[] distances, int[] parents) {
+        for (int id = 0; id < distances.length; id++) {
+            if (id == source || distances[id] == Double.POSITIVE_INFINITY) {
+                assertEquals(UNKNOWN_ID, parents[id]);
+                continue;
+            }
+            final int parent = parents[id];
+            boolean found = false;
+            for (int i = 0; i < graph.outDegree(parent); i++) {
+                found |= graph.outgoingId(parent, i) == id
+                        && distances[parent] + graph.outgoingEdge(parent, i).getWeight() == distances[id];
+            }
+            assertTrue(found, "Parent should be on the shortest path");
+            // Tree of parents has no cycles.
+            int steps = 0;
+            for (int vertex = id; vertex != source; vertex = parents[vertex]) {
+                assertTrue(++steps <= distances.length, "Parents should lead to source");
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.EdgeColumns;
+import com.example.traversal.WeightedPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.example.traversal.impl.DijkstraTraversalServiceImpl.MSG_NEGATIVE_WEIGHT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DijkstraTraversalServiceImpl tests on directed and undirected weighted graphs.
+ */
+public class DijkstraTraversalServiceImplTest {
+    private static final int VERTEX_COUNT = 60;
+    private static final int EDGE_COUNT = 200;
+    private static final double DELTA = 1e-9;
+
+    private final DijkstraTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> service = new DijkstraTraversalServiceImpl<>();
+
+    @Test
+    public void lighterLongerPathTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2, 3, 4));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, 1));
+        graph.addEdge(new DefaultWeightedEdge<>(2, 3, 1.5));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 3, 5));
+
+        final WeightedPath<DefaultWeightedEdge<Integer>> path = service.getWeightedPath(graph, 1, 3);
+        assertEquals(Arrays.asList(new DefaultWeightedEdge<>(1, 2), new DefaultWeightedEdge<>(2, 3)), path.getEdges());
+        assertEquals(2.5, path.getWeight(), DELTA);
+        assertEquals(path.getEdges(), service.getPath(CsrGraph.of(graph), 1, 3));
+
+        assertEquals(0, service.getWeightedPath(graph, 1, 1).getWeight(), DELTA);
+        final WeightedPath<DefaultWeightedEdge<Integer>> notFound = service.getWeightedPath(graph, 3, 1);
+        assertFalse(notFound.isFound(), "Path should not be found");
+        assertEquals(Collections.emptyList(), service.getPath(graph, 1, 4));
+    }
+
+    @Test
+    public void undirectedPathTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(false);
+        graph.addVertices(Arrays.asList(1, 2, 3));
+        graph.addEdge(new DefaultWeightedEdge<>(2, 1, 1));
+        graph.addEdge(new DefaultWeightedEdge<>(3, 2, 1));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 3, 3));
+
+        assertEquals(
+                Arrays.asList(new DefaultWeightedEdge<>(1, 2), new DefaultWeightedEdge<>(2, 3)),
+                service.getPath(CsrGraph.of(graph), 1, 3)
+        );
+    }
+
+    @Test
+    public void randomGraphTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(1, VERTEX_COUNT, EDGE_COUNT, directed);
+            final double[][] distances = WeightedGraphs.distances(graph);
+            final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+            for (int source = 0; source < VERTEX_COUNT; source++) {
+                for (int target = 0; target < VERTEX_COUNT; target++) {
+                    checkPath(graph, source, target, distances[source][target]);
+                    checkPath(frozen, source, target, distances[source][target]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void weightColumnTest() {
+        for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNT)) {
+            final double[][] distances = WeightedGraphs.distances(graph);
+            final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+            final EdgeColumns<DefaultWeightedEdge<Integer>> columns = WeightedGraphs.doubledWeights(frozen);
+            final DijkstraTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> columnService = new DijkstraTraversalServiceImpl<>(columns);
+            final AStarTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> aStar = new AStarTraversalServiceImpl<>((vertex, target) -> 0, columns);
+            for (int source = 0; source < VERTEX_COUNT; source++) {
+                for (int target = 0; target < VERTEX_COUNT; target++) {
+                    assertEquals(2 * distances[source][target], columnService.getWeightedPath(frozen, source, target).getWeight(), DELTA);
+                    assertEquals(2 * distances[source][target], aStar.getWeightedPath(frozen, source, target).getWeight(), DELTA);
+                    // Columns of another graph are not used.
+                    assertEquals(distances[source][target], columnService.getWeightedPath(graph, source, target).getWeight(), DELTA);
+                }
+            }
+        }
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DijkstraTraversalServiceImpl<>(new EdgeColumns<>(CsrGraph.of(WeightedGraphs.create(true)))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(EdgeColumns.MSG_UNKNOWN_COLUMN, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void negativeWeightTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertices(Arrays.asList(1, 2));
+        graph.addEdge(new DefaultWeightedEdge<>(1, 2, -1));
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.getPath(graph, 1, 2),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_NEGATIVE_WEIGHT, thrown.getLocalizedMessage());
+    }
+
+    private void checkPath(Graph<Integer, DefaultWeightedEdge<Integer>> graph, int source, int target, double distance) {
+        final WeightedPath<DefaultWeightedEdge<Integer>> path = service.getWeightedPath(graph, source, target);
+        assertEquals(distance, path.getWeight(), DELTA);
+        double weight = 0;
+        Integer vertex = source;
+        for (DefaultWeightedEdge<Integer> edge : path.getEdges()) {
+            assertEquals(vertex, edge.getSource());
+            weight += edge.getWeight();
+            vertex = edge.getTarget();
+        }
+        if (path.isFound()) {
+            assertEquals(distance, weight, DELTA);
+            assertEquals(Integer.valueOf(target), vertex);
+        }
+    }
+}
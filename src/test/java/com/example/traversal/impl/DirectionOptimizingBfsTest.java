@@ -0,0 +1,96 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.graph.AbstractGraph.MSG_GRAPH_IS_NOT_INDEXED;
+import static com.example.traversal.impl.DirectionOptimizingBfs.UNREACHABLE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * DirectionOptimizingBfs tests on sparse, dense and long graphs.
+ */
+public class DirectionOptimizingBfsTest {
+    private static final int VERTEX_COUNT = 500;
+    private static final int SPARSE_EDGE_COUNT = 700;
+    private static final int DENSE_EDGE_COUNT = 20000;
+    private static final int PATH_LENGTH = 200;
+    private static final int POOL_SIZE = 4;
+
+    @Test
+    public void randomGraphTest() {
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            final DirectionOptimizingBfs bfs = new DirectionOptimizingBfs(pool);
+            for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> random
+                    : WeightedGraphs.randomGraphs(VERTEX_COUNT, SPARSE_EDGE_COUNT, DENSE_EDGE_COUNT)) {
+                final CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph = CsrGraph.of(random);
+                for (int source = 0; source < VERTEX_COUNT; source += 50) {
+                    assertArrayEquals(distances(graph, graph.idOf(source)), bfs.distances(graph, source));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void longPathTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        for (int i = 0; i <= PATH_LENGTH; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < PATH_LENGTH; i++) {
+            graph.addEdge(i, i + 1);
+        }
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+
+        final int[] distances = new DirectionOptimizingBfs().distances(frozen, 0);
+        for (int i = 0; i <= PATH_LENGTH; i++) {
+            assertEquals(i, distances[frozen.idOf(i)]);
+        }
+        assertEquals(UNREACHABLE, new DirectionOptimizingBfs().distances(frozen, PATH_LENGTH)[frozen.idOf(0)]);
+    }
+
+    @Test
+    public void notIndexedGraphTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+        graph.addVertex(1);
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> new DirectionOptimizingBfs().distances(graph, 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_GRAPH_IS_NOT_INDEXED, thrown.getLocalizedMessage());
+    }
+
+    private static int[] distances(CsrGraph<Integer, DefaultWeightedEdge<Integer>> graph, int source) {
+        final int[] distances = new int[graph.vertexCount()];
+        Arrays.fill(distances, UNREACHABLE);
+        final Deque<Integer> queue = new ArrayDeque<>();
+        distances[source] = 0;
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            final int vertex = queue.poll();
+            for (int i = 0; i < graph.outDegree(vertex); i++) {
+                final int next = graph.outgoingId(vertex, i);
+                if (distances[next] == UNREACHABLE) {
+                    distances[next] = distances[vertex] + 1;
+                    queue.add(next);
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.IndexedGraph;
+import com.example.graph.impl.DefaultEdge;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.Graphs;
+import com.example.graph.impl.SimpleDirectedGraphImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GraphTraversals tests on random directed and undirected graphs.
+ */
+public class GraphTraversalsTest {
+    private static final int VERTEX_COUNT = 400;
+    private static final int EDGE_COUNT = 900;
+    private static final int LIMIT = 5;
+
+    @Test
+    public void breadthFirstIteratorTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(4, VERTEX_COUNT, EDGE_COUNT, directed);
+            final TraversalIterator<Integer, DefaultWeightedEdge<Integer>> iterator = GraphTraversals.breadthFirstIterator(graph, 0);
+            final Map<Integer, Integer> levels = new HashMap<>();
+            int lastLevel = 0;
+            while (iterator.hasNext()) {
+                final Integer vertex = iterator.next();
+                final DefaultWeightedEdge<Integer> edge = iterator.getEdge();
+                if (edge == null) {
+                    assertEquals(Integer.valueOf(0), vertex);
+                    levels.put(vertex, 0);
+                    continue;
+                }
+                final Integer parent = vertex.equals(edge.getTarget()) ? edge.getSource() : edge.getTarget();
+                final int level = levels.get(parent) + 1;
+                assertTrue(level >= lastLevel, "Vertices should be returned level by level");
+                lastLevel = level;
+                assertNull(levels.put(vertex, level));
+            }
+            assertEquals(reachable(graph, 0), levels.keySet());
+        }
+    }
+
+    @Test
+    public void depthFirstIteratorTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(5, VERTEX_COUNT, EDGE_COUNT, directed);
+            final TraversalIterator<Integer, DefaultWeightedEdge<Integer>> iterator = GraphTraversals.depthFirstIterator(graph, 0);
+            final List<Integer> order = new ArrayList<>();
+            while (iterator.hasNext()) {
+                final Integer vertex = iterator.next();
+                final DefaultWeightedEdge<Integer> edge = iterator.getEdge();
+                if (order.isEmpty()) {
+                    assertNull(edge);
+                } else {
+                    // Parent of DFS tree is on the current path, so it is already returned.
+                    final Integer parent = vertex.equals(edge.getTarget()) ? edge.getSource() : edge.getTarget();
+                    assertTrue(order.contains(parent), "Parent should be returned before child");
+                }
+                order.add(vertex);
+            }
+            assertEquals(reachable(graph, 0), new HashSet<>(order));
+            assertEquals(order.size(), new HashSet<>(order).size());
+            assertEquals(order, GraphTraversals.depthFirst(graph, 0).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void parallelStreamTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(6, VERTEX_COUNT, EDGE_COUNT, directed);
+            final Set<Integer> expected = reachable(graph, 0);
+            assertEquals(expected.size(), GraphTraversals.breadthFirst(graph, 0).parallel().count());
+            assertEquals(expected, GraphTraversals.breadthFirst(graph, 0).parallel().collect(Collectors.toSet()));
+            assertEquals(expected, GraphTraversals.depthFirst(graph, 0).parallel().collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void lazyTraversalTest() {
+        final AtomicInteger expansions = new AtomicInteger();
+        final SimpleDirectedGraphImpl<Integer> graph = new SimpleDirectedGraphImpl<Integer>() {
+            @Override
+            public void forEachNeighbor(Integer vertex, BiConsumer<? super Integer, ? super DefaultEdge<Integer>> action) {
+                expansions.incrementAndGet();
+                super.forEachNeighbor(vertex, action);
+            }
+        };
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            graph.addVertex(i);
+            if (i > 0) {
+                graph.addEdge(i - 1, i);
+            }
+        }
+
+        assertEquals(LIMIT, GraphTraversals.breadthFirst(graph, 0).limit(LIMIT).count());
+        assertTrue(expansions.get() <= LIMIT + 1, "Only consumed vertices should be expanded");
+        expansions.set(0);
+        assertTrue(GraphTraversals.depthFirst(graph, 0).anyMatch(vertex -> vertex == LIMIT), "Vertex should be found");
+        assertTrue(expansions.get() <= LIMIT + 1, "Traversal should stop at the found vertex");
+    }
+
+    @Test
+    public void unknownSourceTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.create(true);
+
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> GraphTraversals.breadthFirst(graph, 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_SOURCE_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    private static Set<Integer> reachable(AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph, int source) {
+        final IndexedGraph<Integer, DefaultWeightedEdge<Integer>> frozen = Graphs.freeze(graph);
+        final int[] distances = new DirectionOptimizingBfs().distances(frozen, source);
+        final Set<Integer> result = new HashSet<>();
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] != DirectionOptimizingBfs.UNREACHABLE) {
+                result.add(frozen.vertexOf(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultEdge;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.graph.impl.SimpleDirectedGraphImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ReachabilityIndex tests on random directed and undirected graphs.
+ */
+public class ReachabilityIndexTest {
+    private static final int VERTEX_COUNT = 300;
+    private static final int[] EDGE_COUNTS = {150, 300, 450, 900};
+
+    @Test
+    public void randomGraphTest() {
+        for (AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph : WeightedGraphs.randomGraphs(VERTEX_COUNT, EDGE_COUNTS)) {
+            final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(graph);
+            final ReachabilityIndex<Integer> index = ReachabilityIndex.build(graph);
+            final DirectionOptimizingBfs bfs = new DirectionOptimizingBfs();
+            for (int source = 0; source < VERTEX_COUNT; source++) {
+                final int[] distances = bfs.distances(frozen, source);
+                for (int id = 0; id < VERTEX_COUNT; id++) {
+                    assertEquals(
+                            distances[id] != DirectionOptimizingBfs.UNREACHABLE,
+                            index.canReach(source, frozen.vertexOf(id)),
+                            "Index should match BFS from " + source + " to " + frozen.vertexOf(id)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void changedGraphTest() {
+        final CsrGraph<Integer, DefaultWeightedEdge<Integer>> frozen = CsrGraph.of(WeightedGraphs.random(1, VERTEX_COUNT, VERTEX_COUNT, true));
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(1, VERTEX_COUNT, VERTEX_COUNT, true, true);
+        final ReachabilityIndex<Integer> index = ReachabilityIndex.build(graph);
+        // Removal moves the last vertex into the hole in the indexed graph, so live ids would point to other vertices.
+        for (int vertex = 0; vertex < VERTEX_COUNT; vertex += 2) {
+            graph.removeVertex(vertex);
+        }
+        graph.addVertex(VERTEX_COUNT);
+        graph.addEdge(1, VERTEX_COUNT);
+
+        final DirectionOptimizingBfs bfs = new DirectionOptimizingBfs();
+        for (int source = 0; source < VERTEX_COUNT; source++) {
+            final int[] distances = bfs.distances(frozen, source);
+            for (int target = 0; target < VERTEX_COUNT; target++) {
+                assertEquals(distances[frozen.idOf(target)] != DirectionOptimizingBfs.UNREACHABLE, index.canReach(source, target));
+            }
+        }
+        assertTrue(index.isBuiltFor(graph), "Index should be built for the graph");
+        final IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> index.canReach(1, VERTEX_COUNT),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void componentsTest() {
+        final SimpleDirectedGraphImpl<Integer> graph = new SimpleDirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList(1, 2, 3, 4, 5, 6));
+        // Cycle 1 -> 2 -> 3 -> 1, which leads to 4, and separate 5 -> 6.
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 1);
+        graph.addEdge(3, 4);
+        graph.addEdge(5, 6);
+
+        final ReachabilityIndex<Integer> index = ReachabilityIndex.build(graph);
+        assertEquals(4, index.getComponentCount());
+        assertTrue(index.isBuiltFor(graph), "Index should be built for the graph");
+        assertTrue(index.isBuiltFor(index.getGraph()), "Index should be built for its snapshot");
+        assertTrue(index.canReach(3, 2), "Vertices of cycle should reach each other");
+        assertTrue(index.canReach(2, 4), "Vertex should be reachable through the cycle");
+        assertTrue(index.canReach(4, 4), "Vertex should reach itself");
+        assertFalse(index.canReach(4, 1), "Edges should not be reversed");
+        assertFalse(index.canReach(1, 6), "Components should not be connected");
+        assertTrue(index.canReach(5, 6), "Edge should be reachable");
+    }
+
+    @Test
+    public void unknownVertexTest() {
+        final SimpleDirectedGraphImpl<Integer> graph = new SimpleDirectedGraphImpl<>();
+        graph.addVertices(Arrays.asList(1, 2));
+        graph.addEdge(new DefaultEdge<>(1, 2));
+        final ReachabilityIndex<Integer> index = ReachabilityIndex.build(graph);
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> index.canReach(3, 1),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_SOURCE_VERTEX, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> index.canReach(1, 3),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.traversal.impl;
+
+import com.example.data.WeightedGraphs;
+import com.example.graph.AbstractGraph;
+import com.example.graph.Graph;
+import com.example.graph.impl.CsrGraph;
+import com.example.graph.impl.DefaultWeightedEdge;
+import com.example.traversal.Pair;
+import com.example.traversal.TraversalService;
+import com.example.traversal.WeightedPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_SOURCE_VERTEX;
+import static com.example.graph.AbstractGraph.MSG_UNKNOWN_TARGET_VERTEX;
+import static com.example.traversal.TraversalService.MSG_PAIRS_SHOULD_BE_NON_NULL;
+import static com.example.traversal.TraversalService.MSG_TARGETS_SHOULD_BE_NON_NULL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Batched getPaths tests on random directed and undirected weighted graphs.
+ */
+public class TraversalServiceGetPathsTest {
+    private static final int VERTEX_COUNT = 80;
+    private static final int EDGE_COUNT = 200;
+    private static final int TARGET_COUNT = 30;
+    private static final int PAIR_COUNT = 100;
+    private static final double DELTA = 1e-9;
+
+    private final BfsTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> bfs = new BfsTraversalServiceImpl<>();
+    private final DijkstraTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> dijkstra = new DijkstraTraversalServiceImpl<>();
+    private final SimpleDFSTraversalServiceImpl<Integer, DefaultWeightedEdge<Integer>> dfs = new SimpleDFSTraversalServiceImpl<>();
+
+    @Test
+    public void bfsPathsTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(1, VERTEX_COUNT, EDGE_COUNT, directed);
+            final List<Integer> targets = targets(2);
+            for (Integer source : Arrays.asList(0, 1, 2)) {
+                final Map<Integer, List<DefaultWeightedEdge<Integer>>> paths = bfs.getPaths(graph, source, targets);
+                assertEquals(new ArrayList<>(paths.keySet()), distinct(targets));
+                for (Map.Entry<Integer, List<DefaultWeightedEdge<Integer>>> entry : paths.entrySet()) {
+                    assertPath(entry.getValue(), source, entry.getKey());
+                    assertEquals(bfs.getPath(graph, source, entry.getKey()).size(), entry.getValue().size());
+                }
+                assertEquals(paths, bfs.getPaths(CsrGraph.of(graph), source, targets));
+            }
+        }
+    }
+
+    @Test
+    public void dijkstraPathsTest() {
+        for (boolean directed : new boolean[]{true, false}) {
+            final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(3, VERTEX_COUNT, EDGE_COUNT, directed);
+            final double[][] distances = WeightedGraphs.distances(graph);
+            final List<Integer> targets = targets(4);
+            // Search state of the mutable graph grows with reached vertices, the frozen graph is searched by ids.
+            for (Graph<Integer, DefaultWeightedEdge<Integer>> searched : Arrays.asList(graph, CsrGraph.of(graph))) {
+                for (Integer source : Arrays.asList(0, 1, 2)) {
+                    final Map<Integer, WeightedPath<DefaultWeightedEdge<Integer>>> paths = dijkstra.getWeightedPaths(searched, source, targets);
+                    assertEquals(new ArrayList<>(paths.keySet()), distinct(targets));
+                    for (Map.Entry<Integer, WeightedPath<DefaultWeightedEdge<Integer>>> entry : paths.entrySet()) {
+                        final WeightedPath<DefaultWeightedEdge<Integer>> path = entry.getValue();
+                        if (distances[source][entry.getKey()] == Double.POSITIVE_INFINITY) {
+                            assertFalse(path.isFound(), "Path should not be found");
+                            continue;
+                        }
+                        assertEquals(distances[source][entry.getKey()], path.getWeight(), DELTA);
+                        assertEquals(path.getWeight(), assertPath(path.getEdges(), source, entry.getKey()), DELTA);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void defaultPathsTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(5, VERTEX_COUNT, EDGE_COUNT, true);
+        final List<Integer> targets = targets(6);
+        final Map<Integer, List<DefaultWeightedEdge<Integer>>> paths = dfs.getPaths(graph, 0, targets);
+        assertEquals(new ArrayList<>(paths.keySet()), distinct(targets));
+        for (Map.Entry<Integer, List<DefaultWeightedEdge<Integer>>> entry : paths.entrySet()) {
+            assertEquals(dfs.getPath(graph, 0, entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Test
+    public void pairsTest() {
+        final Random random = new Random(7);
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(8, VERTEX_COUNT, EDGE_COUNT, false);
+        final double[][] distances = WeightedGraphs.distances(graph);
+        final List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            pairs.add(Pair.of(random.nextInt(VERTEX_COUNT), random.nextInt(VERTEX_COUNT)));
+        }
+        pairs.add(pairs.get(0));
+
+        final List<TraversalService<Integer, DefaultWeightedEdge<Integer>>> services = Arrays.asList(bfs, dijkstra, dfs);
+        for (TraversalService<Integer, DefaultWeightedEdge<Integer>> service : services) {
+            final Map<Pair<Integer, Integer>, List<DefaultWeightedEdge<Integer>>> paths = service.getPaths(graph, pairs);
+            assertEquals(new ArrayList<>(paths.keySet()), distinct(pairs));
+            for (Map.Entry<Pair<Integer, Integer>, List<DefaultWeightedEdge<Integer>>> entry : paths.entrySet()) {
+                final Pair<Integer, Integer> pair = entry.getKey();
+                final double weight = assertPath(entry.getValue(), pair.getFirst(), pair.getSecond());
+                if (service == dijkstra) {
+                    final double distance = distances[pair.getFirst()][pair.getSecond()];
+                    assertEquals(distance == Double.POSITIVE_INFINITY ? 0 : distance, weight, DELTA);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void unknownTargetTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(9, VERTEX_COUNT, EDGE_COUNT, true);
+
+        IllegalArgumentException thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> dijkstra.getPaths(graph, 0, Arrays.asList(1, VERTEX_COUNT)),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_TARGET_VERTEX, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> bfs.getPaths(graph, VERTEX_COUNT, Collections.emptyList()),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_SOURCE_VERTEX, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                IllegalArgumentException.class,
+                () -> bfs.getPaths(graph, Collections.singletonList(Pair.of(VERTEX_COUNT, 0))),
+                "Expected IllegalArgumentException to throw, but it didn't"
+        );
+        assertEquals(MSG_UNKNOWN_SOURCE_VERTEX, thrown.getLocalizedMessage());
+    }
+
+    @Test
+    public void nullArgumentsTest() {
+        final AbstractGraph<Integer, DefaultWeightedEdge<Integer>> graph = WeightedGraphs.random(10, VERTEX_COUNT, EDGE_COUNT, true);
+
+        NullPointerException thrown = assertThrows(
+                NullPointerException.class,
+                () -> dfs.getPaths(graph, 0, null),
+                "Expected NullPointerException to throw, but it didn't"
+        );
+        assertEquals(MSG_TARGETS_SHOULD_BE_NON_NULL, thrown.getLocalizedMessage());
+
+        thrown = assertThrows(
+                NullPointerException.class,
+                () -> bfs.getPaths(graph, null),
+                "Expected NullPointerException to throw, but it didn't"
+        );
+        assertEquals(MSG_PAIRS_SHOULD_BE_NON_NULL, thrown.getLocalizedMessage());
+    }
+
+    /**
+     * Random targets with duplicates, the source 0 and not reachable vertices.
+     */
+    private static List<Integer> targets(long seed) {
+        final Random random = new Random(seed);
+        final List<Integer> targets = new ArrayList<>();
+        targets.add(0);
+        for (int i = 0; i < TARGET_COUNT; i++) {
+            targets.add(random.nextInt(VERTEX_COUNT));
+        }
+        targets.add(targets.get(1));
+        return targets;
+    }
+
+    private static <T> List<T> distinct(List<T> list) {
+        final List<T> result = new ArrayList<>();
+        for (T item : list) {
+            if (!result.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check that edges lead from source to target or the path is empty.
+     *
+     * @return sum of weights.
+     */
+    private static double assertPath(List<DefaultWeightedEdge<Integer>> path, Integer source, Integer target) {
+        Integer vertex = source;
+        double weight = 0;
+        for (DefaultWeightedEdge<Integer> edge : path) {
+            assertEquals(vertex, edge.getSource());
+            vertex = edge.getTarget();
+            weight += edge.getWeight();
+        }
+        if (!path.isEmpty()) {
+            assertEquals(target, vertex);
+        }
+        return weight;
+    }
+}
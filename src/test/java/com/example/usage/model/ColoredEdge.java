@@ -45,6 +45,14 @@ public class ColoredEdge<V> implements Edge<V> {
         return this.target;
     }
 
+    public long getLength() {
+        return this.length;
+    }
+
+    public Color getColor() {
+        return this.color;
+    }
+
     @Override
     public Edge<V> getOpposite() {
         return new ColoredEdge<V>(getTarget(), getSource(), this.length, this.color);